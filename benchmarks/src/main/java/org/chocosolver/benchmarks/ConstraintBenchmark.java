@@ -0,0 +1,103 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.extension.nary.PropCompactTable;
+import org.chocosolver.solver.constraints.nary.alldifferent.algo.AlgoAllDiffAC;
+import org.chocosolver.solver.constraints.nary.clauses.ClauseStore;
+import org.chocosolver.solver.constraints.nary.sum.PropScalar;
+import org.chocosolver.solver.constraints.nary.sum.PropSum;
+import org.chocosolver.solver.variables.IntVar;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the filtering of a constraint, isolated in its own model:
+ * <ul>
+ * <li><b>table</b>: {@link PropCompactTable}, on random tuples,</li>
+ * <li><b>sum</b>: {@link PropSum}, on a sum of variables,</li>
+ * <li><b>scalar</b>: {@link PropScalar}, on a weighted sum with random coefficients,</li>
+ * <li><b>alldiffAC</b>: {@link AlgoAllDiffAC}, on a permutation,</li>
+ * <li><b>clauses</b>: {@link ClauseStore}, on random signed clauses.</li>
+ * </ul>
+ * A dive of random instantiations is made, the propagation is run after each of them.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstraintBenchmark {
+
+    @Param({"table", "sum", "scalar", "alldiffAC", "clauses"})
+    public String constraint;
+
+    @Param({"0", "1", "2"})
+    public long seed;
+
+    private Solver solver;
+    private IntVar[] vars;
+    private int[] decisions;
+
+    @Setup
+    public void setup() {
+        Model model = new Model(constraint);
+        switch (constraint) {
+            case "table": {
+                int n = 8, d = 10;
+                vars = model.intVarArray("x", n, 0, d - 1, false);
+                model.table(vars, Instances.tuples(n, 20_000, d, seed), "CT+").post();
+            }
+            break;
+            case "sum": {
+                int n = 200, d = 20;
+                vars = model.intVarArray("x", n, 0, d - 1, true);
+                model.sum(vars, "=", n * d / 2).post();
+            }
+            break;
+            case "scalar": {
+                int n = 200, d = 20;
+                vars = model.intVarArray("x", n, 0, d - 1, true);
+                model.scalar(vars, Instances.coefficients(n, 10, seed), "<=", 0).post();
+            }
+            break;
+            case "alldiffAC": {
+                int n = 60;
+                vars = model.intVarArray("x", n, 0, n - 1, false);
+                model.allDifferent(vars, "AC").post();
+            }
+            break;
+            case "clauses": {
+                int n = 100, d = 10;
+                vars = model.intVarArray("x", n, 0, d - 1, false);
+                Instances.clauses(model, vars, 5_000, 4, d, seed);
+            }
+            break;
+            default:
+                throw new IllegalArgumentException("Unknown constraint " + constraint);
+        }
+        solver = model.getSolver();
+        Instances.root(solver);
+        decisions = Instances.decisions(vars.length, seed);
+    }
+
+    @Benchmark
+    public int dive() {
+        return Instances.dive(solver, vars, decisions);
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks;
+
+import org.chocosolver.memory.EnvironmentBuilder;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.memory.IStateLong;
+import org.chocosolver.memory.trailing.EnvironmentTrailing;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link EnvironmentTrailing#worldPush()} and {@link EnvironmentTrailing#worldPop()}
+ * for each trail backend.
+ * <p>
+ * A dive of {@link #depth} worlds is made, in each world a fixed random subset of backtrackable
+ * ints and longs is updated, then the dive is undone.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnvironmentBenchmark {
+
+    @Param({"flat", "chunk", "packed", "hybrid"})
+    public String backend;
+
+    /**
+     * Number of backtrackable ints (and longs)
+     */
+    @Param({"10000"})
+    public int size;
+
+    /**
+     * Number of updates per world
+     */
+    @Param({"100", "5000"})
+    public int updates;
+
+    @Param({"100"})
+    public int depth;
+
+    private EnvironmentTrailing environment;
+    private IStateInt[] ints;
+    private IStateLong[] longs;
+    private int[] indices;
+
+    @Setup
+    public void setup() {
+        switch (backend) {
+            case "flat":
+                environment = new EnvironmentBuilder().fromFlat().build();
+                break;
+            case "chunk":
+                environment = new EnvironmentBuilder().fromChunk().build();
+                break;
+            case "packed":
+                environment = new EnvironmentBuilder().fromPacked().build();
+                break;
+            case "hybrid":
+                environment = new EnvironmentBuilder().fromHybrid().build();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown backend " + backend);
+        }
+        ints = new IStateInt[size];
+        longs = new IStateLong[size];
+        for (int i = 0; i < size; i++) {
+            ints[i] = environment.makeInt(i);
+            longs[i] = environment.makeLong(-1L);
+        }
+        Random rnd = new Random(Instances.SEED);
+        indices = new int[updates * depth];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = rnd.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public long pushAndPop() {
+        int k = 0;
+        for (int w = 0; w < depth; w++) {
+            environment.worldPush();
+            for (int u = 0; u < updates; u++) {
+                int i = indices[k++];
+                ints[i].add(1);
+                longs[i].set(longs[i].get() >>> 1);
+            }
+        }
+        long sum = ints[indices[0]].get() + longs[indices[0]].get();
+        environment.worldPopUntil(0);
+        return sum;
+    }
+}
@@ -0,0 +1,177 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+
+import java.util.Random;
+
+/**
+ * Reproducible instances used by benchmarks.
+ * Every instance is generated from a seed, so that the same data is used from one release to another.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public final class Instances {
+
+    /**
+     * Default seed
+     */
+    public static final long SEED = 0L;
+
+    private Instances() {
+    }
+
+    /**
+     * Generate a sequence of random non-negative integers, to be consumed by {@link #dive(Solver, IntVar[], int[])}.
+     *
+     * @param size number of decisions
+     * @param seed a seed
+     * @return a sequence of 2 * <i>size</i> random integers
+     */
+    public static int[] decisions(int size, long seed) {
+        Random rnd = new Random(seed);
+        int[] seq = new int[2 * size];
+        for (int i = 0; i < seq.length; i++) {
+            seq[i] = rnd.nextInt(Integer.MAX_VALUE);
+        }
+        return seq;
+    }
+
+    /**
+     * Generate random tuples.
+     *
+     * @param arity  arity of the tuples
+     * @param n      number of tuples
+     * @param domain values are taken in [0, domain - 1]
+     * @param seed   a seed
+     * @return allowed tuples
+     */
+    public static Tuples tuples(int arity, int n, int domain, long seed) {
+        Random rnd = new Random(seed);
+        Tuples tuples = new Tuples(true);
+        int[] t = new int[arity];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < arity; j++) {
+                t[j] = rnd.nextInt(domain);
+            }
+            tuples.add(t.clone());
+        }
+        return tuples;
+    }
+
+    /**
+     * Generate random coefficients.
+     *
+     * @param n    number of coefficients
+     * @param max  coefficients are taken in [-max, max] \ {0}
+     * @param seed a seed
+     * @return coefficients
+     */
+    public static int[] coefficients(int n, int max, long seed) {
+        Random rnd = new Random(seed);
+        int[] c = new int[n];
+        for (int i = 0; i < n; i++) {
+            do {
+                c[i] = rnd.nextInt(2 * max + 1) - max;
+            } while (c[i] == 0);
+        }
+        return c;
+    }
+
+    /**
+     * Add random signed clauses to <i>model</i>.
+     * Each clause states that at least one of its variables is in a random interval.
+     *
+     * @param model  a model
+     * @param vars   variables, with domain [0, domain - 1]
+     * @param n      number of clauses
+     * @param size   number of literals per clause
+     * @param domain size of the domains
+     * @param seed   a seed
+     */
+    public static void clauses(Model model, IntVar[] vars, int n, int size, int domain, long seed) {
+        Random rnd = new Random(seed);
+        for (int i = 0; i < n; i++) {
+            IntVar[] cvars = new IntVar[size];
+            IntIterableRangeSet[] ranges = new IntIterableRangeSet[size];
+            int first = rnd.nextInt(vars.length - size + 1);
+            for (int j = 0; j < size; j++) {
+                // distinct variables
+                cvars[j] = vars[first + j];
+                int a = rnd.nextInt(domain);
+                int b = Math.min(domain - 1, a + rnd.nextInt(domain / 2));
+                ranges[j] = new IntIterableRangeSet(a, b);
+            }
+            model.getClauseConstraint().addClause(cvars, ranges);
+        }
+    }
+
+    /**
+     * Dive into the search space following <i>seq</i>, propagating after each decision,
+     * until either <i>seq</i> is consumed or a failure occurs.
+     * Each decision instantiates a variable to a value of its current domain.
+     * The state of <i>solver</i> is restored on exit, the root node should already be propagated.
+     *
+     * @param solver a solver
+     * @param vars   decision variables
+     * @param seq    decisions, see {@link #decisions(int, long)}
+     * @return the number of decisions applied without failure
+     */
+    public static int dive(Solver solver, IntVar[] vars, int[] seq) {
+        IEnvironment env = solver.getEnvironment();
+        int root = env.getWorldIndex();
+        int depth = 0;
+        try {
+            for (int i = 0; i < seq.length; i += 2) {
+                IntVar v = vars[seq[i] % vars.length];
+                if (v.isInstantiated()) {
+                    continue;
+                }
+                env.worldPush();
+                int value = v.getLB();
+                for (int k = seq[i + 1] % v.getDomainSize(); k > 0; k--) {
+                    value = v.nextValue(value);
+                }
+                v.instantiateTo(value, Cause.Null);
+                solver.propagate();
+                depth++;
+            }
+        } catch (ContradictionException ignored) {
+            // the dive ends here
+        }
+        env.worldPopUntil(root);
+        return depth;
+    }
+
+    /**
+     * Propagate the root node of <i>solver</i>, then save it.
+     *
+     * @param solver a solver
+     * @throws IllegalStateException if the root node is inconsistent
+     */
+    public static void root(Solver solver) {
+        try {
+            solver.propagate();
+        } catch (ContradictionException e) {
+            throw new IllegalStateException("The generated instance is trivially inconsistent", e);
+        }
+        solver.getEnvironment().worldPush();
+    }
+}
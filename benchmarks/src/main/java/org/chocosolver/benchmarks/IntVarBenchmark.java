@@ -0,0 +1,131 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.impl.BitsetIntVarImpl;
+import org.chocosolver.solver.variables.impl.IntervalIntVarImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks domain operations of {@link BitsetIntVarImpl} and {@link IntervalIntVarImpl}.
+ * Each operation is made in a new world, which is popped afterward.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntVarBenchmark {
+
+    @Param({"bitset", "interval"})
+    public String domain;
+
+    @Param({"1024"})
+    public int size;
+
+    private IEnvironment environment;
+    private IntVar var;
+
+    @Setup
+    public void setup() {
+        Model model = new Model();
+        var = model.intVar("x", 0, size - 1, domain.equals("interval"));
+        environment = model.getEnvironment();
+        Instances.root(model.getSolver());
+    }
+
+    /**
+     * Remove values one by one, from both ends of the domain.
+     * Only bounds are actually removed from an interval domain.
+     */
+    @Benchmark
+    public int removeValues() throws ContradictionException {
+        environment.worldPush();
+        for (int i = 0; i < size / 2 - 1; i++) {
+            var.removeValue(i, Cause.Null);
+            var.removeValue(size - 1 - i, Cause.Null);
+        }
+        int s = var.getDomainSize();
+        environment.worldPop();
+        return s;
+    }
+
+    /**
+     * Remove every other value, in one call.
+     */
+    @Benchmark
+    public int removeInterval() throws ContradictionException {
+        environment.worldPush();
+        for (int i = 1; i < size - 2; i += 8) {
+            var.removeInterval(i, i + 3, Cause.Null);
+        }
+        int s = var.getDomainSize();
+        environment.worldPop();
+        return s;
+    }
+
+    /**
+     * Tighten bounds one unit at a time.
+     */
+    @Benchmark
+    public int updateBounds() throws ContradictionException {
+        environment.worldPush();
+        for (int i = 1; i < size / 2; i++) {
+            var.updateBounds(i, size - 1 - i, Cause.Null);
+        }
+        int s = var.getDomainSize();
+        environment.worldPop();
+        return s;
+    }
+
+    /**
+     * Iterate over the values of the domain, with holes for bitset domains.
+     */
+    @Benchmark
+    public int iterate() throws ContradictionException {
+        environment.worldPush();
+        for (int i = 1; i < size; i += 3) {
+            var.removeValue(i, Cause.Null);
+        }
+        int sum = 0;
+        int ub = var.getUB();
+        for (int v = var.getLB(); v <= ub; v = var.nextValue(v)) {
+            sum += v;
+        }
+        environment.worldPop();
+        return sum;
+    }
+
+    /**
+     * Check membership of each value of the initial domain.
+     */
+    @Benchmark
+    public int contains() {
+        int n = 0;
+        for (int v = 0; v < size; v++) {
+            if (var.contains(v)) {
+                n++;
+            }
+        }
+        return n;
+    }
+}
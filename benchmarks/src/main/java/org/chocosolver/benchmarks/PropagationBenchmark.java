@@ -0,0 +1,85 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks;
+
+import org.chocosolver.solver.DefaultSettings;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.propagation.PropagationEngine;
+import org.chocosolver.solver.variables.IntVar;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link PropagationEngine#propagate()} on a model mixing cheap and expensive propagators:
+ * linear equations, a table, a bound-consistent and an arc-consistent all-different.
+ * <p>
+ * A dive of random instantiations is made, the propagation is run after each of them.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropagationBenchmark {
+
+    /**
+     * Set to <tt>true</tt> to schedule propagators wrt their measured cost
+     */
+    @Param({"false", "true"})
+    public boolean costBased;
+
+    @Param({"40"})
+    public int n;
+
+    @Param({"0", "1", "2"})
+    public long seed;
+
+    private Solver solver;
+    private IntVar[] vars;
+    private int[] decisions;
+
+    @Setup
+    public void setup() {
+        Model model = new Model("mixed", new DefaultSettings().setCostBasedPropagation(costBased));
+        vars = model.intVarArray("x", n, 0, n - 1, false);
+        int[] coeffs = Instances.coefficients(n, 5, seed);
+        // linear equations over sliding windows
+        for (int i = 0; i + 4 <= n; i += 2) {
+            model.sum(new IntVar[]{vars[i], vars[i + 1], vars[i + 2], vars[i + 3]}, "<=", 3 * n).post();
+        }
+        IntVar obj = model.intVar("obj", -5 * n * n, 5 * n * n, true);
+        model.scalar(vars, coeffs, "=", obj).post();
+        // a table over the first variables
+        model.table(new IntVar[]{vars[0], vars[1], vars[2], vars[3]},
+                Instances.tuples(4, 40 * n, n, seed), "CT+").post();
+        // all-different
+        IntVar[] half1 = new IntVar[n / 2];
+        IntVar[] half2 = new IntVar[n - n / 2];
+        System.arraycopy(vars, 0, half1, 0, half1.length);
+        System.arraycopy(vars, half1.length, half2, 0, half2.length);
+        model.allDifferent(half1, "BC").post();
+        model.allDifferent(half2, "AC").post();
+        solver = model.getSolver();
+        Instances.root(solver);
+        decisions = Instances.decisions(n, seed);
+    }
+
+    @Benchmark
+    public int dive() {
+        return Instances.dive(solver, vars, decisions);
+    }
+}
@@ -0,0 +1,335 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.util.ProblemMaker;
+
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * End-to-end solving benchmarks.
+ * <p>
+ * Each problem is solved under a node and a time limit: all solutions are enumerated for satisfaction problems,
+ * improving solutions are searched for optimization problems.
+ * For each problem, the following data are recorded, and written in a semicolon-separated file
+ * (see {@link Result#HEADER}):
+ * <ul>
+ * <li>the numbers of nodes, fails and solutions,</li>
+ * <li>the solving time, the number of nodes per second and the number of fails per second,</li>
+ * <li>the time to the first solution,</li>
+ * <li>the best objective value, if any,</li>
+ * <li>the heap high-water mark.</li>
+ * </ul>
+ * Each problem is solved <i>-w</i> times to warm up the JVM, then <i>-r</i> times, and the fastest run is kept.
+ * A problem whose resolution throws an exception is reported and skipped, the other ones are still solved.
+ * </p>
+ * <p>
+ * When a baseline file is given (<i>-b</i>), the results are compared to it:
+ * a problem is flagged as slower when its number of nodes per second decreases by more than the tolerance,
+ * or when its time to the first solution increases by more than the tolerance.
+ * A problem is flagged as different when the search does not explore the same number of nodes anymore.
+ * The exit code is 1 when at least one problem is slower or failed.
+ * </p>
+ * <pre>
+ * java -cp target/benchmarks.jar org.chocosolver.benchmarks.SolveBenchmark -o 4.10.0.csv
+ * java -cp target/benchmarks.jar org.chocosolver.benchmarks.SolveBenchmark -o new.csv -b 4.10.0.csv -tol 0.1
+ * </pre>
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class SolveBenchmark {
+
+    /**
+     * Problems to solve, in order
+     */
+    private static final Map<String, Supplier<Model>> PROBLEMS = new LinkedHashMap<>();
+
+    static {
+        PROBLEMS.put("nqueens-bin-12", () -> ProblemMaker.makeNQueenWithBinaryConstraints(12));
+        PROBLEMS.put("nqueens-alldiff-12", () -> ProblemMaker.makeNQueenWithOneAlldifferent(12));
+        PROBLEMS.put("costas-12", () -> ProblemMaker.makeCostasArrays(12));
+        PROBLEMS.put("golomb-10", () -> ProblemMaker.makeGolombRuler(10));
+        PROBLEMS.put("magicsquare-5", () -> ProblemMaker.makeMagicSquare(5));
+        PROBLEMS.put("eq5", ProblemMaker::makeEq5);
+        PROBLEMS.put("jobshop-8x8", () -> ProblemMaker.makeJobShop(8, 8, Instances.SEED));
+        PROBLEMS.put("jobshop-8x8-disjunctive", () -> ProblemMaker.makeJobShop(8, 8, Instances.SEED, true));
+        PROBLEMS.put("knapsack-50", () -> ProblemMaker.makeKnapsack(50, Instances.SEED));
+    }
+
+    private long nodeLimit = 500_000;
+    private String timeLimit = "60s";
+    private int warmups = 1;
+    private int runs = 3;
+    private double tolerance = .1;
+    private String output = "solve-benchmark.csv";
+    private String baseline;
+    private Set<String> only = new HashSet<>();
+    private List<String> failures = new ArrayList<>();
+
+    public static void main(String[] args) throws IOException {
+        SolveBenchmark bench = new SolveBenchmark();
+        bench.parse(args);
+        List<Result> results = bench.run();
+        bench.write(results);
+        boolean slower = false;
+        if (bench.baseline != null) {
+            slower = bench.compare(results, read(bench.baseline), System.out);
+        }
+        if (!bench.failures.isEmpty()) {
+            System.err.printf("Failed problems: %s\n", bench.failures);
+        }
+        if (slower || !bench.failures.isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    private void parse(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-nodes":
+                    nodeLimit = Long.parseLong(args[++i]);
+                    break;
+                case "-time":
+                    timeLimit = args[++i];
+                    break;
+                case "-w":
+                    warmups = Integer.parseInt(args[++i]);
+                    break;
+                case "-r":
+                    runs = Integer.parseInt(args[++i]);
+                    break;
+                case "-tol":
+                    tolerance = Double.parseDouble(args[++i]);
+                    break;
+                case "-o":
+                    output = args[++i];
+                    break;
+                case "-b":
+                    baseline = args[++i];
+                    break;
+                case "-p":
+                    only.addAll(Arrays.asList(args[++i].split(",")));
+                    break;
+                default:
+                    System.err.printf("Unknown option %s\n", args[i]);
+                    System.err.println("Usage: [-nodes N] [-time 60s] [-w warmups] [-r runs] [-tol 0.1] " +
+                            "[-o results.csv] [-b baseline.csv] [-p problem1,problem2]");
+                    System.err.printf("Problems: %s\n", PROBLEMS.keySet());
+                    System.exit(2);
+            }
+        }
+    }
+
+    /**
+     * Solve each problem.
+     * A problem which fails is reported on the error output and is not part of the results.
+     *
+     * @return the fastest run of each problem which did not fail
+     */
+    public List<Result> run() {
+        List<Result> results = new ArrayList<>();
+        for (Map.Entry<String, Supplier<Model>> e : PROBLEMS.entrySet()) {
+            if (!only.isEmpty() && !only.contains(e.getKey())) {
+                continue;
+            }
+            try {
+                for (int i = 0; i < warmups; i++) {
+                    solve(e.getKey(), e.getValue());
+                }
+                Result best = null;
+                for (int i = 0; i < runs; i++) {
+                    Result r = solve(e.getKey(), e.getValue());
+                    if (best == null || r.time < best.time) {
+                        best = r;
+                    }
+                }
+                System.out.println(best);
+                results.add(best);
+            } catch (Exception ex) {
+                System.err.printf("%-20s FAILED: %s\n", e.getKey(), ex);
+                failures.add(e.getKey());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Solve a problem once.
+     *
+     * @param name    name of the problem
+     * @param problem problem factory
+     * @return the result of the run
+     */
+    public Result solve(String name, Supplier<Model> problem) {
+        System.gc();
+        List<MemoryPoolMXBean> pools = ManagementFactory.getMemoryPoolMXBeans();
+        pools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        Model model = problem.get();
+        Solver solver = model.getSolver();
+        solver.limitNode(nodeLimit);
+        solver.limitTime(timeLimit);
+        long[] first = {-1};
+        solver.plugMonitor((IMonitorSolution) () -> {
+            if (first[0] < 0) {
+                first[0] = solver.getTimeCountInNanoSeconds();
+            }
+        });
+        //noinspection StatementWithEmptyBody
+        while (solver.solve()) {
+        }
+        Result r = new Result();
+        r.name = name;
+        r.nodes = solver.getNodeCount();
+        r.fails = solver.getFailCount();
+        r.solutions = solver.getSolutionCount();
+        r.time = solver.getTimeCountInNanoSeconds() / 1e9;
+        r.firstSolution = first[0] < 0 ? Double.NaN : first[0] / 1e9;
+        r.objective = solver.hasObjective() && r.solutions > 0 ?
+                String.valueOf(solver.getBestSolutionValue()) : "-";
+        r.memory = pools.stream()
+                .filter(p -> p.getType() == MemoryType.HEAP)
+                .mapToLong(p -> p.getPeakUsage().getUsed())
+                .sum();
+        return r;
+    }
+
+    private void write(List<Result> results) throws IOException {
+        try (PrintStream out = new PrintStream(new FileOutputStream(output))) {
+            out.println(Result.HEADER);
+            results.forEach(r -> out.println(r.toCSV()));
+        }
+        System.out.printf("Results written in %s\n", output);
+    }
+
+    /**
+     * Read results from a file written by this benchmark.
+     *
+     * @param file a semicolon-separated file
+     * @return results, indexed by problem name
+     * @throws IOException if the file cannot be read
+     */
+    public static Map<String, Result> read(String file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        try (BufferedReader in = new BufferedReader(new FileReader(file))) {
+            String line = in.readLine();
+            if (!Result.HEADER.equals(line)) {
+                throw new IOException("Unexpected header in " + file + ": " + line);
+            }
+            while ((line = in.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    Result r = Result.fromCSV(line);
+                    results.put(r.name, r);
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Compare results to a baseline, and print a report.
+     *
+     * @param results  current results
+     * @param baseline baseline results
+     * @param out      where to print the report
+     * @return <tt>true</tt> if at least one problem is slower than in the baseline
+     */
+    public boolean compare(List<Result> results, Map<String, Result> baseline, PrintStream out) {
+        boolean slower = false;
+        out.printf("%-20s %12s %12s %8s %12s %12s %8s  %s\n",
+                "problem", "nodes/s(b)", "nodes/s", "ratio", "first(b)", "first", "ratio", "verdict");
+        for (Result r : results) {
+            Result b = baseline.get(r.name);
+            if (b == null) {
+                out.printf("%-20s %s\n", r.name, "not in baseline");
+                continue;
+            }
+            double speed = r.nodesPerSecond() / b.nodesPerSecond();
+            double first = r.firstSolution / b.firstSolution;
+            List<String> verdict = new ArrayList<>();
+            if (speed < 1 - tolerance) {
+                verdict.add("SLOWER");
+            }
+            if (first > 1 + tolerance) {
+                verdict.add("LATER FIRST SOLUTION");
+            }
+            slower |= !verdict.isEmpty();
+            if (r.nodes != b.nodes && r.nodes < nodeLimit && b.nodes < nodeLimit) {
+                verdict.add("DIFFERENT SEARCH");
+            }
+            out.printf("%-20s %12.0f %12.0f %8.3f %12.4f %12.4f %8.3f  %s\n",
+                    r.name, b.nodesPerSecond(), r.nodesPerSecond(), speed, b.firstSolution, r.firstSolution, first,
+                    verdict.isEmpty() ? "ok" : String.join(", ", verdict));
+        }
+        return slower;
+    }
+
+    /**
+     * Result of a run
+     */
+    public static class Result {
+
+        static final String HEADER = "problem;nodes;fails;solutions;time(s);nodes/s;fails/s;first(s);objective;memory(B)";
+
+        String name;
+        long nodes;
+        long fails;
+        long solutions;
+        double time;
+        double firstSolution;
+        String objective;
+        long memory;
+
+        double nodesPerSecond() {
+            return nodes / time;
+        }
+
+        double failsPerSecond() {
+            return fails / time;
+        }
+
+        String toCSV() {
+            return String.format(Locale.ROOT, "%s;%d;%d;%d;%.4f;%.1f;%.1f;%.4f;%s;%d",
+                    name, nodes, fails, solutions, time, nodesPerSecond(), failsPerSecond(),
+                    firstSolution, objective, memory);
+        }
+
+        static Result fromCSV(String line) {
+            String[] f = line.split(";");
+            Result r = new Result();
+            r.name = f[0];
+            r.nodes = Long.parseLong(f[1]);
+            r.fails = Long.parseLong(f[2]);
+            r.solutions = Long.parseLong(f[3]);
+            r.time = Double.parseDouble(f[4]);
+            r.firstSolution = Double.parseDouble(f[7]);
+            r.objective = f[8];
+            r.memory = Long.parseLong(f[9]);
+            return r;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-20s %9d nodes %9d fails %6d sols %8.3fs %10.0f n/s %10.0f f/s " +
+                            "first: %.4fs obj: %s mem: %dMB",
+                    name, nodes, fails, solutions, time, nodesPerSecond(), failsPerSecond(),
+                    firstSolution, objective, memory >> 20);
+        }
+    }
+}
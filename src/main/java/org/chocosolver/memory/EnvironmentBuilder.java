@@ -12,6 +12,8 @@ import org.chocosolver.memory.trailing.EnvironmentTrailing;
 import org.chocosolver.memory.trailing.trail.*;
 import org.chocosolver.memory.trailing.trail.chunck.*;
 import org.chocosolver.memory.trailing.trail.flatten.*;
+import org.chocosolver.memory.trailing.trail.hybrid.*;
+import org.chocosolver.memory.trailing.trail.packed.*;
 
 /**
  * <p>
@@ -202,4 +204,47 @@ public class EnvironmentBuilder {
         setTrail(new OperationTrail(worldsize, worldnumber, loadfactor));
         return this;
     }
-}
\ No newline at end of file
+
+    /**
+     * Build an environment where bool, int, double and long trails store updates in a single <code>long[]</code>,
+     * operations are stored in a flat trail.
+     * @return {@code this}
+     */
+    public EnvironmentBuilder fromPacked(){
+        setTrail(new PackedBoolTrail(worldsize, worldnumber, loadfactor));
+        setTrail(new PackedIntTrail(worldsize, worldnumber, loadfactor));
+        setTrail(new PackedDoubleTrail(worldsize, worldnumber, loadfactor));
+        setTrail(new PackedLongTrail(worldsize, worldnumber, loadfactor));
+        setTrail(new OperationTrail(worldsize, worldnumber, loadfactor));
+        return this;
+    }
+
+    /**
+     * Build an environment where bool, int, double and long are either copied on each world push or trailed,
+     * depending on how often they are updated, with a default ratio.
+     * Operations are stored in a flat trail.
+     * @return {@code this}
+     * @see HybridIntTrail
+     */
+    public EnvironmentBuilder fromHybrid(){
+        return fromHybrid(HybridIntTrail.RATIO);
+    }
+
+    /**
+     * Build an environment where bool, int, double and long are either copied on each world push or trailed,
+     * depending on how often they are updated.
+     * Operations are stored in a flat trail.
+     * @param ratio density of updates from which a backtrackable primitive is copied instead of trailed:
+     *              0 copies any primitive regularly updated, a value greater than 1 trails everything.
+     * @return {@code this}
+     * @see HybridIntTrail
+     */
+    public EnvironmentBuilder fromHybrid(double ratio){
+        setTrail(new HybridBoolTrail(worldsize, worldnumber, loadfactor, ratio));
+        setTrail(new HybridIntTrail(worldsize, worldnumber, loadfactor, ratio));
+        setTrail(new HybridDoubleTrail(worldsize, worldnumber, loadfactor, ratio));
+        setTrail(new HybridLongTrail(worldsize, worldnumber, loadfactor, ratio));
+        setTrail(new OperationTrail(worldsize, worldnumber, loadfactor));
+        return this;
+    }
+}
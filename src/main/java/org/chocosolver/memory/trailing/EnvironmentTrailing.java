@@ -97,7 +97,7 @@ public class EnvironmentTrailing extends AbstractEnvironment {
             throw new IllegalStateException("Commit in world 0?");
         }
         final int wi = currentWorld;
-        for (int i = trailSize; i >= 0; i--) {
+        for (int i = trailSize - 1; i >= 0; i--) {
             trails[i].worldCommit(wi);
         }
         currentWorld--;
@@ -176,10 +176,12 @@ public class EnvironmentTrailing extends AbstractEnvironment {
     }
 
 
-    private void increaseTrail() {// TODO check resizing
-        IStorage[] tmp = trails;
-        trails = new IStorage[tmp.length + 1];
-        System.arraycopy(tmp, 0, trails, 0, tmp.length);
+    private void increaseTrail() {
+        if (trailSize == trails.length) {
+            IStorage[] tmp = trails;
+            trails = new IStorage[Math.max(4, tmp.length * 3 / 2)];
+            System.arraycopy(tmp, 0, trails, 0, trailSize);
+        }
     }
 
     public void setIntTrail(IStoredIntTrail itrail){
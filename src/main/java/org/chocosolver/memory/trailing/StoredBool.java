@@ -19,6 +19,11 @@ public class StoredBool extends IStateBool {
 
     protected final IStoredBoolTrail myTrail;
 
+    /**
+     * Address of this in its trail, -1 if this is not currently registered in a trail relying on addresses
+     */
+    protected int address = -1;
+
     /**
      * Constructs a stored search with an initial value.
      * Note: this constructor should not be used directly: one should instead
@@ -47,5 +52,28 @@ public class StoredBool extends IStateBool {
             currentValue = y;
         }
     }
-}
 
+    /**
+     * @return the address of this in its trail, -1 if this is not currently registered in a trail relying on addresses
+     */
+    public final int getAddress() {
+        return address;
+    }
+
+    /**
+     * Set the address of this in its trail.
+     * Only trails which refer to backtrackable booleans by an address should call this method.
+     *
+     * @param address the new address of this, or -1 when this is released by its trail
+     */
+    public final void setAddress(int address) {
+        this.address = address;
+    }
+
+    /**
+     * @return the world in which the former value of this has been saved for the last time
+     */
+    public final int getTimeStamp() {
+        return timeStamp;
+    }
+}
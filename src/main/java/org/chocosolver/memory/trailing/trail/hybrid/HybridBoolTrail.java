@@ -0,0 +1,447 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.trailing.trail.hybrid;
+
+import org.chocosolver.memory.trailing.StoredBool;
+import org.chocosolver.memory.trailing.trail.IStoredBoolTrail;
+import org.chocosolver.memory.trailing.trail.flatten.StoredBoolTrail;
+
+/**
+ * A trail which either copies or trails backtrackable booleans.
+ * <p>
+ * By default, a backtrackable boolean is trailed: its former value is stored on its first update in a world.
+ * A backtrackable boolean which is updated in most worlds is better copied:
+ * its value is saved on each {@link #worldPush(int)}, whether it is updated or not,
+ * and its updates are no longer recorded.
+ * </p>
+ * <p>
+ * The choice is made per backtrackable boolean, wrt its <i>density</i>,
+ * that is the number of worlds in which it has been updated divided by the number of worlds pushed since
+ * it was registered, on its first trailed update.
+ * A backtrackable boolean whose density is greater than or equal to a given <i>ratio</i>
+ * (and which has been updated in at least {@link #MIN_WORLDS} worlds) is copied from the next world on.
+ * It is trailed again as soon as the world in which it started to be copied is popped,
+ * and has to prove its density again.
+ * Thus, a ratio set to 0 copies each backtrackable boolean which is regularly updated,
+ * a ratio greater than 1 trails every backtrackable boolean.
+ * </p>
+ * <p>
+ * A backtrackable boolean is referenced by this trail only while the world in which it was registered is alive:
+ * it is released when this world is popped, or committed into the root world, and its address is recycled.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class HybridBoolTrail implements IStoredBoolTrail {
+
+    /**
+     * Default ratio, see {@link #HybridBoolTrail(int, int, double, double)}
+     */
+    public static final double RATIO = .5;
+
+    /**
+     * Minimum number of worlds in which a backtrackable boolean has to be updated before being copied
+     */
+    public static final int MIN_WORLDS = 8;
+
+    private static final byte TRAILED = 0, PENDING = 1, COPIED = 2;
+
+    /**
+     * Trail of the backtrackable booleans which are not copied
+     */
+    private final IStoredBoolTrail trail;
+
+    /**
+     * Ratio from which a backtrackable boolean is copied
+     */
+    private final double ratio;
+
+    /**
+     * Load factor
+     */
+    private final double loadfactor;
+
+    /**
+     * Registered backtrackable booleans, indexed by their address.
+     */
+    private StoredBool[] registry;
+
+    /**
+     * State of each backtrackable boolean: trailed, pending (to be copied from the next world on) or copied.
+     */
+    private byte[] states;
+
+    /**
+     * Number of worlds in which each trailed backtrackable boolean has been updated.
+     */
+    private int[] hits;
+
+    /**
+     * Number of worlds pushed when each backtrackable boolean started to be trailed.
+     */
+    private int[] since;
+
+    /**
+     * Number of addresses ever given.
+     */
+    private int nbAddresses;
+
+    /**
+     * Stack of released addresses, to be recycled.
+     */
+    private int[] freeAddresses;
+
+    /**
+     * Number of released addresses.
+     */
+    private int nbFree;
+
+    /**
+     * Stack of the addresses of registered backtrackable booleans, in registration order.
+     */
+    private int[] registered;
+
+    /**
+     * Number of registered backtrackable booleans.
+     */
+    private int nbRegistered;
+
+    /**
+     * A stack of pointers in {@link #registered} (for each start of a world).
+     */
+    private int[] worldStartRegistered;
+
+    /**
+     * Total number of worlds pushed.
+     */
+    private int nbPushes;
+
+    /**
+     * Addresses of pending backtrackable booleans.
+     */
+    private int[] pending;
+
+    /**
+     * Number of pending backtrackable booleans.
+     */
+    private int nbPending;
+
+    /**
+     * Stack of the addresses of copied backtrackable booleans.
+     */
+    private int[] copied;
+
+    /**
+     * For each copied backtrackable boolean, the world in which it started to be copied.
+     */
+    private int[] copiedFrom;
+
+    /**
+     * Number of copied backtrackable booleans.
+     */
+    private int nbCopied;
+
+    /**
+     * Stack of copied values.
+     */
+    private boolean[] valueStack;
+
+    /**
+     * Stack of copied timestamps.
+     */
+    private int[] stampStack;
+
+    /**
+     * Points the level of the last copy.
+     */
+    private int currentLevel;
+
+    /**
+     * A stack of pointers (for each start of a world).
+     */
+    private int[] worldStartLevels;
+
+    /**
+     * Constructs a trail with predefined size and the default ratio.
+     *
+     * @param nUpdates   maximal number of updates that will be stored
+     * @param nWorlds    maximal number of worlds that will be stored
+     * @param loadfactor load factor for structures
+     */
+    public HybridBoolTrail(int nUpdates, int nWorlds, double loadfactor) {
+        this(nUpdates, nWorlds, loadfactor, RATIO);
+    }
+
+    /**
+     * Constructs a trail with predefined size.
+     *
+     * @param nUpdates   maximal number of updates that will be stored
+     * @param nWorlds    maximal number of worlds that will be stored
+     * @param loadfactor load factor for structures
+     * @param ratio      density from which a backtrackable boolean is copied instead of trailed
+     */
+    public HybridBoolTrail(int nUpdates, int nWorlds, double loadfactor, double ratio) {
+        this.trail = new StoredBoolTrail(nUpdates, nWorlds, loadfactor);
+        this.ratio = ratio;
+        this.loadfactor = loadfactor;
+        registry = new StoredBool[nUpdates];
+        states = new byte[nUpdates];
+        hits = new int[nUpdates];
+        since = new int[nUpdates];
+        freeAddresses = new int[16];
+        registered = new int[16];
+        worldStartRegistered = new int[nWorlds];
+        pending = new int[16];
+        copied = new int[16];
+        copiedFrom = new int[16];
+        valueStack = new boolean[nUpdates];
+        stampStack = new int[nUpdates];
+        worldStartLevels = new int[nWorlds];
+    }
+
+    /**
+     * @param v a backtrackable boolean registered in this
+     * @return <tt>true</tt> if <i>v</i> is currently copied
+     */
+    public boolean isCopied(StoredBool v) {
+        return v.getAddress() >= 0 && states[v.getAddress()] == COPIED;
+    }
+
+    /**
+     * @return the number of backtrackable booleans currently copied
+     */
+    public int getNbCopied() {
+        return nbCopied;
+    }
+
+    /**
+     * Moving up to the next world.
+     *
+     * @param worldIndex current world index
+     */
+    @Override
+    public void worldPush(int worldIndex) {
+        trail.worldPush(worldIndex);
+        nbPushes++;
+        // first, pending backtrackable booleans are copied from now on
+        for (int i = 0; i < nbPending; i++) {
+            int a = pending[i];
+            states[a] = COPIED;
+            ensureCopiedCapacity();
+            copied[nbCopied] = a;
+            copiedFrom[nbCopied++] = worldIndex;
+        }
+        nbPending = 0;
+        // then copy them all
+        worldStartLevels[worldIndex] = currentLevel;
+        worldStartRegistered[worldIndex] = nbRegistered;
+        if (worldIndex == worldStartLevels.length - 1) {
+            resizeWorldCapacity((int) (worldStartLevels.length * loadfactor));
+        }
+        while (currentLevel + nbCopied > valueStack.length) {
+            resizeUpdateCapacity();
+        }
+        for (int i = 0; i < nbCopied; i++) {
+            StoredBool v = registry[copied[i]];
+            valueStack[currentLevel] = v.get();
+            stampStack[currentLevel++] = v.getTimeStamp();
+        }
+    }
+
+    /**
+     * Moving down to the previous world.
+     *
+     * @param worldIndex current world index
+     */
+    @Override
+    public void worldPop(int worldIndex) {
+        trail.worldPop(worldIndex);
+        final int wsl = worldStartLevels[worldIndex];
+        for (int i = currentLevel - wsl - 1; i >= 0; i--) {
+            registry[copied[i]]._set(valueStack[wsl + i], stampStack[wsl + i]);
+        }
+        currentLevel = wsl;
+        // backtrackable booleans copied from this world on are trailed again
+        while (nbCopied > 0 && copiedFrom[nbCopied - 1] == worldIndex) {
+            trailAgain(copied[--nbCopied]);
+        }
+        // backtrackable booleans registered in this world are released
+        release(worldStartRegistered[worldIndex]);
+    }
+
+    /**
+     * Comits a world: merging it with the previous one.
+     */
+    @Override
+    public void worldCommit(int worldIndex) {
+        final int wsl = worldStartLevels[worldIndex];
+        // backtrackable booleans copied from this world on are trailed again,
+        // their copies are moved to the trail
+        while (nbCopied > 0 && copiedFrom[nbCopied - 1] == worldIndex) {
+            nbCopied--;
+            trail.savePreviousState(registry[copied[nbCopied]], valueStack[wsl + nbCopied], stampStack[wsl + nbCopied]);
+            trailAgain(copied[nbCopied]);
+        }
+        currentLevel = wsl;
+        final int prevWorld = worldIndex - 1;
+        for (int i = 0; i < nbCopied; i++) {
+            StoredBool v = registry[copied[i]];
+            if (v.getTimeStamp() == worldIndex) {
+                v.overrideTimeStamp(prevWorld);
+            }
+        }
+        trail.worldCommit(worldIndex);
+        if (prevWorld == 0) {
+            // nothing can be restored anymore
+            release(worldStartRegistered[worldIndex]);
+        }
+    }
+
+    /**
+     * Reacts when a StoredBool is modified: push the former value & timestamp
+     * on the trail, unless <i>v</i> is copied.
+     */
+    @Override
+    public void savePreviousState(StoredBool v, boolean oldValue, int oldStamp) {
+        int a = addressOf(v);
+        if (states[a] != COPIED) {
+            trail.savePreviousState(v, oldValue, oldStamp);
+            if (states[a] == TRAILED
+                    && ++hits[a] >= MIN_WORLDS
+                    && hits[a] >= ratio * (nbPushes - since[a])) {
+                states[a] = PENDING;
+                if (nbPending == pending.length) {
+                    int[] tmp = new int[nbPending * 3 / 2 + 1];
+                    System.arraycopy(pending, 0, tmp, 0, nbPending);
+                    pending = tmp;
+                }
+                pending[nbPending++] = a;
+            }
+        }
+    }
+
+    @Override
+    public void buildFakeHistory(StoredBool v, boolean initValue, int olderStamp) {
+        // a new backtrackable boolean is always trailed first
+        trail.buildFakeHistory(v, initValue, olderStamp);
+    }
+
+    /**
+     * Return the address of <i>v</i>, after registering it if needed.
+     * A released address is recycled first.
+     */
+    private int addressOf(StoredBool v) {
+        int a = v.getAddress();
+        if (a < 0) {
+            if (nbFree > 0) {
+                a = freeAddresses[--nbFree];
+            } else {
+                if (nbAddresses == registry.length) {
+                    resizeRegistryCapacity();
+                }
+                a = nbAddresses++;
+            }
+            registry[a] = v;
+            v.setAddress(a);
+            trailAgain(a);
+            if (nbRegistered == registered.length) {
+                int[] tmp = new int[nbRegistered * 3 / 2 + 1];
+                System.arraycopy(registered, 0, tmp, 0, nbRegistered);
+                registered = tmp;
+            }
+            registered[nbRegistered++] = a;
+        }
+        return a;
+    }
+
+    /**
+     * Release the backtrackable booleans registered from <i>from</i> on, and recycle their addresses.
+     * None of them is copied anymore, since they were registered in a world being popped or committed.
+     */
+    private void release(int from) {
+        if (nbRegistered == from) {
+            return;
+        }
+        if (nbFree + nbRegistered - from > freeAddresses.length) {
+            int[] tmp = new int[nbFree + nbRegistered - from];
+            System.arraycopy(freeAddresses, 0, tmp, 0, nbFree);
+            freeAddresses = tmp;
+        }
+        while (nbRegistered > from) {
+            int a = registered[--nbRegistered];
+            registry[a].setAddress(-1);
+            registry[a] = null;
+            freeAddresses[nbFree++] = a;
+        }
+        // forget released pending backtrackable booleans
+        int k = 0;
+        for (int i = 0; i < nbPending; i++) {
+            if (registry[pending[i]] != null) {
+                pending[k++] = pending[i];
+            }
+        }
+        nbPending = k;
+    }
+
+    private void trailAgain(int a) {
+        states[a] = TRAILED;
+        hits[a] = 0;
+        since[a] = nbPushes;
+    }
+
+    private void ensureCopiedCapacity() {
+        if (nbCopied == copied.length) {
+            int nsize = nbCopied * 3 / 2 + 1;
+            int[] tmp = new int[nsize];
+            System.arraycopy(copied, 0, tmp, 0, nbCopied);
+            copied = tmp;
+            tmp = new int[nsize];
+            System.arraycopy(copiedFrom, 0, tmp, 0, nbCopied);
+            copiedFrom = tmp;
+        }
+    }
+
+    private void resizeUpdateCapacity() {
+        final int newCapacity = (int) (valueStack.length * loadfactor);
+        final boolean[] tmp1 = new boolean[newCapacity];
+        System.arraycopy(valueStack, 0, tmp1, 0, valueStack.length);
+        valueStack = tmp1;
+        final int[] tmp2 = new int[newCapacity];
+        System.arraycopy(stampStack, 0, tmp2, 0, stampStack.length);
+        stampStack = tmp2;
+    }
+
+    private void resizeRegistryCapacity() {
+        int nsize = Math.max(nbAddresses + 1, (int) (nbAddresses * loadfactor));
+        StoredBool[] tmp = new StoredBool[nsize];
+        System.arraycopy(registry, 0, tmp, 0, nbAddresses);
+        registry = tmp;
+        byte[] tmp1 = new byte[nsize];
+        System.arraycopy(states, 0, tmp1, 0, nbAddresses);
+        states = tmp1;
+        int[] tmp2 = new int[nsize];
+        System.arraycopy(hits, 0, tmp2, 0, nbAddresses);
+        hits = tmp2;
+        tmp2 = new int[nsize];
+        System.arraycopy(since, 0, tmp2, 0, nbAddresses);
+        since = tmp2;
+    }
+
+    private void resizeWorldCapacity(int newWorldCapacity) {
+        int[] tmp = new int[newWorldCapacity];
+        System.arraycopy(worldStartLevels, 0, tmp, 0, worldStartLevels.length);
+        worldStartLevels = tmp;
+        tmp = new int[newWorldCapacity];
+        System.arraycopy(worldStartRegistered, 0, tmp, 0, worldStartRegistered.length);
+        worldStartRegistered = tmp;
+    }
+
+}
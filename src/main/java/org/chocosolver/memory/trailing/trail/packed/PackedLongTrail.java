@@ -0,0 +1,266 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.trailing.trail.packed;
+
+import org.chocosolver.memory.trailing.StoredLong;
+import org.chocosolver.memory.trailing.trail.IStoredLongTrail;
+
+/**
+ * A trail which stores each update in one contiguous <code>long[]</code>.
+ * <p>
+ * A backtrackable long is registered on its first trailed update and gets an address.
+ * An update is then recorded as two consecutive longs: the address and the former stamp packed together,
+ * and the former value.
+ * Contrary to {@link org.chocosolver.memory.trailing.trail.flatten.StoredIntTrail}-like trails,
+ * no object reference is written on trailing, which avoids GC write barriers and makes the trail
+ * invisible to the garbage collector.
+ * A backtrackable long is referenced by this trail only while it has updates on the stack:
+ * once they are all popped or discarded, it is released and its address is recycled.
+ * </p>
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class PackedLongTrail implements IStoredLongTrail {
+
+    /**
+     * Load factor
+     */
+    private final double loadfactor;
+
+    /**
+     * Registered backtrackable longs, indexed by their address.
+     */
+    private StoredLong[] registry;
+
+    /**
+     * Number of updates on the stack for each address.
+     */
+    private int[] counts;
+
+    /**
+     * Number of addresses ever given.
+     */
+    private int nbAddresses;
+
+    /**
+     * Stack of released addresses, to be recycled.
+     */
+    private int[] freeAddresses;
+
+    /**
+     * Number of released addresses.
+     */
+    private int nbFree;
+
+    /**
+     * Stack of updates, each of them is stored in two consecutive longs:
+     * <pre>(address << 32 | former stamp), former value</pre>
+     */
+    private long[] updates;
+
+    /**
+     * Points the level of the last entry.
+     */
+    private int currentLevel;
+
+    /**
+     * A stack of pointers (for each start of a world).
+     */
+    private int[] worldStartLevels;
+
+    /**
+     * Constructs a trail with predefined size.
+     *
+     * @param nUpdates   maximal number of updates that will be stored
+     * @param nWorlds    maximal number of worlds that will be stored
+     * @param loadfactor load factor for structures
+     */
+    public PackedLongTrail(int nUpdates, int nWorlds, double loadfactor) {
+        currentLevel = 0;
+        registry = new StoredLong[nUpdates];
+        counts = new int[nUpdates];
+        freeAddresses = new int[16];
+        updates = new long[nUpdates << 1];
+        worldStartLevels = new int[nWorlds];
+        this.loadfactor = loadfactor;
+    }
+
+    /**
+     * Moving up to the next world.
+     *
+     * @param worldIndex current world index
+     */
+    @Override
+    public void worldPush(int worldIndex) {
+        worldStartLevels[worldIndex] = currentLevel;
+        if (worldIndex == worldStartLevels.length - 1) {
+            resizeWorldCapacity((int) (worldStartLevels.length * loadfactor));
+        }
+    }
+
+    /**
+     * Moving down to the previous world.
+     *
+     * @param worldIndex current world index
+     */
+    @Override
+    public void worldPop(int worldIndex) {
+        final int wsl = worldStartLevels[worldIndex];
+        while (currentLevel > wsl) {
+            currentLevel--;
+            final long head = updates[currentLevel << 1];
+            final int address = (int) (head >>> 32);
+            registry[address]._set(decode(updates[(currentLevel << 1) + 1]), (int) head);
+            unref(address);
+        }
+    }
+
+    /**
+     * Comits a world: merging it with the previous one.
+     */
+    @Override
+    public void worldCommit(int worldIndex) {
+        final int startLevel = worldStartLevels[worldIndex];
+        final int prevWorld = worldIndex - 1;
+        int writeIdx = startLevel;
+        for (int level = startLevel; level < currentLevel; level++) {
+            final long head = updates[level << 1];
+            final int stamp = (int) head;
+            final int address = (int) (head >>> 32);
+            registry[address].overrideTimeStamp(prevWorld);
+            if (stamp != prevWorld) {
+                // shift the update if needed
+                if (writeIdx != level) {
+                    updates[writeIdx << 1] = head;
+                    updates[(writeIdx << 1) + 1] = updates[(level << 1) + 1];
+                }
+                writeIdx++;
+            } else {
+                // writeIdx is not incremented and the update is discarded (since a good one is in prevWorld)
+                unref(address);
+            }
+        }
+        currentLevel = writeIdx;
+    }
+
+    /**
+     * Reacts when a StoredLong is modified: push the former value & timestamp
+     * on the stack.
+     */
+    @Override
+    public void savePreviousState(StoredLong v, long oldValue, int oldStamp) {
+        push(currentLevel, addressOf(v), oldValue, oldStamp);
+        currentLevel++;
+        if (currentLevel << 1 == updates.length) {
+            resizeUpdateCapacity();
+        }
+    }
+
+    @Override
+    public void buildFakeHistory(StoredLong v, long initValue, int olderStamp) {
+        // from world 0 to fromStamp (excluded), create a fake history based on initValue
+        // kind a copy of the current elements
+        // first save the current state on the top of the stack
+        savePreviousState(v, initValue, olderStamp - 1);
+        // second: ensures capacities
+        while ((currentLevel + olderStamp) << 1 > updates.length) {
+            resizeUpdateCapacity();
+        }
+        int i1, f, s = currentLevel;
+        for (int w = olderStamp; w > 1; w--) {
+            f = worldStartLevels[w];
+            i1 = f + w - 1;
+            s -= f;
+            System.arraycopy(updates, f << 1, updates, i1 << 1, s << 1);
+            push(i1 - 1, addressOf(v), initValue, w - 2);
+            worldStartLevels[w] += w - 1;
+            currentLevel++;
+            s = f;
+        }
+    }
+
+    private void push(int level, int address, long value, int stamp) {
+        updates[level << 1] = ((long) address << 32) | (stamp & 0xFFFFFFFFL);
+        updates[(level << 1) + 1] = encode(value);
+        counts[address]++;
+    }
+
+    /**
+     * Return the address of <i>v</i>, after registering it if needed.
+     * A released address is recycled first.
+     */
+    private int addressOf(StoredLong v) {
+        int address = v.getAddress();
+        if (address < 0) {
+            if (nbFree > 0) {
+                address = freeAddresses[--nbFree];
+            } else {
+                if (nbAddresses == registry.length) {
+                    resizeRegistryCapacity();
+                }
+                address = nbAddresses++;
+            }
+            registry[address] = v;
+            v.setAddress(address);
+        }
+        return address;
+    }
+
+    /**
+     * Forget one update of the backtrackable long at <i>address</i>,
+     * and release it when it has no more update on the stack.
+     */
+    private void unref(int address) {
+        if (--counts[address] == 0) {
+            registry[address].setAddress(-1);
+            registry[address] = null;
+            if (nbFree == freeAddresses.length) {
+                int[] tmp = new int[nbFree * 3 / 2 + 1];
+                System.arraycopy(freeAddresses, 0, tmp, 0, nbFree);
+                freeAddresses = tmp;
+            }
+            freeAddresses[nbFree++] = address;
+        }
+    }
+
+    private static long encode(long value) {
+        return value;
+    }
+
+    private static long decode(long value) {
+        return value;
+    }
+
+    private void resizeUpdateCapacity() {
+        final int newCapacity = (int) ((updates.length >> 1) * loadfactor);
+        final long[] tmp = new long[newCapacity << 1];
+        System.arraycopy(updates, 0, tmp, 0, updates.length);
+        updates = tmp;
+    }
+
+    private void resizeRegistryCapacity() {
+        final int newCapacity = Math.max(nbAddresses + 1, (int) (nbAddresses * loadfactor));
+        StoredLong[] tmp = new StoredLong[newCapacity];
+        System.arraycopy(registry, 0, tmp, 0, nbAddresses);
+        registry = tmp;
+        int[] tmp1 = new int[newCapacity];
+        System.arraycopy(counts, 0, tmp1, 0, nbAddresses);
+        counts = tmp1;
+    }
+
+    private void resizeWorldCapacity(int newWorldCapacity) {
+        final int[] tmp = new int[newWorldCapacity];
+        System.arraycopy(worldStartLevels, 0, tmp, 0, worldStartLevels.length);
+        worldStartLevels = tmp;
+    }
+
+}
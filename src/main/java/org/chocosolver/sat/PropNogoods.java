@@ -17,11 +17,13 @@ import org.chocosolver.sat.SatSolver.Clause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.constraints.nary.clauses.ILearntClauseListener;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 
 import java.util.*;
 
@@ -114,6 +116,11 @@ public class PropNogoods extends Propagator<IntVar> {
      */
     private boolean initialized = false;
 
+    /**
+     * Listeners informed of each learnt no-good, lazily initialized
+     */
+    private List<ILearntClauseListener> listeners;
+
     /**
      * Create a (unique) propagator for no-goods recording and propagation.
      *
@@ -531,6 +538,9 @@ public class PropNogoods extends Propagator<IntVar> {
      */
     public void addLearnt(int... lits) {
         sat_.learnClause(lits);
+        if (listeners != null) {
+            notifyListeners(lits);
+        }
         // early deductions of learnt clause may lead to incorrect behavior on backtrack
         // since early deduction is not backtrackable.
         forcePropagationOnBacktrack(); // issue#327
@@ -557,6 +567,68 @@ public class PropNogoods extends Propagator<IntVar> {
         }
     }
 
+    /**
+     * Add a listener informed of each learnt no-good (see {@link #addLearnt(int...)}).
+     * No-goods are converted into signed clauses, where "= value" and "&le; value" literals become ranges.
+     *
+     * @param listener a listener
+     */
+    public void addLearntClauseListener(ILearntClauseListener listener) {
+        if (listeners == null) {
+            listeners = new ArrayList<>();
+        }
+        listeners.add(listener);
+    }
+
+    /**
+     * Convert the learnt clause <i>lits</i> into a signed clause and notify listeners.
+     * @param lits a learnt clause
+     */
+    private void notifyListeners(int[] lits) {
+        int n = 0;
+        for (int lit : lits) {
+            n += iseq(lit2val[var(lit)]) && !sign(lit) ? 2 : 1;
+        }
+        IntVar[] ivars = new IntVar[n];
+        int[] bounds = new int[n << 1];
+        int k = 0;
+        for (int lit : lits) {
+            int var = var(lit);
+            long value = lit2val[var];
+            IntVar ivar = initialized ? vars[lit2pos[var]] : add_var.get(lit2pos[var]);
+            int v = ivalue(value);
+            if (iseq(value)) {
+                if (sign(lit)) {
+                    // x = v
+                    ivars[k] = ivar;
+                    bounds[k << 1] = v;
+                    bounds[(k++ << 1) + 1] = v;
+                } else {
+                    // x != v
+                    ivars[k] = ivar;
+                    bounds[k << 1] = IntIterableRangeSet.MIN;
+                    bounds[(k++ << 1) + 1] = v - 1;
+                    ivars[k] = ivar;
+                    bounds[k << 1] = v + 1;
+                    bounds[(k++ << 1) + 1] = IntIterableRangeSet.MAX;
+                }
+            } else if (sign(lit)) {
+                // x <= v
+                ivars[k] = ivar;
+                bounds[k << 1] = IntIterableRangeSet.MIN;
+                bounds[(k++ << 1) + 1] = v;
+            } else {
+                // x > v
+                ivars[k] = ivar;
+                bounds[k << 1] = v + 1;
+                bounds[(k++ << 1) + 1] = IntIterableRangeSet.MAX;
+            }
+        }
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onLearnt(ivars, bounds);
+        }
+    }
+
     private void storeEarlyDeductions() {
         for (int i = 0; i < sat_.touched_variables_.size(); ++i) {
             int lit = sat_.touched_variables_.get(i);
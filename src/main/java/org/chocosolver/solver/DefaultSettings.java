@@ -50,6 +50,10 @@ public class DefaultSettings implements Settings {
 
     private int maxTupleSizeForSubstitution = 10_000;
 
+    private boolean enableTableCompression = true;
+
+    private boolean enablePhaseSaving = false;
+
     private double MCRDecimalPrecision = 1e-4d;
 
     private boolean sortPropagatorActivationWRTPriority = true;
@@ -78,6 +82,8 @@ public class DefaultSettings implements Settings {
 
     private byte hybridEngine = 0b00;
 
+    private boolean costBasedEngine = false;
+
     private int nbMaxLearnt = 100_000;
 
     private int maxLearntCardinlity = Integer.MAX_VALUE / 100;
@@ -167,6 +173,28 @@ public class DefaultSettings implements Settings {
         return maxTupleSizeForSubstitution;
     }
 
+    @Override
+    public boolean enableTableCompression() {
+        return enableTableCompression;
+    }
+
+    @Override
+    public DefaultSettings setEnableTableCompression(boolean enableTableCompression) {
+        this.enableTableCompression = enableTableCompression;
+        return this;
+    }
+
+    @Override
+    public boolean enablePhaseSaving() {
+        return enablePhaseSaving;
+    }
+
+    @Override
+    public DefaultSettings setEnablePhaseSaving(boolean enablePhaseSaving) {
+        this.enablePhaseSaving = enablePhaseSaving;
+        return this;
+    }
+
     @Override
     public double getMCRDecimalPrecision() {
         return MCRDecimalPrecision;
@@ -339,6 +367,17 @@ public class DefaultSettings implements Settings {
         return this;
     }
 
+    @Override
+    public boolean enableCostBasedPropagation() {
+        return costBasedEngine;
+    }
+
+    @Override
+    public Settings setCostBasedPropagation(boolean costBased) {
+        this.costBasedEngine = costBased;
+        return this;
+    }
+
     @Override
     public int getNbMaxLearntClauses() {
         return nbMaxLearnt;
@@ -0,0 +1,316 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.SearchState;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.search.loop.lns.neighbors.BanditNeighborhood;
+import org.chocosolver.solver.search.loop.lns.neighbors.PropagationGuidedNeighborhood;
+import org.chocosolver.solver.search.loop.lns.neighbors.RandomNeighborhood;
+import org.chocosolver.solver.search.loop.lns.neighbors.ReversePropagationGuidedNeighborhood;
+import org.chocosolver.solver.search.loop.monitors.IMonitorOpenNode;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.search.loop.move.MoveLNS;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.criteria.Criterion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>
+ *     A parallel Large Neighborhood Search helper.
+ * </p>
+ * <p>
+ *     Each model (a worker) runs an LNS, see {@link MoveLNS}, in its own thread.
+ *     Workers share a single incumbent: the best solution found so far.
+ *     When a worker finds a solution better than the incumbent, it publishes it atomically,
+ *     and the other workers load it (see {@link MoveLNS#loadFromSolution(Solution, Solver)}) before opening their next
+ *     node, so that all of them relax (different fragments of) the same solution.
+ * </p>
+ * <p>
+ *     All models <b>HAVE</b> to be identical: the values exchanged are the ones of the variables given on
+ *     {@link #addModel(Model, IntVar...)}, in the same order, and the objective variable has to be declared with
+ *     {@link Model#setObjective(boolean, Variable)}.
+ *     When no LNS is declared in a model, one is set with a {@link BanditNeighborhood} over the variables given,
+ *     seeded with the index of the model, and a fail limit of 1000.
+ *     Otherwise, the neighbor declared should only be based on the variables given.
+ * </p>
+ * <p>
+ *     The resolution stops when all workers stop, either because of a limit, or because one of them
+ *     proves that no better solution exists.
+ * </p>
+ * <p>
+ *     Example of use.
+ *
+ * <pre>
+ * <code>ParallelLNS plns = new ParallelLNS();
+ * for (int i = 0; i < 4; i++) {
+ *      Model model = modeller();
+ *      model.getSolver().limitTime("10s");
+ *      plns.addModel(model, decisionVariables(model));
+ * }
+ * plns.solve();
+ * Solution best = plns.getBestSolution();
+ * </code>
+ * </pre>
+ *
+ * </p>
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class ParallelLNS {
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////       VARIABLES       //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /** List of {@link Model}s to be executed in parallel. */
+    private final List<Model> models = new ArrayList<>();
+
+    /** Variables exchanged, one array per model */
+    private final List<IntVar[]> exchanged = new ArrayList<>();
+
+    /** The best solution found so far, replaced atomically */
+    private final AtomicReference<Incumbent> incumbent = new AtomicReference<>();
+
+    /** Set to <tt>true</tt> when a worker proves that no better solution exists */
+    private final AtomicBoolean proven = new AtomicBoolean(false);
+
+    /** Stores whether or not prepare() method has been called */
+    private boolean isPrepared = false;
+
+    /** The worker threads, lazily created */
+    private ForkJoinPool forkJoinPool;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////          API          //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Adds a populated model to the list of models to run in parallel.
+     *
+     * @param model a model, with an objective variable declared
+     * @param vars  variables whose values are exchanged, to be given in the same order for each model
+     */
+    public void addModel(Model model, IntVar... vars) {
+        if (isPrepared) {
+            throw new SolverException("Models have to be added before the first call to solve().");
+        }
+        models.add(model);
+        exchanged.add(vars.clone());
+    }
+
+    /**
+     * Run the LNS of every model in parallel, until all of them stop.
+     *
+     * @return <code>true</code> if and only if a better solution has been found by this call.
+     * @throws SolverException if no model has been added or if they do not declare an integer objective.
+     */
+    public boolean solve() {
+        if (!isPrepared) {
+            prepare();
+        }
+        Incumbent before = incumbent.get();
+        if (forkJoinPool == null) {
+            forkJoinPool = new ForkJoinPool(models.size());
+        }
+        try {
+            forkJoinPool.submit(() -> models.parallelStream().forEach(m -> {
+                Solver solver = m.getSolver();
+                //noinspection StatementWithEmptyBody
+                while (!proven.get() && solver.solve()) ;
+                if (solver.getSearchState() == SearchState.TERMINATED) {
+                    // the search space, restricted by the shared bound, has been explored
+                    proven.set(true);
+                }
+            })).get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new SolverException("Parallel LNS failed: " + e.getMessage());
+        }
+        return incumbent.get() != before;
+    }
+
+    /**
+     * @return <tt>true</tt> if the best solution found is optimal
+     */
+    public boolean isOptimal() {
+        return proven.get() && incumbent.get() != null;
+    }
+
+    /**
+     * @return the best solution found, over all the variables of the model which found it, or <tt>null</tt>
+     */
+    public Solution getBestSolution() {
+        Incumbent inc = incumbent.get();
+        return inc == null ? null : inc.solution;
+    }
+
+    /**
+     * @return the model which found the best solution, or <tt>null</tt>
+     */
+    public Model getBestModel() {
+        Incumbent inc = incumbent.get();
+        return inc == null ? null : models.get(inc.owner);
+    }
+
+    /**
+     * @return the value of the objective in the best solution
+     * @throws SolverException if no solution has been found
+     */
+    public int getBestValue() {
+        Incumbent inc = incumbent.get();
+        if (inc == null) {
+            throw new SolverException("No solution has been found yet.");
+        }
+        return inc.value;
+    }
+
+    /**
+     * @return the (mutable!) list of models used in this ParallelLNS
+     */
+    public List<Model> getModels() {
+        return models;
+    }
+
+    /**
+     * Releases the worker threads. They are created again if needed.
+     */
+    public void close() {
+        if (forkJoinPool != null) {
+            forkJoinPool.shutdownNow();
+            forkJoinPool = null;
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////   INTERNAL METHODS    //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    private void prepare() {
+        if (models.size() == 0) {
+            throw new SolverException("No model found in the ParallelLNS.");
+        }
+        for (Model m : models) {
+            if (m.getResolutionPolicy() == ResolutionPolicy.SATISFACTION
+                    || (m.getObjective().getTypeAndKind() & Variable.INT) == 0) {
+                throw new SolverException("ParallelLNS requires an integer objective to be declared in each model.");
+            }
+        }
+        isPrepared = true;
+        for (int i = 0; i < models.size(); i++) {
+            Model m = models.get(i);
+            Solver s = m.getSolver();
+            IntVar[] vars = exchanged.get(i);
+            if (!(s.getMove() instanceof MoveLNS)) {
+                s.setLNS(new BanditNeighborhood(m, i,
+                                new PropagationGuidedNeighborhood(vars, 30, 10, i),
+                                new ReversePropagationGuidedNeighborhood(vars, i, 30, 10),
+                                new RandomNeighborhood(vars, 3, i)),
+                        new FailCounter(m, 1000));
+            }
+            s.addStopCriterion((Criterion) proven::get);
+            Worker worker = new Worker(m, i, vars);
+            s.plugMonitor(worker);
+        }
+    }
+
+    /**
+     * An immutable snapshot of the best solution
+     */
+    private static final class Incumbent {
+        /** Objective value */
+        private final int value;
+        /** Values of the variables exchanged */
+        private final int[] values;
+        /** Index of the model which found it */
+        private final int owner;
+        /** The solution, in the model which found it */
+        private final Solution solution;
+
+        private Incumbent(int value, int[] values, int owner, Solution solution) {
+            this.value = value;
+            this.values = values;
+            this.owner = owner;
+            this.solution = solution;
+        }
+    }
+
+    /**
+     * Publishes the solutions of one model, and loads the ones published by the other models
+     */
+    private class Worker implements IMonitorSolution, IMonitorOpenNode {
+
+        private final Model model;
+        private final int idx;
+        private final IntVar[] vars;
+        private final boolean maximize;
+        /** Last incumbent published or loaded by this worker */
+        private Incumbent last;
+        /** Where the incumbent is loaded */
+        private final Solution loaded;
+
+        Worker(Model model, int idx, IntVar[] vars) {
+            this.model = model;
+            this.idx = idx;
+            this.vars = vars;
+            this.maximize = model.getResolutionPolicy() == ResolutionPolicy.MAXIMIZE;
+            this.loaded = new Solution(model, vars);
+        }
+
+        @Override
+        public void onSolution() {
+            int value = ((IntVar) model.getObjective()).getValue();
+            int[] values = new int[vars.length];
+            for (int i = 0; i < vars.length; i++) {
+                values[i] = vars[i].getValue();
+            }
+            Incumbent mine = new Incumbent(value, values, idx, new Solution(model).record());
+            Incumbent current;
+            do {
+                current = incumbent.get();
+                if (current != null && !better(value, current.value)) {
+                    // another worker has found a solution at least as good, it will be loaded on next node
+                    return;
+                }
+            } while (!incumbent.compareAndSet(current, mine));
+            last = mine;
+        }
+
+        @Override
+        public void beforeOpenNode() {
+            Incumbent current = incumbent.get();
+            if (current != last && current.owner != idx) {
+                last = current;
+                for (int i = 0; i < vars.length; i++) {
+                    loaded.setIntVal(vars[i], current.values[i]);
+                }
+                if (maximize) {
+                    model.getSolver().getObjectiveManager().updateBestLB(current.value);
+                } else {
+                    model.getSolver().getObjectiveManager().updateBestUB(current.value);
+                }
+                ((MoveLNS) model.getSolver().getMove()).loadFromSolution(loaded, model.getSolver());
+            }
+        }
+
+        private boolean better(int a, int b) {
+            return maximize ? a > b : a < b;
+        }
+    }
+}
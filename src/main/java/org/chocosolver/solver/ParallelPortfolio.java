@@ -8,11 +8,19 @@
  */
 package org.chocosolver.solver;
 
+import gnu.trove.map.hash.TIntObjectHashMap;
+import org.chocosolver.solver.constraints.nary.nogood.NogoodConstraint;
+import org.chocosolver.solver.SharedBlackboard.SharedClause;
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.nary.clauses.ClauseStore;
+import org.chocosolver.solver.constraints.nary.clauses.ILearntClauseListener;
 import org.chocosolver.solver.constraints.real.RealConstraint;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.search.limits.FailCounter;
 import org.chocosolver.solver.search.loop.lns.INeighborFactory;
+import org.chocosolver.solver.search.loop.monitors.IMonitorDownBranch;
+import org.chocosolver.solver.search.loop.monitors.IMonitorOpenNode;
+import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.search.strategy.selectors.values.IntDomainBest;
@@ -24,15 +32,20 @@ import org.chocosolver.solver.variables.RealVar;
 import org.chocosolver.solver.variables.SetVar;
 import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.util.criteria.Criterion;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Spliterator;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.IntFunction;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -68,7 +81,18 @@ import static org.chocosolver.solver.search.strategy.Search.setVarSearch;
  *     Moreover, when dealing with an optimization problem, cut on the objective variable's value is propagated
  *     to all models on solution.
  *     It is essential to eagerly declare the objective variable(s) with {@link Model#setObjective(boolean, Variable)}.
- *
+ *     The best bound is published in a lock-free blackboard and each model polls it when opening a node,
+ *     so that no model is blocked while another one publishes a solution.
+ * </p>
+ * <p>
+ *     When all models are identical, short learnt clauses (from {@link Solver#setNoGoodRecordingFromRestarts()}
+ *     or {@link Solver#setLearningSignedClauses()}) can also be exchanged, see {@link #setClauseSharing(int, int)}.
+ * </p>
+ * <p>
+ *     By default, which model finds a solution, and which solution is returned, depend on thread timing.
+ *     A deterministic mode can be enabled with {@link #setDeterministic(long)}: models are then synchronized
+ *     at fixed work-unit boundaries and exchange bounds only there, so that the same inputs always
+ *     lead to the same results.
  * </p>
  * <p>
  *     Note that the similarity of the models declared is not required.
@@ -95,6 +119,22 @@ import static org.chocosolver.solver.search.strategy.Search.setVarSearch;
  *
  * </p>
  * <p>
+ *     Worker threads are kept alive from one call to {@link #solve()} to the other
+ *     (which is worth when enumerating solutions with {@link #streamSolutions()}).
+ *     They are daemon threads, released as soon as {@link #solve()} finds no new solution
+ *     or on a call to {@link #close()}.
+ *     A long-lived pool can also be shared by successive portfolios, for instance one per request in a service,
+ *     and models can be built in parallel on this pool with {@link #addModels(int, IntFunction)}:
+ * <pre>
+ * <code>ForkJoinPool workers = new ForkJoinPool(4); // created once
+ * ...
+ * ParallelPortfolio pares = new ParallelPortfolio(true, workers); // on each request
+ * pares.addModels(4, i -> modeller());
+ * pares.solve();
+ * </code>
+ * </pre>
+ * </p>
+ * <p>
  *     This class uses Java 8 streaming feature, and may be not compliant with older versions.
  * </p>
  *
@@ -123,7 +163,35 @@ public class ParallelPortfolio {
     private AtomicBoolean solutionFound = new AtomicBoolean(false);
 
     /** Point to (one of) the solver(s) which found a solution */
-    private Model finder;
+    private volatile Model finder;
+
+    /** Maximum number of literals of a shared clause, 0 when clause sharing is disabled */
+    private int maxSharedClauseSize = 0;
+
+    /** Number of nodes between two imports of shared clauses */
+    private int clauseSharingFrequency = 0;
+
+    /** Lock-free store of the best bound and shared clauses, created on preparation */
+    private SharedBlackboard blackboard;
+
+    /** Number of fails between two barriers in deterministic mode, 0 when deterministic mode is disabled */
+    private long failsPerRound = 0;
+
+    /** Barriers of the models in deterministic mode, one per model */
+    private FailCounter[] barriers;
+
+    /** Creates worker threads which do not prevent the JVM from exiting */
+    private static final ForkJoinPool.ForkJoinWorkerThreadFactory DAEMON_WORKERS = pool -> {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setDaemon(true);
+        return thread;
+    };
+
+    /** The worker threads, lazily created unless provided on construction */
+    private ForkJoinPool forkJoinPool;
+
+    /** Set to <tt>true</tt> when the worker threads have been provided on construction */
+    private final boolean sharedPool;
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
@@ -139,6 +207,24 @@ public class ParallelPortfolio {
     public ParallelPortfolio(boolean searchAutoConf) {
         this.models = new ArrayList<>();
         this.searchAutoConf = searchAutoConf;
+        this.sharedPool = false;
+    }
+
+    /**
+     * Creates a new ParallelPortfolio which runs on the worker threads of <i>pool</i>.
+     * The pool is not shut down by this portfolio, so that it can be reused by other portfolios.
+     * Its parallelism should be at least equal to the number of models added, otherwise models are run in turn.
+     *
+     * @param searchAutoConf changes the search heuristics of the different solvers, except the first one.
+     *                       Must be set to false if search heuristics of the different threads are specified manually,
+     *                       so that they are not erased
+     * @param pool           worker threads, shared with other portfolios
+     */
+    public ParallelPortfolio(boolean searchAutoConf, ForkJoinPool pool) {
+        this.models = new ArrayList<>();
+        this.searchAutoConf = searchAutoConf;
+        this.forkJoinPool = pool;
+        this.sharedPool = true;
     }
 
     /**
@@ -178,6 +264,44 @@ public class ParallelPortfolio {
         this.models.add(model);
     }
 
+    /**
+     * Builds <i>n</i> models in parallel, on the worker threads, and adds them to the list of models to run in parallel.
+     * The i<sup>th</sup> model is built by calling <i>modeller</i> with <i>i</i> (starting from the number of models
+     * already added), so that models built from the same function are identical.
+     * The same rules as in {@link #addModel(Model)} apply.
+     *
+     * @param n        number of models to build
+     * @param modeller builds a populated model given its index in the portfolio
+     * @throws SolverException if the construction of a model fails
+     */
+    public void addModels(int n, IntFunction<Model> modeller) {
+        int from = models.size();
+        List<Callable<Model>> tasks = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            int idx = from + i;
+            tasks.add(() -> modeller.apply(idx));
+        }
+        try {
+            for (Future<Model> f : getPool(from + n).invokeAll(tasks)) {
+                models.add(f.get());
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            throw new SolverException("Unable to build the models of the ParallelPortfolio: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Releases the worker threads, unless they were provided on construction.
+     * They are created again if needed.
+     * This is done automatically once {@link #solve()} finds no new solution.
+     */
+    public void close() {
+        if (!sharedPool && forkJoinPool != null) {
+            forkJoinPool.shutdownNow();
+            forkJoinPool = null;
+        }
+    }
+
     /**
      * Run the solve() instruction of every model of the portfolio in parallel.
      *
@@ -193,22 +317,25 @@ public class ParallelPortfolio {
         if (!isPrepared) {
             prepare();
         }
-        ForkJoinPool forkJoinPool = new ForkJoinPool(models.size());
+        ForkJoinPool forkJoinPool = getPool(models.size());
         try {
-            forkJoinPool.submit(() -> {
-                models.parallelStream().forEach(m -> {
-                    if (!getSolverTerminated().get()) {
-                        boolean so = m.getSolver().solve();
-                        if (!so || finder == m) {
-                            getSolverTerminated().set(true);
+            if (failsPerRound > 0) {
+                solveInRounds(forkJoinPool);
+            } else {
+                forkJoinPool.submit(() -> {
+                    models.parallelStream().forEach(m -> {
+                        if (!getSolverTerminated().get()) {
+                            boolean so = m.getSolver().solve();
+                            if (!so || finder == m) {
+                                getSolverTerminated().set(true);
+                            }
                         }
-                    }
-                });
-            }).get();
+                    });
+                }).get();
+            }
         } catch (InterruptedException | ExecutionException e) {
             e.printStackTrace();
         }
-        forkJoinPool.shutdownNow();
         getSolverTerminated().set(false);// otherwise, solver.isStopCriterionMet() always returns true
         if(getSolutionFound().get() && models.get(0).getResolutionPolicy()!=ResolutionPolicy.SATISFACTION) {
             int bestAll = getBestModel().getSolver().getBestSolutionValue().intValue();
@@ -221,6 +348,10 @@ public class ParallelPortfolio {
                 }
             }
         }
+        if (!getSolutionFound().get()) {
+            // the resolution is over, the worker threads are not needed anymore
+            close();
+        }
         return getSolutionFound().get();
     }
 
@@ -250,6 +381,67 @@ public class ParallelPortfolio {
         return models;
     }
 
+    /**
+     * Enable the exchange of learnt clauses among models.
+     * Each clause learnt by a model (either a no-good, see {@link Solver#setNoGoodRecordingFromRestarts()},
+     * or a signed clause, see {@link Solver#setLearningSignedClauses()}) which has at most <i>maxSize</i> literals
+     * is published in a lock-free buffer of bounded capacity.
+     * Each model imports the clauses published by the other ones every <i>frequency</i> nodes and after each restart.
+     * Clauses are imported in the signed-clauses store of the model, see {@link Model#getClauseConstraint()}.
+     * The exchange is best-effort: a clause can be overwritten before all models have imported it.
+     * <p>
+     *     <b>Important:</b> all models <b>HAVE</b> to be identical, that is, they have to declare the same variables,
+     *     in the same order, since clauses refer to variables by their id (see {@link Variable#getId()}).
+     * </p>
+     * <p>
+     *     This method must be called before the first call to {@link #solve()}.
+     * </p>
+     *
+     * @param maxSize   maximum number of literals of a shared clause (0 disables clause sharing)
+     * @param frequency number of nodes between two imports of shared clauses (strictly positive)
+     * @throws SolverException if the portfolio has already been prepared
+     */
+    public void setClauseSharing(int maxSize, int frequency) {
+        if (isPrepared) {
+            throw new SolverException("Clause sharing has to be declared before the first call to solve().");
+        }
+        if (frequency <= 0) {
+            throw new SolverException("The frequency of clause sharing has to be strictly positive.");
+        }
+        this.maxSharedClauseSize = maxSize;
+        this.clauseSharingFrequency = frequency;
+    }
+
+    /**
+     * Enable the deterministic mode.
+     * <p>
+     * The resolution is then made of rounds. During a round, each model runs until it either
+     * reaches its next barrier (that is, <i>failsPerRound</i> more fails, see {@link FailCounter}),
+     * finds a solution or ends.
+     * Once all models have stopped, the best bound is exchanged among models, in the order they were added,
+     * and a new round starts, unless a solution has been found or a model has ended.
+     * Since models only communicate at barriers, the same inputs lead to the same solutions and the same
+     * number of nodes regardless of thread timing
+     * (provided that the models are deterministic themselves, e.g., no time limit).
+     * </p>
+     * <p>
+     *     This method must be called before the first call to {@link #solve()}
+     *     and cannot be combined with {@link #setClauseSharing(int, int)}.
+     * </p>
+     *
+     * @param failsPerRound number of fails between two barriers (strictly positive)
+     * @throws SolverException if the portfolio has already been prepared
+     */
+    public void setDeterministic(long failsPerRound) {
+        if (isPrepared) {
+            throw new SolverException("Deterministic mode has to be declared before the first call to solve().");
+        }
+        if (failsPerRound <= 0) {
+            throw new SolverException("The number of fails per round has to be strictly positive.");
+        }
+        this.failsPerRound = failsPerRound;
+    }
+
     /**
      * Attempts to find all solutions of the declared problem.
      * <ul>
@@ -305,40 +497,103 @@ public class ParallelPortfolio {
     ///////////////////////////////////////   INTERNAL METHODS    //////////////////////////////////////////////////////
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
+    /**
+     * @param parallelism number of threads required, ignored when the pool is provided on construction
+     * @return the worker threads, created if needed
+     */
+    private ForkJoinPool getPool(int parallelism) {
+        if (!sharedPool && forkJoinPool != null && forkJoinPool.getParallelism() < parallelism) {
+            forkJoinPool.shutdown();
+            forkJoinPool = null;
+        }
+        if (forkJoinPool == null) {
+            forkJoinPool = new ForkJoinPool(parallelism, DAEMON_WORKERS, null, false);
+        }
+        return forkJoinPool;
+    }
+
     @SuppressWarnings("unchecked")
     private void prepare(){
         isPrepared = true;
         check();
+        blackboard = new SharedBlackboard(models.get(0).getResolutionPolicy() == ResolutionPolicy.MAXIMIZE,
+                SHARED_CLAUSES_CAPACITY);
+        if (failsPerRound > 0) {
+            barriers = new FailCounter[models.size()];
+        }
         for(int i=0;i<models.size();i++){
             Solver s = models.get(i).getSolver();
+            int idx = i;
             s.addStopCriterion((Criterion) () -> getSolverTerminated().get());
-            s.plugMonitor((IMonitorSolution) () -> {updateFromSolution(s.getModel());});
             if(searchAutoConf){
                 configureModel(i);
             }
+            if (failsPerRound > 0) {
+                // bounds are only exchanged at barriers
+                barriers[i] = new FailCounter(models.get(i), failsPerRound);
+                s.addStopCriterion(barriers[i]);
+            } else {
+                s.plugMonitor((IMonitorSolution) () -> {updateFromSolution(s.getModel(), idx);});
+                s.plugMonitor(new Exchanger(models.get(i), i));
+            }
         }
     }
 
-    private synchronized void updateFromSolution(Model m){
+    /**
+     * Run rounds until a solution is found or a model ends.
+     * The outcome of a round only depends on the models, not on thread timing.
+     */
+    private void solveInRounds(ForkJoinPool forkJoinPool) throws InterruptedException, ExecutionException {
+        List<Callable<Boolean>> round = new ArrayList<>(models.size());
+        for (Model m : models) {
+            round.add(() -> m.getSolver().solve());
+        }
+        boolean over = false;
+        while (!over) {
+            List<Future<Boolean>> results = forkJoinPool.invokeAll(round);
+            // barrier: models are visited in the order they were added
+            for (int i = 0; i < models.size(); i++) {
+                Model m = models.get(i);
+                if (results.get(i).get()) {
+                    over = true;
+                    if (m.getResolutionPolicy() == ResolutionPolicy.SATISFACTION) {
+                        if (!getSolutionFound().get()) {
+                            finder = m;
+                            getSolutionFound().set(true);
+                        }
+                    } else if (blackboard.offerBound(((IntVar) m.getObjective()).getValue(), i)) {
+                        finder = m;
+                        getSolutionFound().set(true);
+                    }
+                } else if (barriers[i].isMet()) {
+                    barriers[i].overrideLimit(barriers[i].getLimitValue() + failsPerRound);
+                } else {
+                    // either the search space has been explored or a limit has been reached
+                    over = true;
+                }
+            }
+            if (getSolutionFound().get() && models.get(0).getResolutionPolicy() != ResolutionPolicy.SATISFACTION) {
+                int best = SharedBlackboard.value(blackboard.getBound());
+                for (Model m : models) {
+                    if (m.getResolutionPolicy() == ResolutionPolicy.MAXIMIZE) {
+                        m.getSolver().getObjectiveManager().updateBestLB(best);
+                    } else {
+                        m.getSolver().getObjectiveManager().updateBestUB(best);
+                    }
+                }
+            }
+        }
+    }
+
+    private synchronized void updateFromSolution(Model m, int idx){
         if (m.getResolutionPolicy() == ResolutionPolicy.SATISFACTION) {
             finder = m;
             getSolutionFound().set(true);
         }else{
             int solverVal = ((IntVar)m.getObjective()).getValue();
-            int bestVal = m.getSolver().getObjectiveManager().getBestSolutionValue().intValue();
-            if(m.getResolutionPolicy()==ResolutionPolicy.MAXIMIZE){
-                assert solverVal<=bestVal:solverVal+">"+bestVal;
-            }else if(m.getResolutionPolicy()==ResolutionPolicy.MINIMIZE){
-                assert solverVal>=bestVal:solverVal+"<"+bestVal;
-            }
-            if(solverVal == bestVal){
-                getSolutionFound().set(true);
+            if(blackboard.offerBound(solverVal, idx)){
                 finder = m;
-                if (m.getResolutionPolicy() == ResolutionPolicy.MAXIMIZE) {
-                    models.forEach(s1 -> s1.getSolver().getObjectiveManager().updateBestLB(bestVal));
-                }else {
-                    models.forEach(s1 -> s1.getSolver().getObjectiveManager().updateBestUB(bestVal));
-                }
+                getSolutionFound().set(true);
             }
         }
     }
@@ -458,6 +713,9 @@ public class ParallelPortfolio {
         if (models.size() == 0) {
             throw new SolverException("No model found in the ParallelPortfolio.");
         }
+        if (failsPerRound > 0 && maxSharedClauseSize > 0) {
+            throw new SolverException("Clause sharing is not supported in deterministic mode.");
+        }
         if(models.get(0).getResolutionPolicy() != ResolutionPolicy.SATISFACTION) {
             Variable objective = models.get(0).getObjective();
             if (objective == null) {
@@ -474,6 +732,141 @@ public class ParallelPortfolio {
         }
     }
 
+    /**
+     * Maximum number of clauses stored in the blackboard
+     */
+    private static final int SHARED_CLAUSES_CAPACITY = 1024;
+
+    /**
+     * Exchange bounds and clauses between one model and the blackboard.
+     * The best bound is polled on each node, shared clauses are imported periodically and after each restart,
+     * right before a propagation so that the ones which are unit or conflicting are propagated at once.
+     */
+    private class Exchanger implements IMonitorOpenNode, IMonitorDownBranch, IMonitorRestart, ILearntClauseListener {
+
+        /** The model this exchanger is attached to */
+        private final Model model;
+        /** Index of the model in the portfolio */
+        private final int idx;
+        /** Last bound read in the blackboard */
+        private long lastBound;
+        /** Sequence number of the next clause to import */
+        private long cursor;
+        /** Number of nodes since last import */
+        private int nodes;
+        /** Set to <tt>true</tt> when a restart has just occurred */
+        private boolean restarted;
+        /** Maps variable ids to integer variables of the model, only set when clauses are shared */
+        private TIntObjectHashMap<IntVar> varsById;
+        /** Where shared clauses are imported, only set when clauses are shared */
+        private ClauseStore store;
+
+        Exchanger(Model model, int idx) {
+            this.model = model;
+            this.idx = idx;
+            this.lastBound = blackboard.getBound();
+            if (maxSharedClauseSize > 0) {
+                varsById = new TIntObjectHashMap<>();
+                for (Variable v : model.getVars()) {
+                    if ((v.getTypeAndKind() & Variable.INT) != 0) {
+                        varsById.put(v.getId(), (IntVar) v);
+                    }
+                }
+                store = model.getClauseConstraint().getClauseStore();
+                store.addLearntClauseListener(this);
+                if (model.getHook(Model.NOGOODS_HOOK_NAME) != null) {
+                    ((NogoodConstraint) model.getHook(Model.NOGOODS_HOOK_NAME)).getPropNogoods()
+                            .addLearntClauseListener(this);
+                }
+            }
+        }
+
+        @Override
+        public void beforeOpenNode() {
+            long bound = blackboard.getBound();
+            if (bound != lastBound) {
+                lastBound = bound;
+                if (SharedBlackboard.owner(bound) != idx) {
+                    int value = SharedBlackboard.value(bound);
+                    if (model.getResolutionPolicy() == ResolutionPolicy.MAXIMIZE) {
+                        model.getSolver().getObjectiveManager().updateBestLB(value);
+                    } else if (model.getResolutionPolicy() == ResolutionPolicy.MINIMIZE) {
+                        model.getSolver().getObjectiveManager().updateBestUB(value);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void beforeDownBranch(boolean left) {
+            if (store != null && (restarted || ++nodes >= clauseSharingFrequency)) {
+                restarted = false;
+                nodes = 0;
+                importClauses();
+            }
+        }
+
+        @Override
+        public void afterRestart() {
+            restarted = true;
+        }
+
+        @Override
+        public void onLearnt(IntVar[] vars, int[] bounds) {
+            if (vars.length <= maxSharedClauseSize) {
+                int[] ids = new int[vars.length];
+                for (int i = 0; i < vars.length; i++) {
+                    ids[i] = vars[i].getId();
+                }
+                blackboard.publish(idx, ids, bounds.clone());
+            }
+        }
+
+        /**
+         * Import clauses published by the other models since the last call.
+         */
+        private void importClauses() {
+            long head = blackboard.getHead();
+            for (long seq = Math.max(cursor, head - blackboard.capacity()); seq < head; seq++) {
+                SharedClause c = blackboard.get(seq);
+                if (c != null && c.owner != idx) {
+                    importClause(c);
+                }
+            }
+            cursor = head;
+        }
+
+        /**
+         * Convert a shared clause into a signed clause of this model, and import it.
+         * Literals are grouped per variable.
+         * Clauses which refer to unknown variables or which involve less than two variables are ignored.
+         */
+        private void importClause(SharedClause c) {
+            int n = c.varIds.length;
+            IntVar[] vars = new IntVar[n];
+            IntIterableRangeSet[] ranges = new IntIterableRangeSet[n];
+            int k = 0;
+            for (int i = 0; i < n; i++) {
+                IntVar var = varsById.get(c.varIds[i]);
+                if (var == null) {
+                    return;
+                }
+                int j = 0;
+                while (j < k && vars[j] != var) {
+                    j++;
+                }
+                if (j == k) {
+                    vars[k] = var;
+                    ranges[k++] = new IntIterableRangeSet();
+                }
+                ranges[j].addBetween(c.bounds[i << 1], c.bounds[(i << 1) + 1]);
+            }
+            if (k > 1) {
+                store.importClause(Arrays.copyOf(vars, k), Arrays.copyOf(ranges, k));
+            }
+        }
+    }
+
     private synchronized AtomicBoolean getSolverTerminated(){
         return solverTerminated;
     }
@@ -0,0 +1,303 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.search.loop.move.MoveBinaryDFS;
+import org.chocosolver.solver.search.loop.move.MoveWorkSharing;
+import org.chocosolver.solver.search.loop.move.WorkSharingPool;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.criteria.Criterion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>
+ *     A work-sharing parallel tree search helper.
+ * </p>
+ * <p>
+ *     Contrary to {@link ParallelPortfolio}, where each model explores the entire search tree with its own strategy,
+ *     the models declared here share the exploration of one search tree.
+ *     The search tree is split into subproblems (decision prefixes) which are explored by the models
+ *     (see {@link MoveWorkSharing} and {@link WorkSharingPool}).
+ *     Idle models steal unexplored right-branches from busy ones, so that all models remain busy
+ *     until the search space is entirely explored.
+ *     When dealing with an optimization problem, the cut on the objective variable's value is propagated
+ *     to all models on solution, through {@link org.chocosolver.solver.objective.IObjectiveManager#updateBestLB(Number)}
+ *     and {@link org.chocosolver.solver.objective.IObjectiveManager#updateBestUB(Number)}.
+ * </p>
+ * <p>
+ *     All models <b>HAVE</b> to be identical, that is, they have to declare the same variables, in the same order.
+ *     Indeed, subproblems refer to variables by their id (see {@link Variable#getId()}).
+ *     The search strategies may differ, but each of them has to be complete
+ *     and the default {@link MoveBinaryDFS} has to be used (no restart, no LNS, no LDS).
+ *     When dealing with optimization problems, the objective variable <b>HAS</b> to be declared eagerly with
+ *     {@link Model#setObjective(boolean, Variable)}.
+ * </p>
+ * <p>
+ *     The resolution process is synchronized. When dealing with a satisfaction problem,
+ *     the search stops as soon as one model finds a solution.
+ *     When dealing with an optimization problem, the search stops once the optimality of the best solution found
+ *     is proven.
+ *     As soon as one model hits a limit, the other ones are eagerly stopped.
+ *     Since the model which finds the best solution may have moved on, the best solution is
+ *     also recorded and can be retrieved with {@link #getBestSolution()}.
+ * </p>
+ * <p>
+ *     Example of use.
+ *
+ * <pre>
+ * <code>ParallelWorkSharing pws = new ParallelWorkSharing();
+ * int n = 4; // number of models to use
+ * for (int i = 0; i < n; i++) {
+ *      pws.addModel(modeller());
+ * }
+ * if(pws.solve()){
+ *      System.out.println(pws.getBestSolution());
+ * }
+ * </code>
+ * </pre>
+ *
+ * </p>
+ *
+ * <p>
+ * Project: choco.
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class ParallelWorkSharing {
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////       VARIABLES       //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /** List of {@link Model}s to be executed in parallel. */
+    private final List<Model> models;
+
+    /** The moves, one per model, that take subproblems from the pool. */
+    private final List<MoveWorkSharing> moves;
+
+    /** The pool of subproblems shared by the models. */
+    private final WorkSharingPool pool;
+
+    /** Stores whether or not prepare() method has been called */
+    private boolean isPrepared = false;
+
+    private final AtomicBoolean solverTerminated = new AtomicBoolean(false);
+    private final AtomicBoolean solutionFound = new AtomicBoolean(false);
+
+    /** Point to the model which found the best solution */
+    private Model finder;
+
+    /** Copy of the best solution found so far */
+    private Solution bestSolution;
+
+    /** Value of the objective variable in the best solution found so far */
+    private int bestValue;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates a new ParallelWorkSharing.
+     * This class stores the models to be executed in parallel in a {@link ArrayList} initially empty.
+     */
+    public ParallelWorkSharing() {
+        this.models = new ArrayList<>();
+        this.moves = new ArrayList<>();
+        this.pool = new WorkSharingPool();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////          API          //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Adds a model to the list of models to run in parallel.
+     * The model has to be populated before calling {@link #solve()}, and has to be identical to the other ones.
+     * @param model a model to add
+     */
+    public void addModel(Model model){
+        this.models.add(model);
+    }
+
+    /**
+     * Run the exploration of the search tree by all models in parallel.
+     * <p>
+     * This method can only be called once.
+     * Note that a call to {@link #getBestSolution()} returns the best solution found.
+     * </p>
+     * @return <code>true</code> if and only if at least one solution has been found.
+     * @throws SolverException if no model has been added, if the models are not correctly configured
+     * or if this method has already been called.
+     */
+    public boolean solve() {
+        if (isPrepared) {
+            throw new SolverException("ParallelWorkSharing.solve() can only be called once.");
+        }
+        prepare();
+        ExecutorService executor = Executors.newFixedThreadPool(models.size());
+        List<Callable<Boolean>> workers = new ArrayList<>();
+        for (int i = 0; i < models.size(); i++) {
+            Solver s = models.get(i).getSolver();
+            MoveWorkSharing move = moves.get(i);
+            workers.add(() -> {
+                try {
+                    if (s.getModel().getResolutionPolicy() == ResolutionPolicy.SATISFACTION) {
+                        s.solve();
+                    } else {
+                        //noinspection StatementWithEmptyBody
+                        while (s.solve()) ;
+                    }
+                    if (s.isStopCriterionMet()) {
+                        // a limit has been reached or a solution has been found by another model
+                        getSolverTerminated().set(true);
+                        pool.close();
+                    }
+                } finally {
+                    pool.leave(move.isBusy());
+                }
+                return true;
+            });
+        }
+        try {
+            for (Future<Boolean> f : executor.invokeAll(workers)) {
+                f.get();
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            e.printStackTrace();
+        }
+        executor.shutdownNow();
+        return getSolutionFound().get();
+    }
+
+    /**
+     * Returns the model which finds the best solution, or <tt>null</tt> if no such model exists.
+     * Note that, when dealing with an optimization problem, the variables of this model may not be instantiated anymore,
+     * see {@link #getBestSolution()}.
+     *
+     * @return the model which finds the best solution or <tt>null</tt> if no such model exists.
+     */
+    public Model getBestModel(){
+        return finder;
+    }
+
+    /**
+     * @return a copy of the best solution found (all variables of the finder are recorded),
+     * or <tt>null</tt> if no solution was found.
+     */
+    public Solution getBestSolution() {
+        return bestSolution;
+    }
+
+    /**
+     * @return the (mutable!) list of models used in this ParallelWorkSharing
+     */
+    public List<Model> getModels(){
+        return models;
+    }
+
+    /**
+     * @return the number of subproblems generated during the resolution (including the initial one)
+     */
+    public long getNbSubproblems() {
+        return pool.getNbSubproblems();
+    }
+
+    /**
+     * @return <tt>true</tt> if the search space has been entirely explored,
+     * that is, no solution exists (satisfaction) or the best solution found is optimal (optimization).
+     */
+    public boolean isSearchCompleted() {
+        return !getSolverTerminated().get() && isPrepared;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////   INTERNAL METHODS    //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    private void prepare(){
+        isPrepared = true;
+        check();
+        for (Model model : models) {
+            Solver s = model.getSolver();
+            MoveWorkSharing move = new MoveWorkSharing(model, s.getMove(), pool);
+            moves.add(move);
+            s.setMove(move);
+            s.addStopCriterion((Criterion) () -> getSolverTerminated().get());
+            s.plugMonitor((IMonitorSolution) () -> updateFromSolution(s.getModel()));
+        }
+    }
+
+    private synchronized void updateFromSolution(Model m){
+        if (m.getResolutionPolicy() == ResolutionPolicy.SATISFACTION) {
+            if (!getSolutionFound().get()) {
+                finder = m;
+                bestSolution = new Solution(m).record();
+                getSolutionFound().set(true);
+                getSolverTerminated().set(true);
+                pool.close();
+            }
+        }else{
+            int solverVal = ((IntVar)m.getObjective()).getValue();
+            boolean improves = !getSolutionFound().get()
+                    || (m.getResolutionPolicy() == ResolutionPolicy.MAXIMIZE ? solverVal > bestValue : solverVal < bestValue);
+            if (improves) {
+                bestValue = solverVal;
+                getSolutionFound().set(true);
+                finder = m;
+                bestSolution = new Solution(m).record();
+                if (m.getResolutionPolicy() == ResolutionPolicy.MAXIMIZE) {
+                    models.forEach(s1 -> s1.getSolver().getObjectiveManager().updateBestLB(solverVal));
+                }else {
+                    models.forEach(s1 -> s1.getSolver().getObjectiveManager().updateBestUB(solverVal));
+                }
+            }
+        }
+    }
+
+    private void check(){
+        if (models.size() == 0) {
+            throw new SolverException("No model found in the ParallelWorkSharing.");
+        }
+        for (Model m : models) {
+            if (m.getSolver().getMove().getClass() != MoveBinaryDFS.class) {
+                throw new SolverException("ParallelWorkSharing requires the default depth-first search move " +
+                        "(no restart, no LNS, no LDS).");
+            }
+        }
+        if(models.get(0).getResolutionPolicy() != ResolutionPolicy.SATISFACTION) {
+            Variable objective = models.get(0).getObjective();
+            if (objective == null) {
+                throw new UnsupportedOperationException("No objective has been defined");
+            }
+            if ((objective.getTypeAndKind() & Variable.REAL) != 0) {
+                throw new UnsupportedOperationException("ParallelWorkSharing only deals with integer objective");
+            }
+        }
+    }
+
+    private synchronized AtomicBoolean getSolverTerminated(){
+        return solverTerminated;
+    }
+
+    private synchronized AtomicBoolean getSolutionFound(){
+        return solutionFound;
+    }
+}
@@ -59,6 +59,10 @@ public interface Settings {
                 "sum.decomposition.threshold", this.getMinCardForSumDecomposition()).toString()));
         this.setEnableTableSubstitution(Boolean.valueOf(properties.getOrDefault(
                 "table.substitution", enableTableSubstitution()).toString()));
+        this.setEnableTableCompression(Boolean.valueOf(properties.getOrDefault(
+                "table.compression", enableTableCompression()).toString()));
+        this.setEnablePhaseSaving(Boolean.valueOf(properties.getOrDefault(
+                "search.phaseSaving", enablePhaseSaving()).toString()));
         this.setMCRDecimalPrecision(Double.valueOf(properties.getOrDefault(
                 "MCR.precision", this.getMCRDecimalPrecision()).toString()));
         this.setMaxTupleSizeForSubstitution(Integer.valueOf(properties.getOrDefault(
@@ -83,6 +87,8 @@ public interface Settings {
                 "constraints.check", this.checkDeclaredConstraints()).toString()));
         this.setHybridizationOfPropagationEngine(Byte.valueOf(properties.getOrDefault(
                 "propagationEngine.hybridization", this.enableHybridizationOfPropagationEngine()).toString()));
+        this.setCostBasedPropagation(Boolean.valueOf(properties.getOrDefault(
+                "propagationEngine.costBased", this.enableCostBasedPropagation()).toString()));
         this.setNbMaxLearntClauses(Integer.valueOf(properties.getOrDefault(
                 "learnt.nbMax", this.getNbMaxLearntClauses()).toString()));
         this.setRatioForClauseStoreReduction(Float.valueOf(properties.getOrDefault(
@@ -141,6 +147,8 @@ public interface Settings {
         properties.setProperty("enumerated.threshold", Integer.toString(this.getMaxDomSizeForEnumerated()));
         properties.setProperty("sum.decomposition.threshold", Integer.toString(this.getMinCardForSumDecomposition()));
         properties.setProperty("table.substitution", Boolean.toString(this.enableTableSubstitution()));
+        properties.setProperty("table.compression", Boolean.toString(this.enableTableCompression()));
+        properties.setProperty("search.phaseSaving", Boolean.toString(this.enablePhaseSaving()));
         properties.setProperty("MCR.precision", Double.toString(this.getMCRDecimalPrecision()));
         properties.setProperty("tuple.threshold", Integer.toString(this.getMaxTupleSizeForSubstitution()));
         properties.setProperty("propagators.sort", Boolean.toString(this.sortPropagatorActivationWRTPriority()));
@@ -153,6 +161,7 @@ public interface Settings {
         properties.setProperty("propagators.swap", Boolean.toString(swapOnPassivate()));
         properties.setProperty("constraints.check", Boolean.toString(checkDeclaredConstraints()));
         properties.setProperty("propagationEngine.hybridization", Byte.toString(enableHybridizationOfPropagationEngine()));
+        properties.setProperty("propagationEngine.costBased", Boolean.toString(enableCostBasedPropagation()));
         properties.setProperty("learnt.nbMax", Integer.toString(this.getNbMaxLearntClauses()));
         properties.setProperty("learnt.ratio", Float.toString(this.getRatioForClauseStoreReduction()));
         properties.setProperty("learnt.maxCard", Integer.toString(this.getMaxLearntClauseCardinality()));
@@ -296,6 +305,37 @@ public interface Settings {
      */
     Settings setMaxTupleSizeForSubstitution(int maxTupleSizeForSubstitution);
 
+    /**
+     * @return <tt>true</tt> if allowed tuples can be compressed, into short tuples or an MDD, before posting a table constraint
+     * @see org.chocosolver.solver.constraints.extension.TableCompressor
+     */
+    boolean enableTableCompression();
+
+    /**
+     * Define whether allowed tuples can be compressed, into short tuples or an MDD, before posting a table constraint
+     * with the default algorithm
+     *
+     * @param enableTableCompression enable table compression
+     * @return the current instance
+     */
+    Settings setEnableTableCompression(boolean enableTableCompression);
+
+    /**
+     * @return <tt>true</tt> if the default search on integer variables branches first on the last value assigned
+     * to each variable (phase saving)
+     * @see org.chocosolver.solver.search.strategy.selectors.values.IntDomainPhase
+     */
+    boolean enablePhaseSaving();
+
+    /**
+     * Define whether the default search on integer variables branches first on the last value assigned to each
+     * variable, saved on solutions, restarts and backjumps (phase saving), instead of on the value in the last solution
+     *
+     * @param enablePhaseSaving enable phase saving
+     * @return the current instance
+     */
+    Settings setEnablePhaseSaving(boolean enablePhaseSaving);
+
     /**
      * @return {@code true} if propagators are sorted wrt their priority on initial activation.
      */
@@ -494,8 +534,28 @@ public interface Settings {
      */
     Settings setHybridizationOfPropagationEngine(byte hybrid);
 
+    /**
+     * @return <tt>true</tt> if the propagation engine schedules propagators wrt their measured cost,
+     * <tt>false</tt> if it schedules them wrt their static priority.
+     * @see #setCostBasedPropagation(boolean)
+     */
+    boolean enableCostBasedPropagation();
+
+    /**
+     * Define how the propagation engine schedules propagators.
+     * @param costBased When set to <tt>false</tt> (default), propagators are scheduled wrt their static priority
+     * (see {@link org.chocosolver.solver.constraints.PropagatorPriority}).
+     * When set to <tt>true</tt>, the time spent and the number of domain reductions of each propagator
+     * are measured during propagation, and cheap or high-yield propagators are executed first.
+     * Can be combined with {@link #setHybridizationOfPropagationEngine(byte)}.
+     * @return the current instance
+     */
+    Settings setCostBasedPropagation(boolean costBased);
+
     /**
      * @return maximum number of learnt clauses to store. When reached, a reduction is applied.
+     * Clauses with a small literal block distance are not counted
+     * (see {@link org.chocosolver.solver.constraints.nary.clauses.ClauseStore}).
      * @see #setNbMaxLearntClauses(int)
      * @see #setRatioForClauseStoreReduction(float)
      * @see #getRatioForClauseStoreReduction()
@@ -0,0 +1,200 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free blackboard shared among the workers of a {@link ParallelPortfolio}.
+ * <p>
+ * It stores:
+ * <ul>
+ *     <li>the best objective bound found so far, together with the index of the worker which found it,
+ *     packed into one {@link AtomicLong},</li>
+ *     <li>a bounded ring buffer of short learnt clauses.
+ *     When the buffer is full, the oldest clauses are overwritten.
+ *     A clause which is overwritten before a worker polls it is simply lost for this worker.</li>
+ * </ul>
+ * Workers publish and poll without any lock.
+ * </p>
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+class SharedBlackboard {
+
+    /**
+     * Owner of the bound when no bound has been published yet
+     */
+    static final int NO_OWNER = -1;
+
+    /**
+     * Set to <tt>true</tt> when maximizing
+     */
+    private final boolean maximize;
+    /**
+     * The best bound and its owner, packed
+     */
+    private final AtomicLong bound;
+    /**
+     * The ring buffer of clauses
+     */
+    private final AtomicReferenceArray<SharedClause> clauses;
+    /**
+     * To compute position in the ring buffer
+     */
+    private final int mask;
+    /**
+     * Sequence number of the next clause to publish
+     */
+    private final AtomicLong head;
+
+    /**
+     * Create a blackboard
+     *
+     * @param maximize set to <tt>true</tt> if the objective is maximized,
+     *                 to <tt>false</tt> if it is minimized (or if there is no objective).
+     * @param capacity maximum number of clauses stored, rounded up to the next power of 2
+     */
+    SharedBlackboard(boolean maximize, int capacity) {
+        this.maximize = maximize;
+        this.bound = new AtomicLong(pack(0, NO_OWNER));
+        int c = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.clauses = new AtomicReferenceArray<>(c);
+        this.mask = c - 1;
+        this.head = new AtomicLong(0);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////          BOUND        //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Publish a new bound, if it improves the current one.
+     *
+     * @param value a new objective value
+     * @param owner index of the worker which found it
+     * @return <tt>true</tt> if <i>value</i> improves the current best bound
+     */
+    boolean offerBound(int value, int owner) {
+        long upd = pack(value, owner);
+        long cur;
+        do {
+            cur = bound.get();
+            if (owner(cur) != NO_OWNER && (maximize ? value <= value(cur) : value >= value(cur))) {
+                return false;
+            }
+        } while (!bound.compareAndSet(cur, upd));
+        return true;
+    }
+
+    /**
+     * @return the current best bound and its owner, packed.
+     * Use {@link #value(long)} and {@link #owner(long)} to unpack.
+     */
+    long getBound() {
+        return bound.get();
+    }
+
+    /**
+     * @param packed a packed bound
+     * @return the objective value
+     */
+    static int value(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    /**
+     * @param packed a packed bound
+     * @return the index of the worker which found the bound, or {@link #NO_OWNER}
+     */
+    static int owner(long packed) {
+        return (int) packed;
+    }
+
+    private static long pack(int value, int owner) {
+        return ((long) value << 32) | (owner & 0xFFFFFFFFL);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////         CLAUSES       //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Publish a clause, where the i<sup>th</sup> literal is:
+     * <pre>
+     *     var(varIds[i]) &isin; [bounds[2i], bounds[2i + 1]]
+     * </pre>
+     * Arrays are not copied.
+     *
+     * @param owner  index of the worker which learnt the clause
+     * @param varIds ids of the variables
+     * @param bounds bounds of the literals
+     */
+    void publish(int owner, int[] varIds, int[] bounds) {
+        long seq = head.getAndIncrement();
+        clauses.set((int) (seq & mask), new SharedClause(seq, owner, varIds, bounds));
+    }
+
+    /**
+     * @return the sequence number of the next clause to be published
+     */
+    long getHead() {
+        return head.get();
+    }
+
+    /**
+     * @return the maximum number of clauses stored
+     */
+    int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * @param seq a sequence number
+     * @return the clause with sequence number <i>seq</i>, or <tt>null</tt> if it is not available
+     * (either not yet stored or already overwritten)
+     */
+    SharedClause get(long seq) {
+        SharedClause c = clauses.get((int) (seq & mask));
+        return c != null && c.seq == seq ? c : null;
+    }
+
+    /**
+     * An immutable clause stored in the blackboard
+     */
+    static final class SharedClause {
+        /**
+         * Sequence number
+         */
+        final long seq;
+        /**
+         * Index of the worker which learnt the clause
+         */
+        final int owner;
+        /**
+         * Ids of the variables
+         */
+        final int[] varIds;
+        /**
+         * Bounds of the literals
+         */
+        final int[] bounds;
+
+        SharedClause(long seq, int owner, int[] varIds, int[] bounds) {
+            this.seq = seq;
+            this.owner = owner;
+            this.varIds = varIds;
+            this.bounds = bounds;
+        }
+    }
+}
@@ -17,8 +17,11 @@ import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.RealVar;
 import org.chocosolver.solver.variables.SetVar;
 import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
 
 import java.util.Arrays;
+import java.util.BitSet;
 
 /**
  * Class which stores the value of each variable in a solution
@@ -40,18 +43,26 @@ public class Solution implements ICause {
     // SOLUTION
     /** Set to <tt>true</tt> when this object is empty */
     private boolean empty;
-    /** Maps of value for integer variable (id - value) */
+    /** Values of integer variables, indexed by slot (see {@link Layout}) */
+    private int[] ints;
+    /** Bounds of real variables, indexed by slot (two cells per slot) */
+    private double[] reals;
+    /** Values of set variables, indexed by slot */
+    private int[][] sets;
+    /** Positions of the variables recorded (i.e., instantiated), in {@link Layout#vars} */
+    private BitSet recorded;
+    /** Maps of value for integer variable (id - value), for variables not declared to be stored */
     private TIntIntHashMap intmap;
-    /** Maps of value for real variable (id - value) */
+    /** Maps of value for real variable (id - value), for variables not declared to be stored */
     private TIntObjectHashMap<double[]> realmap;
-    /** Maps of value for set variable (id - values) */
+    /** Maps of value for set variable (id - values), for variables not declared to be stored */
     private TIntObjectHashMap<int[]> setmap;
 
     // INPUT
     /** Model to store */
     private Model model;
-    /** Variables to store; */
-    private Variable[] varsToStore;
+    /** Variables to store, and where their value is stored in this; may be shared with other solutions */
+    private final Layout layout;
 
     //***********************************************************************************
     // CONSTRUCTOR
@@ -67,7 +78,16 @@ public class Solution implements ICause {
      * @param varsToStore variables to store in this object
      */
     public Solution(Model model, Variable... varsToStore) {
-        this.varsToStore = varsToStore;
+        this(model, new Layout(model, varsToStore));
+    }
+
+    /**
+     * Create an empty solution object that stores the same variables as the other solutions built with <i>layout</i>
+     * @param model model of the solution
+     * @param layout variables to store, possibly shared
+     */
+    Solution(Model model, Layout layout) {
+        this.layout = layout;
         empty = true;
         this.model = model;
     }
@@ -84,10 +104,11 @@ public class Solution implements ICause {
     public Solution record() {
         empty = false;
         boolean warn = false;
-        if (varsToStore.length == 0) {
-            varsToStore = model.getVars();
-        }
+        layout.resolve();
+        Variable[] varsToStore = layout.vars;
         assert varsToStore.length > 0;
+        allocate();
+        recorded.clear();
         if (intmap != null) {
             intmap.clear();
         }
@@ -97,32 +118,27 @@ public class Solution implements ICause {
         if (setmap != null) {
             setmap.clear();
         }
-        for (Variable var : varsToStore) {
+        for (int p = 0; p < varsToStore.length; p++) {
+            Variable var = varsToStore[p];
             if ((var.getTypeAndKind() & Variable.TYPE) != Variable.CSTE) {
                 int kind = var.getTypeAndKind() & Variable.KIND;
                 if (var.isInstantiated()) {
+                    int slot = layout.slots[p];
                     switch (kind) {
                         case Variable.INT:
                         case Variable.BOOL:
-                            if (intmap == null) {
-                                intmap = new TIntIntHashMap(16, .5f, Solution.NO_ENTRY, Solution.NO_ENTRY);
-                            }
-                            IntVar v = (IntVar) var;
-                            intmap.put(v.getId(), v.getValue());
+                            ints[slot] = ((IntVar) var).getValue();
+                            recorded.set(p);
                             break;
                         case Variable.REAL:
-                            if (realmap == null) {
-                                realmap = new TIntObjectHashMap<>(16, 05f, Solution.NO_ENTRY);
-                            }
                             RealVar r = (RealVar) var;
-                            realmap.put(r.getId(), new double[]{r.getLB(), r.getUB()});
+                            reals[2 * slot] = r.getLB();
+                            reals[2 * slot + 1] = r.getUB();
+                            recorded.set(p);
                             break;
                         case Variable.SET:
-                            if (setmap == null) {
-                                setmap = new TIntObjectHashMap<>(16, 05f, Solution.NO_ENTRY);
-                            }
-                            SetVar s = (SetVar) var;
-                            setmap.put(s.getId(), s.getValue().toArray());
+                            sets[slot] = copy(((SetVar) var).getValue(), sets[slot]);
+                            recorded.set(p);
                             break;
                         default:
                             // do not throw exception to allow extending the solver with other variable kinds (e.g. graph)
@@ -140,29 +156,79 @@ public class Solution implements ICause {
         return this;
     }
 
+    /**
+     * Allocate the arrays, once the layout is resolved
+     */
+    private void allocate() {
+        if (recorded == null) {
+            ints = new int[layout.nbInts];
+            reals = new double[2 * layout.nbReals];
+            sets = new int[layout.nbSets][];
+            recorded = new BitSet(layout.vars.length);
+        }
+    }
+
+    /**
+     * Copy the values of <i>set</i> into <i>into</i>, if it has the right size, or into a new array
+     */
+    private static int[] copy(ISet set, int[] into) {
+        int size = set.size();
+        if (into == null || into.length != size) {
+            into = new int[size];
+        }
+        ISetIterator iter = set.iterator();
+        int k = 0;
+        while (iter.hasNext()) {
+            into[k++] = iter.nextInt();
+        }
+        return into;
+    }
+
+    /**
+     * @return the position of <i>var</i> in the variables to store if it has been recorded, -1 otherwise
+     */
+    private int recordedPosition(Variable var) {
+        if (recorded == null) {
+            return -1;
+        }
+        int p = layout.positions.get(var.getId());
+        return p >= 0 && recorded.get(p) ? p : -1;
+    }
+
+    /**
+     * @return the position of <i>var</i> in the variables to store, once they are known, -1 otherwise
+     */
+    private int position(Variable var) {
+        if (layout.positions == null) {
+            return -1;
+        }
+        allocate();
+        return layout.positions.get(var.getId());
+    }
+
     @Override
     public String toString() {
         if (empty) {
             return "Empty solution. No solution recorded yet";
         }
         StringBuilder st = new StringBuilder("Solution: ");
-        for (Variable var : varsToStore) {
+        for (Variable var : layout.vars) {
             if ((var.getTypeAndKind() & Variable.TYPE) != Variable.CSTE) {
                 int kind = var.getTypeAndKind() & Variable.KIND;
                 switch (kind) {
                     case Variable.INT:
                     case Variable.BOOL:
                         IntVar v = (IntVar) var;
-                        st.append(v.getName()).append("=").append(intmap.get(v.getId())).append(", ");
+                        st.append(v.getName()).append("=").append(intValOrNull(v)).append(", ");
                         break;
                     case Variable.REAL:
                         RealVar r = (RealVar) var;
-                        double[] bounds = realmap.get(r.getId());
-                        st.append(r.getName()).append("=[").append(bounds[0]).append(",").append(bounds[1]).append("], ");
+                        double[] bounds = realBoundsOrNull(r);
+                        st.append(r.getName()).append("=").append(Arrays.toString(bounds).replace(" ", "")).append(", ");
                         break;
                     case Variable.SET:
                         SetVar s = (SetVar) var;
-                        st.append(s.getName()).append("=").append(Arrays.toString(setmap.get(s.getId()))).append(", ");
+                        st.append(s.getName()).append("=").append(Arrays.toString(setValOrNull(s))).append(", ");
                         break;
                     default:
                         // do not throw exception to allow extending the solver with other variable kinds (e.g. graph)
@@ -175,14 +241,54 @@ public class Solution implements ICause {
     }
 
     public Solution copySolution() {
-        Solution ret = new Solution(model, varsToStore);
+        Solution ret = new Solution(model, layout);
         ret.empty = empty;
-        ret.intmap = new TIntIntHashMap(intmap);
-        ret.realmap = new TIntObjectHashMap<>(realmap);
-        ret.setmap = new TIntObjectHashMap<>(setmap);
+        if (recorded != null) {
+            ret.ints = ints.clone();
+            ret.reals = reals.clone();
+            ret.sets = new int[sets.length][];
+            for (int i = 0; i < sets.length; i++) {
+                ret.sets[i] = sets[i] == null ? null : sets[i].clone();
+            }
+            ret.recorded = (BitSet) recorded.clone();
+        }
+        if (intmap != null) {
+            ret.intmap = new TIntIntHashMap(intmap);
+        }
+        if (realmap != null) {
+            ret.realmap = new TIntObjectHashMap<>(realmap);
+        }
+        if (setmap != null) {
+            ret.setmap = new TIntObjectHashMap<>(setmap);
+        }
         return ret;
     }
 
+    private Integer intValOrNull(IntVar v) {
+        int p = recordedPosition(v);
+        if (p >= 0) {
+            return ints[layout.slots[p]];
+        }
+        return intmap != null && intmap.containsKey(v.getId()) ? intmap.get(v.getId()) : null;
+    }
+
+    private double[] realBoundsOrNull(RealVar r) {
+        int p = recordedPosition(r);
+        if (p >= 0) {
+            int slot = layout.slots[p];
+            return new double[]{reals[2 * slot], reals[2 * slot + 1]};
+        }
+        return realmap != null ? realmap.get(r.getId()) : null;
+    }
+
+    private int[] setValOrNull(SetVar s) {
+        int p = recordedPosition(s);
+        if (p >= 0) {
+            return sets[layout.slots[p]];
+        }
+        return setmap != null ? setmap.get(s.getId()) : null;
+    }
+
     /**
      * Get the value of variable v in this solution.
      * If <i>v</i> was not instantiated during solution recording, calling this method will throw an exception.
@@ -195,8 +301,9 @@ public class Solution implements ICause {
         if (empty) {
             throw new SolverException("Cannot access value of " + v + ": No solution has been recorded yet (empty solution). Make sure this.record() has been called.");
         }
-        if (intmap != null && intmap.containsKey(v.getId())) {
-            return intmap.get(v.getId());
+        Integer val = intValOrNull(v);
+        if (val != null) {
+            return val;
         } else {
             if ((v.getTypeAndKind() & Variable.TYPE) == Variable.CSTE) {
                 return v.getValue();
@@ -214,6 +321,12 @@ public class Solution implements ICause {
      */
     public void setIntVal(IntVar var, int val) {
         empty = false;
+        int p = position(var);
+        if (p >= 0) {
+            ints[layout.slots[p]] = val;
+            recorded.set(p);
+            return;
+        }
         if (intmap == null) {
             intmap = new TIntIntHashMap(16, .5f, Solution.NO_ENTRY, Solution.NO_ENTRY);
         }
@@ -223,6 +336,8 @@ public class Solution implements ICause {
     /**
      * Get the value of variable s in this solution.
      * If <i>v</i> was not instantiated during solution recording, calling this method will throw an exception.
+     * <p>
+     * The array returned may be overwritten by the next call to {@link #record()}: copy it to keep it.
      *
      * @param s SetVar
      * @return the value of variable s in this solution, or null if the variable is not instantiated in the solution.
@@ -232,8 +347,9 @@ public class Solution implements ICause {
         if (empty) {
             throw new SolverException("Cannot access value of " + s + ": No solution has been recorded yet (empty solution). Make sure this.record() has been called.");
         }
-        if (setmap != null && setmap.containsKey(s.getId())) {
-            return setmap.get(s.getId());
+        int[] val = setValOrNull(s);
+        if (val != null) {
+            return val;
         } else if ((s.getTypeAndKind() & Variable.TYPE) == Variable.CSTE) {
             return s.getValue().toArray();
         } else {
@@ -249,6 +365,12 @@ public class Solution implements ICause {
      */
     public void setSetVal(SetVar var, int[] val) {
         empty = false;
+        int p = position(var);
+        if (p >= 0) {
+            sets[layout.slots[p]] = val;
+            recorded.set(p);
+            return;
+        }
         if (setmap == null) {
             setmap = new TIntObjectHashMap<>(16, 05f, Solution.NO_ENTRY);
         }
@@ -267,8 +389,9 @@ public class Solution implements ICause {
         if (empty) {
             throw new SolverException("Cannot access value of " + r + ": No solution has been recorded yet (empty solution). Make sure this.record() has been called.");
         }
-        if (realmap != null && realmap.containsKey(r.getId())) {
-            return realmap.get(r.getId());
+        double[] bounds = realBoundsOrNull(r);
+        if (bounds != null) {
+            return bounds;
         } else {
             if ((r.getTypeAndKind() & Variable.TYPE) == Variable.CSTE) {
                 return new double[]{r.getLB(), r.getUB()};
@@ -286,12 +409,20 @@ public class Solution implements ICause {
      */
     public void setRealBounds(RealVar var, double[] val) {
         empty = false;
-        if (realmap == null) {
-            realmap = new TIntObjectHashMap<>(16, 05f, Solution.NO_ENTRY);
-        }
         if (val.length != 2) {
             throw new SolverException("wrong array size");
         }
+        int p = position(var);
+        if (p >= 0) {
+            int slot = layout.slots[p];
+            reals[2 * slot] = val[0];
+            reals[2 * slot + 1] = val[1];
+            recorded.set(p);
+            return;
+        }
+        if (realmap == null) {
+            realmap = new TIntObjectHashMap<>(16, 05f, Solution.NO_ENTRY);
+        }
         realmap.put(var.getId(), val);
     }
 
@@ -340,23 +471,23 @@ public class Solution implements ICause {
      *  @exception ContradictionException if restoring the solution leads to failure
      */
     public void restore() throws ContradictionException{
-        for (Variable var : varsToStore) {
+        for (Variable var : layout.vars) {
             if ((var.getTypeAndKind() & Variable.TYPE) != Variable.CSTE) {
                 int kind = var.getTypeAndKind() & Variable.KIND;
                 switch (kind) {
                     case Variable.INT:
                     case Variable.BOOL:
                         IntVar v = (IntVar) var;
-                        v.instantiateTo(intmap.get(v.getId()), this);
+                        v.instantiateTo(getIntVal(v), this);
                         break;
                     case Variable.REAL:
                         RealVar r = (RealVar) var;
-                        double[] bounds = realmap.get(r.getId());
+                        double[] bounds = getRealBounds(r);
                         r.updateBounds(bounds[0], bounds[1], this);
                         break;
                     case Variable.SET:
                         SetVar s = (SetVar) var;
-                        s.instantiateTo(setmap.get(s.getId()), this);
+                        s.instantiateTo(getSetVal(s), this);
                         break;
                     default:
                         // do not throw exception to allow extending the solver with other variable kinds (e.g. graph)
@@ -374,4 +505,65 @@ public class Solution implements ICause {
     public boolean exists(){
         return !empty;
     }
+
+    /**
+     * Variables to store, and the slot of each of them in the array of values of its kind.
+     * A layout is resolved once, and may be shared by several solutions (see {@link SolutionPool}).
+     */
+    static final class Layout {
+        /** Model to store */
+        private final Model model;
+        /** Variables to store, all the variables of the model when empty before resolution */
+        private Variable[] vars;
+        /** Position of each variable in {@link #vars} (id - position) */
+        private TIntIntHashMap positions;
+        /** Slot of each variable in the array of values of its kind */
+        private int[] slots;
+        /** Number of integer, real and set variables to store */
+        private int nbInts, nbReals, nbSets;
+
+        Layout(Model model, Variable[] vars) {
+            this.model = model;
+            this.vars = vars;
+        }
+
+        /**
+         * Fix the variables to store and compute their slots, on first call
+         */
+        void resolve() {
+            if (positions != null) {
+                return;
+            }
+            if (vars.length == 0) {
+                vars = model.getVars();
+            }
+            positions = new TIntIntHashMap(vars.length * 2, .5f, -1, -1);
+            slots = new int[vars.length];
+            for (int p = 0; p < vars.length; p++) {
+                Variable var = vars[p];
+                int first = positions.get(var.getId());
+                if (first >= 0) {
+                    // a variable declared twice shares the slot of its first occurrence
+                    slots[p] = slots[first];
+                    continue;
+                }
+                positions.put(var.getId(), p);
+                switch (var.getTypeAndKind() & Variable.KIND) {
+                    case Variable.INT:
+                    case Variable.BOOL:
+                        slots[p] = nbInts++;
+                        break;
+                    case Variable.REAL:
+                        slots[p] = nbReals++;
+                        break;
+                    case Variable.SET:
+                        slots[p] = nbSets++;
+                        break;
+                    default:
+                        slots[p] = -1;
+                        break;
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,84 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.variables.Variable;
+
+import java.util.ArrayDeque;
+
+/**
+ * A pool of {@link Solution} objects that store the same variables.
+ * <p>
+ * The variables to store, and the position of their values, are computed once and shared by all the solutions of
+ * the pool; released solutions are recycled, so that recording a solution does not allocate, except for set
+ * variables whose cardinality changes.
+ * <p>
+ * <pre>
+ *     {@code
+ *     SolutionPool pool = new SolutionPool(model, x, y);
+ *     Solution best = pool.acquire();
+ *     while (model.getSolver().solve()) {
+ *         Solution s = pool.acquire().record();
+ *         if (isBetter(s, best)) {
+ *             pool.release(best);
+ *             best = s;
+ *         } else {
+ *             pool.release(s);
+ *         }
+ *     }
+ *     }
+ * </pre>
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class SolutionPool {
+
+    private final Model model;
+    private final Solution.Layout layout;
+    private final ArrayDeque<Solution> free = new ArrayDeque<>();
+
+    /**
+     * Create a pool of solutions that store the value of each variable in <code>varsToStore</code>,
+     * or of each variable of the model when <code>varsToStore</code> is empty
+     *
+     * @param model       model of the solutions
+     * @param varsToStore variables to store
+     */
+    public SolutionPool(Model model, Variable... varsToStore) {
+        this.model = model;
+        this.layout = new Solution.Layout(model, varsToStore);
+    }
+
+    /**
+     * @return a solution of this pool, either recycled or new, to be recorded
+     */
+    public Solution acquire() {
+        Solution solution = free.pollFirst();
+        return solution != null ? solution : new Solution(model, layout);
+    }
+
+    /**
+     * Give back <i>solution</i> to the pool: it must not be used anymore by the caller.
+     *
+     * @param solution a solution acquired from this pool
+     */
+    public void release(Solution solution) {
+        free.addFirst(solution);
+    }
+
+    /**
+     * @return number of solutions available for recycling
+     */
+    public int available() {
+        return free.size();
+    }
+}
@@ -0,0 +1,192 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A solution monitor that appends the values of a fixed list of integer variables, on each solution,
+ * into primitive columnar buffers.
+ * <p>
+ * Solutions are stored by chunks: in a chunk, the values of a variable are contiguous.
+ * In memory, a new chunk is allocated every <i>chunk</i> solutions, and nothing is allocated in between.
+ * When a file is given, each full chunk is written to a memory-mapped region of the file, and the chunk is reused:
+ * the memory needed does not depend on the number of solutions.
+ * <p>
+ * <pre>
+ *     {@code
+ *     try (SolutionSink sink = new SolutionSink(Paths.get("sols.bin"), 1 << 16, x)) {
+ *         model.getSolver().plugMonitor(sink);
+ *         while (model.getSolver().solve()) ;
+ *         for (long k = 0; k < sink.size(); k++) {
+ *             sink.get(k, 0); // value of x[0] in the k^th solution
+ *         }
+ *     }
+ *     }
+ * </pre>
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class SolutionSink implements IMonitorSolution, Closeable {
+
+    /**
+     * Default number of solutions per chunk
+     */
+    public static final int DEFAULT_CHUNK = 1 << 12;
+
+    private final IntVar[] vars;
+    private final int chunk;
+    // current chunk, values of variable i in [i * chunk, (i+1) * chunk)
+    private int[] current;
+    private int filled;
+    // full chunks, either in memory or in the file
+    private final List<int[]> chunks = new ArrayList<>();
+    private final List<IntBuffer> mapped = new ArrayList<>();
+    private final Path file;
+    private FileChannel channel;
+
+    /**
+     * Create a sink that stores the solutions in memory
+     *
+     * @param chunk number of solutions per chunk
+     * @param vars  variables to store
+     */
+    public SolutionSink(int chunk, IntVar... vars) {
+        this.vars = vars.clone();
+        this.chunk = chunk;
+        this.current = new int[chunk * vars.length];
+        this.file = null;
+    }
+
+    /**
+     * Create a sink that spills full chunks of solutions to <i>file</i>, through memory-mapping.
+     * The file is created, or truncated if it already exists.
+     *
+     * @param file  file to write solutions into
+     * @param chunk number of solutions per chunk
+     * @param vars  variables to store
+     * @throws IOException if the file cannot be opened
+     */
+    public SolutionSink(Path file, int chunk, IntVar... vars) throws IOException {
+        this.vars = vars.clone();
+        this.chunk = chunk;
+        this.current = new int[chunk * vars.length];
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    @Override
+    public void onSolution() {
+        for (int i = 0, p = filled; i < vars.length; i++, p += chunk) {
+            current[p] = vars[i].getValue();
+        }
+        if (++filled == chunk) {
+            if (file != null) {
+                spill();
+            } else {
+                chunks.add(current);
+                current = new int[chunk * vars.length];
+            }
+            filled = 0;
+        }
+    }
+
+    private void spill() {
+        if (channel == null) {
+            throw new SolverException("Cannot spill solutions to " + file + ": the sink is closed");
+        }
+        long bytes = 4L * current.length;
+        try {
+            IntBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, mapped.size() * bytes, bytes)
+                    .order(ByteOrder.nativeOrder()).asIntBuffer();
+            buffer.put(current);
+            mapped.add(buffer);
+        } catch (IOException e) {
+            throw new SolverException("Cannot spill solutions to " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return number of solutions stored
+     */
+    public long size() {
+        return (long) (chunks.size() + mapped.size()) * chunk + filled;
+    }
+
+    /**
+     * @return number of variables stored per solution
+     */
+    public int arity() {
+        return vars.length;
+    }
+
+    /**
+     * @param sol index of a solution, in the order they were found
+     * @param var index of a variable, in the order they were given
+     * @return the value of the variable in the solution
+     */
+    public int get(long sol, int var) {
+        if (sol < 0 || sol >= size()) {
+            throw new IndexOutOfBoundsException("No solution " + sol + " (size: " + size() + ")");
+        }
+        int c = (int) (sol / chunk);
+        int p = var * chunk + (int) (sol % chunk);
+        if (c < chunks.size()) {
+            return chunks.get(c)[p];
+        } else if (c < mapped.size()) {
+            return mapped.get(c).get(p);
+        } else {
+            return current[p];
+        }
+    }
+
+    /**
+     * Copy the values of a solution into <i>into</i>
+     *
+     * @param sol  index of a solution, in the order they were found
+     * @param into receives the value of each variable, in the order they were given
+     * @return <i>into</i>
+     */
+    public int[] get(long sol, int[] into) {
+        for (int i = 0; i < vars.length; i++) {
+            into[i] = get(sol, i);
+        }
+        return into;
+    }
+
+    /**
+     * Close the file, if any. Solutions already stored remain readable, but no more solution can be added
+     * once the current chunk is full.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+}
@@ -72,6 +72,8 @@ public class ConstraintsName {
 
     public static final String DIFFNWITHCUMULATIVE = "DIFFNWITHCUMULATIVE";
 
+    public static final String DISJUNCTIVE = "DISJUNCTIVE";
+
     public static final String ELEMENT = "ELEMENT";
 
     public static final String INVERSECHANNELING = "INVERSECHANNELING";
@@ -174,6 +176,8 @@ public class ConstraintsName {
 
     public static final String SETCARD = "SETCARD";
 
+    public static final String PARETO = "PARETO";
+
 
 
 }
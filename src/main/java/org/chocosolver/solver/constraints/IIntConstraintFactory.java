@@ -19,6 +19,7 @@ import org.chocosolver.solver.constraints.binary.PropDistanceXYC;
 import org.chocosolver.solver.constraints.binary.PropScale;
 import org.chocosolver.solver.constraints.binary.PropSquare;
 import org.chocosolver.solver.constraints.binary.element.ElementFactory;
+import org.chocosolver.solver.constraints.extension.TableCompressor;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.constraints.extension.TuplesFactory;
 import org.chocosolver.solver.constraints.extension.binary.PropBinAC2001;
@@ -27,6 +28,7 @@ import org.chocosolver.solver.constraints.extension.binary.PropBinAC3bitrm;
 import org.chocosolver.solver.constraints.extension.binary.PropBinAC3rm;
 import org.chocosolver.solver.constraints.extension.binary.PropBinFC;
 import org.chocosolver.solver.constraints.extension.nary.PropCompactTable;
+import org.chocosolver.solver.constraints.extension.nary.PropCompactTableSparse;
 import org.chocosolver.solver.constraints.extension.nary.PropCompactTableStar;
 import org.chocosolver.solver.constraints.extension.nary.PropLargeFC;
 import org.chocosolver.solver.constraints.extension.nary.PropLargeGAC2001;
@@ -68,6 +70,7 @@ import org.chocosolver.solver.constraints.nary.count.PropCountVar;
 import org.chocosolver.solver.constraints.nary.count.PropCount_AC;
 import org.chocosolver.solver.constraints.nary.cumulative.CumulFilter;
 import org.chocosolver.solver.constraints.nary.cumulative.Cumulative;
+import org.chocosolver.solver.constraints.nary.disjunctive.PropDisjunctive;
 import org.chocosolver.solver.constraints.nary.element.PropElementV_fast;
 import org.chocosolver.solver.constraints.nary.globalcardinality.GlobalCardinality;
 import org.chocosolver.solver.constraints.nary.lex.PropLex;
@@ -1158,6 +1161,31 @@ public interface IIntConstraintFactory extends ISelf<Model> {
         return new Cumulative(tasks, heights, capacity, incremental, filters);
     }
 
+    /**
+     * Creates a disjunctive constraint (or unary resource constraint):
+     * Enforces that tasks do not overlap in time, that is, at most one task is processed at each point in time.
+     * <p>
+     * It filters with overload checking, detectable precedences, not-first/not-last and edge-finding,
+     * all based on Theta-Lambda trees (see {@link PropDisjunctive}).
+     * It is stronger and faster than a {@link #cumulative(Task[], IntVar[], IntVar)} with unitary heights and capacity.
+     *
+     * Task duration should be >= 0
+     * Discards tasks whose duration is equal to zero
+     *
+     * @param tasks Task objects containing start, duration and end variables
+     * @return a disjunctive constraint
+     */
+    default Constraint disjunctive(Task[] tasks) {
+        Task[] useful = Arrays.stream(tasks).filter(t -> t.getDuration().getUB() > 0).toArray(Task[]::new);
+        if (useful.length < 2) {
+            return ref().trueConstraint();
+        }
+        return new Constraint(ConstraintsName.DISJUNCTIVE, new PropDisjunctive(
+                Arrays.stream(useful).map(Task::getStart).toArray(IntVar[]::new),
+                Arrays.stream(useful).map(Task::getDuration).toArray(IntVar[]::new),
+                Arrays.stream(useful).map(Task::getEnd).toArray(IntVar[]::new)));
+    }
+
     /**
      * Creates and <b>posts</b> a decomposition of a cumulative constraint:
      * Enforces that at each point in time,
@@ -2017,19 +2045,35 @@ public interface IIntConstraintFactory extends ISelf<Model> {
      * Creates a table constraint specifying that the sequence of variables vars must belong to the list of tuples
      * (or must NOT belong in case of infeasible tuples)
      *
-     * Default configuration with GACSTR+ algorithm for feasible tuples and GAC3rm otherwise
+     * Default configuration with GACSTR+ algorithm for feasible tuples and GAC3rm otherwise.
+     * <p>
+     * When table compression is enabled (see {@link org.chocosolver.solver.Settings#enableTableCompression()}),
+     * large sets of allowed tuples may be compressed beforehand, either into short tuples filtered by Compact-Table,
+     * or into a multi-valued decision diagram (see {@link #mddc(IntVar[], MultivaluedDecisionDiagram)}),
+     * depending on the estimated cost of each option (see {@link TableCompressor}).
      *
      * @param vars      variables forming the tuples
      * @param tuples    the relation between the variables (list of allowed/forbidden tuples)
      */
     default Constraint table(IntVar[] vars, Tuples tuples) {
+        if (ref().getSettings().enableTableCompression() && TableCompressor.worthTrying(vars, tuples)) {
+            TableCompressor compressor = new TableCompressor(vars, tuples);
+            switch (compressor.evaluate()) {
+                case SHORT_TUPLES:
+                    return table(vars, compressor.getShortTuples(), "CT+");
+                case MDD:
+                    return mddc(vars, compressor.getMDD());
+                default:
+                    break;
+            }
+        }
         String algo = "GAC3rm";
         if (tuples.isFeasible()) {
             if (tuples.nbTuples() > 512 &&
                     (IntStream.range(0, vars.length)
                             .map(i -> tuples.max(i) - tuples.min(i))
                             .max().getAsInt()) < 256 || tuples.allowUniversalValue()) {
-                algo = "CT+";
+                algo = tuples.nbTuples() > 65536 ? "CT+S" : "CT+";
             } else {
                 algo = "GACSTR+";
             }
@@ -2042,6 +2086,8 @@ public interface IIntConstraintFactory extends ISelf<Model> {
      * <p>
      * - <b>CT+</b>: Compact-Table algorithm (AC),
      * <br/>
+     * - <b>CT+S</b>: Compact-Table algorithm (AC) with sparse supports, for very large tables,
+     * <br/>
      * - <b>GAC2001</b>: Arc Consistency version 2001 for tuples,
      * <br/>
      * - <b>GAC2001+</b>: Arc Consistency version 2001 for allowed tuples,
@@ -2060,7 +2106,7 @@ public interface IIntConstraintFactory extends ISelf<Model> {
      *
      * @param vars      variables forming the tuples
      * @param tuples    the relation between the variables (list of allowed/forbidden tuples). Should not be modified once passed to the constraint.
-     * @param algo to choose among {"TC+", "GAC3rm", "GAC2001", "GACSTR", "GAC2001+", "GAC3rm+", "FC", "STR2+"}
+     * @param algo to choose among {"TC+", "CT+S", "GAC3rm", "GAC2001", "GACSTR", "GAC2001+", "GAC3rm+", "FC", "STR2+"}
      */
     default Constraint table(IntVar[] vars, Tuples tuples, String algo) {
         if (!tuples.allowUniversalValue() && vars.length == 2) {
@@ -2091,6 +2137,9 @@ public interface IIntConstraintFactory extends ISelf<Model> {
                 }
             }
             break;
+            case "CT+S":
+                p = new PropCompactTableSparse(vars, tuples);
+                break;
             case "MDD+":
                 p = new PropLargeMDDC(new MultivaluedDecisionDiagram(vars, tuples), vars);
                 break;
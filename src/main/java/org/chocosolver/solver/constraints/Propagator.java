@@ -911,6 +911,21 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
         return 0;
     }
 
+    /**
+     * Apply scheduling instruction, regardless of the priority of this
+     * @param queues array of queues in which this can be scheduled
+     * @param queue index of the queue to schedule this in, strictly positive
+     * @return 0 if already scheduled, <i>queue</i> otherwise
+     */
+    public int doSchedule(CircularQueue<Propagator>[] queues, int queue){
+        if(!scheduled) {
+            queues[queue].addLast(this);
+            schedule();
+            return queue;
+        }
+        return 0;
+    }
+
     public void doScheduleEvent(int pindice, int mask){
         fineevt.accept(pindice, mask);
     }
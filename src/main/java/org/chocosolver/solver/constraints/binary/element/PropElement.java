@@ -11,9 +11,13 @@ package org.chocosolver.solver.constraints.binary.element;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.learn.ExplanationForSignedClause;
+import org.chocosolver.solver.learn.Implications;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.ValueSortedMap;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableBitSet;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 import org.chocosolver.util.tools.ArrayUtils;
 
 /**
@@ -97,6 +101,61 @@ public class PropElement extends Propagator<IntVar> {
 		}
 	}
 
+    /**
+     * Indices removed from <i>index</i> are explained by the values they point to, which are not in <i>result</i>.
+     * Values removed from <i>result</i> are explained by the indices which point to them, which are not
+     * in <i>index</i>.
+     * Out of range indices and values that do not appear in the table need no explanation.
+     */
+    @Override
+    public void explain(ExplanationForSignedClause explanation, ValueSortedMap<IntVar> front, Implications ig, int p) {
+        IntVar pivot = ig.getIntVarAt(p);
+        if (index == result) {
+            defaultExplain(this, explanation, front, ig, p);
+            return;
+        }
+        IntIterableRangeSet removed = explanation.getSet(pivot);
+        removed.removeAll(ig.getDomainAt(p));
+        IntIterableRangeSet set = explanation.getFreeSet();
+        if (pivot == index) {
+            // values pointed to by the removed indices
+            IntIterableRangeSet dres = ig.getDomainAt(front.getValue(result));
+            for (int i = 0; i < values.length; i++) {
+                if (removed.contains(i + offset)) {
+                    if (dres.contains(values[i])) {
+                        explanation.returnSet(removed);
+                        explanation.returnSet(set);
+                        defaultExplain(this, explanation, front, ig, p);
+                        return;
+                    }
+                    set.add(values[i]);
+                }
+            }
+            set.retainAll(ig.getRootDomain(result));
+            explanation.addLiteral(result, set, false);
+        } else {
+            // indices pointing to the removed values
+            IntIterableRangeSet didx = ig.getDomainAt(front.getValue(index));
+            for (int i = 0; i < values.length; i++) {
+                if (removed.contains(values[i])) {
+                    if (didx.contains(i + offset)) {
+                        explanation.returnSet(removed);
+                        explanation.returnSet(set);
+                        defaultExplain(this, explanation, front, ig, p);
+                        return;
+                    }
+                    set.add(i + offset);
+                }
+            }
+            set.retainAll(ig.getRootDomain(index));
+            explanation.addLiteral(index, set, false);
+        }
+        set = explanation.getRootSet(pivot);
+        set.removeAll(removed);
+        explanation.returnSet(removed);
+        explanation.addLiteral(pivot, set, true);
+    }
+
     @Override
     public ESat isEntailed() {
         if (index.getUB() < offset || index.getLB() >= offset + values.length) {
@@ -0,0 +1,402 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.extension;
+
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.graphs.MultivaluedDecisionDiagram;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+
+/**
+ * Compression of a set of allowed tuples, before posting a table constraint.
+ * <p>
+ * Two compressed forms are evaluated:
+ * <ul>
+ * <li>short tuples: tuples that only differ on one variable, and cover its entire domain, are merged into a
+ * single tuple where the value of this variable is replaced by the universal value (see
+ * {@link Tuples#setUniversalValue(int)}). Variables are treated one after the other, from the last one to the first one.
+ * Short tuples are filtered with Compact-Table (see {@link org.chocosolver.solver.constraints.extension.nary.PropCompactTableStar}),</li>
+ * <li>a multi-valued decision diagram, where shared prefixes and suffixes of the tuples are merged.
+ * Its size is computed in a single pass over the sorted tuples, without building it
+ * (see {@link org.chocosolver.solver.constraints.extension.nary.PropLargeMDDC}).</li>
+ * </ul>
+ * A cost model estimates, in 64-bit words, the memory footprint and the work done by one propagation of
+ * each option, and the flat table.
+ * A compressed form is selected only if its cost is clearly smaller than the one of the flat table
+ * (see {@link #MIN_GAIN}).
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class TableCompressor {
+
+    /**
+     * Minimum number of tuples to try compression
+     */
+    public static int MIN_TUPLES = 1024;
+    /**
+     * Weight of the work done by one propagation in the cost of an option, relatively to its memory footprint
+     */
+    public static int TIME_WEIGHT = 4;
+    /**
+     * A compressed form is selected if its cost is less than MIN_GAIN times the cost of the flat table
+     */
+    public static double MIN_GAIN = .5;
+    /**
+     * Maximum number of cells needed to build an MDD (before reduction)
+     */
+    public static long MAX_MDD_CELLS = 1L << 24;
+
+    /**
+     * Options to post a table constraint
+     */
+    public enum Choice {
+        /**
+         * The tuples as they are given
+         */
+        FLAT,
+        /**
+         * Short tuples, with universal values
+         */
+        SHORT_TUPLES,
+        /**
+         * A multi-valued decision diagram
+         */
+        MDD
+    }
+
+    private final IntVar[] vars;
+    private final Tuples tuples;
+    // valid tuples, sorted and without duplicates
+    private int[][] rows;
+    private Tuples shortTuples;
+    private long flatCost, shortCost = Long.MAX_VALUE, mddCost = Long.MAX_VALUE;
+    private Choice choice;
+
+    /**
+     * Create a compressor for the allowed <i>tuples</i> over <i>vars</i>
+     *
+     * @param vars   variables
+     * @param tuples allowed tuples, without universal value
+     */
+    public TableCompressor(IntVar[] vars, Tuples tuples) {
+        this.vars = vars;
+        this.tuples = tuples;
+    }
+
+    /**
+     * @return <i>true</i> if compression of <i>tuples</i> is worth trying:
+     * allowed tuples, without universal value, on at least 3 distinct variables
+     * and at least {@link #MIN_TUPLES} tuples
+     */
+    public static boolean worthTrying(IntVar[] vars, Tuples tuples) {
+        if (!tuples.isFeasible() || tuples.allowUniversalValue()
+                || tuples.nbTuples() < MIN_TUPLES || vars.length < 3 || tuples.arity() != vars.length) {
+            return false;
+        }
+        IdentityHashMap<IntVar, Boolean> distinct = new IdentityHashMap<>();
+        for (IntVar var : vars) {
+            if (distinct.put(var, Boolean.TRUE) != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Evaluate each option and select the cheapest one.
+     *
+     * @return the selected option
+     */
+    public Choice evaluate() {
+        if (choice == null) {
+            int n = vars.length;
+            long dom = 0;
+            for (IntVar var : vars) {
+                dom += var.getDomainSize();
+            }
+            flatCost = ctCost(tuples.nbTuples(), dom, n, false);
+            rows = validRows();
+            int star = Integer.MAX_VALUE;
+            for (IntVar var : vars) {
+                star = Math.min(star, var.getLB());
+            }
+            if (star > Integer.MIN_VALUE) {
+                int[][] compressed = compress(rows, star - 1);
+                if (compressed.length < rows.length) {
+                    shortTuples = new Tuples(true);
+                    shortTuples.setUniversalValue(star - 1);
+                    for (int[] row : compressed) {
+                        shortTuples.add(row);
+                    }
+                    shortCost = ctCost(compressed.length, dom, n, true);
+                }
+            }
+            long[] size = mddSize(rows);
+            if (size != null) {
+                // cells are ints, each edge is visited by a propagation
+                mddCost = (size[1] + 1) / 2 + TIME_WEIGHT * size[0];
+            }
+            choice = Choice.FLAT;
+            long best = (long) (flatCost * MIN_GAIN);
+            if (shortCost < best) {
+                choice = Choice.SHORT_TUPLES;
+                best = shortCost;
+            }
+            if (mddCost < best) {
+                choice = Choice.MDD;
+            }
+        }
+        return choice;
+    }
+
+    /**
+     * @return estimated cost of the flat table
+     */
+    public long getFlatCost() {
+        evaluate();
+        return flatCost;
+    }
+
+    /**
+     * @return estimated cost of the short tuples, {@link Long#MAX_VALUE} if they cannot be compressed
+     */
+    public long getShortTuplesCost() {
+        evaluate();
+        return shortCost;
+    }
+
+    /**
+     * @return estimated cost of the MDD, {@link Long#MAX_VALUE} if it is too large to be built
+     */
+    public long getMDDCost() {
+        evaluate();
+        return mddCost;
+    }
+
+    /**
+     * @return the short tuples, <i>null</i> if the tuples cannot be compressed
+     */
+    public Tuples getShortTuples() {
+        evaluate();
+        return shortTuples;
+    }
+
+    /**
+     * @return a new MDD encoding the tuples
+     */
+    public MultivaluedDecisionDiagram getMDD() {
+        evaluate();
+        return new MultivaluedDecisionDiagram(vars, new Tuples(rows, true));
+    }
+
+    /**
+     * Cost of Compact-Table: one bitset of the size of the table per value, plus one per value for
+     * short tuples, and a propagation updates the current table once per variable
+     */
+    private static long ctCost(long nbTuples, long dom, int arity, boolean star) {
+        long words = (nbTuples + 63) / 64;
+        long cost = words * dom + TIME_WEIGHT * words * arity;
+        return star ? 2 * cost : cost;
+    }
+
+    /**
+     * @return the tuples whose values all belong to the domains of the variables, in lexicographic order and
+     * without duplicates
+     */
+    private int[][] validRows() {
+        int n = vars.length;
+        int[][] valid = new int[tuples.nbTuples()][];
+        int k = 0;
+        for (int t = 0; t < tuples.nbTuples(); t++) {
+            boolean ok = true;
+            for (int i = 0; i < n && ok; i++) {
+                ok = vars[i].contains(tuples.get(t, i));
+            }
+            if (ok) {
+                valid[k++] = tuples.get(t);
+            }
+        }
+        valid = Arrays.copyOf(valid, k);
+        Arrays.sort(valid, lex(-1));
+        int m = 0;
+        for (int t = 0; t < k; t++) {
+            if (m == 0 || !Arrays.equals(valid[m - 1], valid[t])) {
+                valid[m++] = valid[t];
+            }
+        }
+        return Arrays.copyOf(valid, m);
+    }
+
+    /**
+     * @return a lexicographic comparator, where column <i>last</i> (if any) is compared last
+     */
+    private static Comparator<int[]> lex(int last) {
+        return (t1, t2) -> {
+            for (int i = 0; i < t1.length; i++) {
+                if (i != last && t1[i] != t2[i]) {
+                    return Integer.compare(t1[i], t2[i]);
+                }
+            }
+            return last < 0 ? 0 : Integer.compare(t1[last], t2[last]);
+        };
+    }
+
+    /**
+     * Merge tuples that only differ on one column and cover the domain of its variable.
+     *
+     * @param rows distinct valid tuples
+     * @param star the universal value
+     * @return compressed tuples
+     */
+    private int[][] compress(int[][] rows, int star) {
+        int[][] current = rows.clone();
+        for (int i = vars.length - 1; i >= 0; i--) {
+            int d = vars[i].getDomainSize();
+            if (d > current.length) {
+                continue;
+            }
+            Arrays.sort(current, lex(i));
+            int[][] next = new int[current.length][];
+            int m = 0;
+            int s = 0;
+            while (s < current.length) {
+                // [s, e) have the same values except on column i
+                int e = s + 1;
+                while (e < current.length && sameExcept(current[s], current[e], i)) {
+                    e++;
+                }
+                if (e - s == d) {
+                    int[] row = current[s].clone();
+                    row[i] = star;
+                    next[m++] = row;
+                } else {
+                    System.arraycopy(current, s, next, m, e - s);
+                    m += e - s;
+                }
+                s = e;
+            }
+            current = Arrays.copyOf(next, m);
+        }
+        return current;
+    }
+
+    private static boolean sameExcept(int[] t1, int[] t2, int col) {
+        for (int i = 0; i < t1.length; i++) {
+            if (i != col && t1[i] != t2[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compute the size of the reduced MDD of the sorted rows, in a single pass: the nodes of the current path
+     * are kept open, and a node is closed (and merged with an identical one, if any) as soon as
+     * the next row leaves its subtree.
+     *
+     * @param rows distinct tuples in lexicographic order
+     * @return the number of edges and cells of the reduced MDD, or <i>null</i> if building it would need more than
+     * {@link #MAX_MDD_CELLS} cells
+     */
+    private long[] mddSize(int[][] rows) {
+        int n = vars.length;
+        int[] widths = new int[n];
+        for (int i = 0; i < n; i++) {
+            widths[i] = vars[i].getUB() - vars[i].getLB() + 1;
+        }
+        // open nodes: edges (value, child) of the current path, per layer
+        int[][] open = new int[n][8];
+        int[] sizes = new int[n];
+        HashMap<Node, Integer> register = new HashMap<>();
+        long[] counts = new long[2]; // edges, cells
+        long trieCells = widths[0];
+        int[] prev = null;
+        for (int[] row : rows) {
+            int p = 0;
+            if (prev != null) {
+                while (row[p] == prev[p]) {
+                    p++;
+                }
+                for (int k = n - 1; k > p; k--) {
+                    open[k - 1][sizes[k - 1] - 1] = close(k, open, sizes, register, counts, widths);
+                }
+            }
+            for (int k = p; k < n; k++) {
+                if (k > p) {
+                    trieCells += widths[k];
+                }
+                if (sizes[k] + 2 > open[k].length) {
+                    open[k] = Arrays.copyOf(open[k], open[k].length * 2);
+                }
+                open[k][sizes[k]++] = row[k];
+                open[k][sizes[k]++] = -1;
+            }
+            if (trieCells > MAX_MDD_CELLS) {
+                return null;
+            }
+            prev = row;
+        }
+        if (prev != null) {
+            for (int k = n - 1; k > 0; k--) {
+                open[k - 1][sizes[k - 1] - 1] = close(k, open, sizes, register, counts, widths);
+            }
+            close(0, open, sizes, register, counts, widths);
+        }
+        return counts;
+    }
+
+    private static int close(int layer, int[][] open, int[] sizes, HashMap<Node, Integer> register,
+                             long[] counts, int[] widths) {
+        Node node = new Node(layer, Arrays.copyOf(open[layer], sizes[layer]));
+        sizes[layer] = 0;
+        Integer id = register.get(node);
+        if (id == null) {
+            id = register.size();
+            register.put(node, id);
+            counts[0] += node.edges.length / 2;
+            counts[1] += widths[layer];
+        }
+        return id;
+    }
+
+    /**
+     * A node of an MDD, identified by its layer and its outgoing edges
+     */
+    private static final class Node {
+        private final int layer;
+        private final int[] edges;
+        private final int hash;
+
+        private Node(int layer, int[] edges) {
+            this.layer = layer;
+            this.edges = edges;
+            this.hash = 31 * layer + Arrays.hashCode(edges);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Node)) {
+                return false;
+            }
+            Node other = (Node) o;
+            return layer == other.layer && Arrays.equals(edges, other.edges);
+        }
+    }
+}
@@ -11,16 +11,24 @@ package org.chocosolver.solver.constraints.extension;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.sort.ArraySort;
 
-import java.util.ArrayList;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
-import java.util.Comparator;
-import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
 
 /**
  * A unique interface to declare tuples for table constraints.
  * Handles both feasible tuples and forbidden tuples.
  * <br/>
+ * Tuples are stored column by column, in primitive arrays, so that adding a tuple does not create any object.
+ * Large sets of tuples can be loaded from a stream (see {@link #addAll(int, IntStream)} and
+ * {@link #addAll(InputStream)}), and then packed (see {@link #pack()}).
+ * A value is better accessed with {@link #get(int, int)}, {@link #get(int)} creates a new array on each call.
+ * <br/>
  *
  * @author Charles Prud'homme
  * @since 22/04/2014
@@ -32,7 +40,15 @@ public class Tuples {
 	//***********************************************************************************
 
 	private final boolean feasible;
-	protected final List<int[]> tuples;
+	/**
+	 * Values of the tuples, column by column: the i^th value of the t^th tuple is columns[i][t]
+	 */
+	private int[][] columns;
+	/**
+	 * Packed columns, once {@link #pack()} is called
+	 */
+	private PackedColumn[] packed;
+	private int size, capacity;
 	private int arity;
 	private int[] ranges;
 	private boolean allowStar;
@@ -53,7 +69,6 @@ public class Tuples {
      */
     public Tuples(int[][] values, boolean feasible) {
         this.feasible = feasible;
-        tuples = new ArrayList<>();
         for(int[] t : values){
             add(t);
         }
@@ -67,7 +82,6 @@ public class Tuples {
 	 */
 	public Tuples(boolean feasible) {
 		this.feasible = feasible;
-		tuples = new ArrayList<>();
 	}
 
 	/**
@@ -128,10 +142,10 @@ public class Tuples {
 			}
 		}
 		for (int ti = 0; ti < nbTuples(); ti++) {
-			int[] tuple = tuples.get(ti);
 			boolean valid = true;
 			for (int i = 0; i < values.length && valid; i++) {
-				valid = tuple[i] == values[i] || (allowStar && tuple[i] == star);
+				int v = get(ti, i);
+				valid = v == values[i] || (allowStar && v == star);
 			}
 			if (valid) {
 				return isFeasible()? ESat.TRUE: ESat.FALSE;
@@ -147,19 +161,136 @@ public class Tuples {
 	 * @throws org.chocosolver.solver.exception.SolverException if the size of the tuple added does not correspond to a the previous ones (if any).
 	 */
 	public void add(int... tuple) {
-		if (tuples.size() == 0) {
-			arity = tuple.length;
+		add(tuple, tuple.length);
+	}
+
+	/**
+	 * Add the tuple made of the <i>length</i> first values of <i>tuple</i>
+	 */
+	private void add(int[] tuple, int length) {
+		if (packed != null) {
+			throw new SolverException("Packed tuples cannot be modified");
+		}
+		if (size == 0) {
+			arity = length;
 			ranges = new int[2 * arity];
 			Arrays.fill(ranges, 0, arity, Integer.MAX_VALUE);
 			Arrays.fill(ranges, arity, 2 * arity, Integer.MIN_VALUE);
-		} else if (arity != tuple.length) {
+			if (columns == null || columns.length != arity) {
+				capacity = 16;
+				columns = new int[arity][capacity];
+			}
+		} else if (arity != length) {
 			throw new SolverException("The given tuple does not match the arity: " + arity);
 		}
-		tuples.add(tuple.clone());
+		if (size == capacity) {
+			capacity = capacity * 3 / 2 + 1;
+			for (int i = 0; i < arity; i++) {
+				columns[i] = Arrays.copyOf(columns[i], capacity);
+			}
+		}
 		for (int i = 0; i < arity; i++) {
+			columns[i][size] = tuple[i];
 			ranges[i] = Math.min(ranges[i], tuple[i]);
 			ranges[i + arity] = Math.max(ranges[i + arity], tuple[i]);
 		}
+		size++;
+	}
+
+	/**
+	 * Add the tuples given by <i>values</i>, one after the other:
+	 * the <i>arity</i> first values form the first tuple, the <i>arity</i> next ones form the second tuple, and so on.
+	 * No object is created per tuple.
+	 *
+	 * @param arity  arity of the tuples
+	 * @param values values of the tuples
+	 * @throws SolverException if the number of values is not a multiple of <i>arity</i>,
+	 *                         or if <i>arity</i> does not correspond to the previous tuples (if any).
+	 */
+	public void addAll(int arity, IntStream values) {
+		int[] tuple = new int[arity];
+		int k = 0;
+		PrimitiveIterator.OfInt it = values.iterator();
+		while (it.hasNext()) {
+			tuple[k++] = it.nextInt();
+			if (k == arity) {
+				add(tuple, arity);
+				k = 0;
+			}
+		}
+		if (k > 0) {
+			throw new SolverException("The number of values is not a multiple of the arity: " + arity);
+		}
+	}
+
+	/**
+	 * Add the tuples read from <i>in</i>, in text format: one tuple per line, values are separated by
+	 * spaces, tabulations or commas. Empty lines are ignored.
+	 * No object is created per tuple.
+	 *
+	 * @param in an input stream, not closed by this method
+	 * @throws IOException     if an I/O error occurs
+	 * @throws SolverException if a tuple does not match the arity or if an unexpected character is read
+	 */
+	public void addAll(InputStream in) throws IOException {
+		BufferedInputStream bin = new BufferedInputStream(in, 1 << 16);
+		int[] tuple = new int[size > 0 ? arity : 16];
+		int k = 0;
+		long value = 0;
+		boolean inValue = false, negative = false;
+		int c;
+		do {
+			c = bin.read();
+			if (c >= '0' && c <= '9') {
+				value = value * 10 + (c - '0');
+				inValue = true;
+			} else if (c == '-' && !inValue && !negative) {
+				negative = true;
+			} else if (c == ' ' || c == '\t' || c == ',' || c == '\r' || c == '\n' || c == -1) {
+				if (inValue) {
+					if (k == tuple.length) {
+						tuple = Arrays.copyOf(tuple, k * 2);
+					}
+					tuple[k++] = (int) (negative ? -value : value);
+				} else if (negative) {
+					throw new SolverException("Unexpected character in tuples: '-'");
+				}
+				value = 0;
+				inValue = negative = false;
+				if ((c == '\n' || c == -1) && k > 0) {
+					add(tuple, k);
+					k = 0;
+				}
+			} else {
+				throw new SolverException("Unexpected character in tuples: '" + (char) c + "'");
+			}
+		} while (c != -1);
+	}
+
+	/**
+	 * Pack the values: each column is stored with the minimum number of bits, either as the offset of the value
+	 * from the minimum value of the column or as the code of the value in a dictionary of the distinct values
+	 * of the column, whichever is smaller.
+	 * Once packed, tuples cannot be modified anymore.
+	 * Packing is worthwhile for very large sets of tuples, at the price of a slower access to values.
+	 */
+	public void pack() {
+		if (packed == null && size > 0) {
+			packed = new PackedColumn[arity];
+			for (int i = 0; i < arity; i++) {
+				packed[i] = PackedColumn.make(columns[i], size, ranges[i], ranges[i + arity]);
+				columns[i] = null;
+			}
+			columns = null;
+		}
+	}
+
+	/**
+	 * @return <i>true</i> if the tuples are packed
+	 * @see #pack()
+	 */
+	public boolean isPacked() {
+		return packed != null;
 	}
 
 	/**
@@ -208,21 +339,45 @@ public class Tuples {
 	 * @return number of tuples stored
 	 */
 	public int nbTuples() {
-		return tuples.size();
+		return size;
 	}
 
 	/**
-	 * Return the idx^th tuple
+	 * Return the arity of the tuples
+	 *
+	 * @return the arity of the tuples, 0 if there is none
+	 */
+	public int arity() {
+		return size > 0 ? arity : 0;
+	}
+
+	/**
+	 * Return the idx^th tuple, as a new array
 	 */
 	public int[] get(int idx) {
-		return tuples.get(idx);
+		int[] tuple = new int[arity];
+		for (int i = 0; i < arity; i++) {
+			tuple[i] = get(idx, i);
+		}
+		return tuple;
+	}
+
+	/**
+	 * Return the value of the col^th column of the idx^th tuple
+	 *
+	 * @param idx index of the tuple
+	 * @param col index of the column
+	 * @return the value
+	 */
+	public int get(int idx, int col) {
+		return packed == null ? columns[col][idx] : packed[col].get(idx);
 	}
 
 	@Override
 	public String toString() {
 		StringBuilder st = new StringBuilder(isFeasible() ? "Allowed" : "Fordidden").append(" tuples: {");
-		for (int i = 0; i < tuples.size(); i++) {
-			st.append(Arrays.toString(tuples.get(i)));
+		for (int i = 0; i < size; i++) {
+			st.append(Arrays.toString(get(i)));
 		}
 
 		st.append("}");
@@ -234,28 +389,136 @@ public class Tuples {
 	 * @return an array of tuples, each tuple is an int array
 	 */
 	public int[][] toMatrix() {
-		int i = 0;
-		int[][] matrix = new int[tuples.size()][];
-		for (int[] tuple : tuples) {
-			matrix[i++] = tuple.clone();
+		int[][] matrix = new int[size][];
+		for (int t = 0; t < size; t++) {
+			matrix[t] = get(t);
 		}
 		return matrix;
 	}
 
+	/**
+	 * Sort the tuples in lexicographic order
+	 */
 	public void sort() {
-		tuples.sort(new TupleComparator());
+		if (size == 0) {
+			return;
+		}
+		int[] order = new int[size];
+		for (int t = 0; t < size; t++) {
+			order[t] = t;
+		}
+		new ArraySort<>(size, false, true).sort(order, size, (t1, t2) -> {
+			int i = 0;
+			while (i < arity && get(t1, i) == get(t2, i)) {
+				i++;
+			}
+			return i == arity ? 0 : Integer.compare(get(t1, i), get(t2, i));
+		});
+		if (packed != null) {
+			for (int i = 0; i < arity; i++) {
+				packed[i] = packed[i].permute(order, size);
+			}
+		} else {
+			for (int i = 0; i < arity; i++) {
+				int[] column = new int[capacity];
+				for (int t = 0; t < size; t++) {
+					column[t] = columns[i][order[t]];
+				}
+				columns[i] = column;
+			}
+		}
 	}
 
-	private static class TupleComparator implements Comparator<int[]> {
+	/**
+	 * A column of values stored with the minimum number of bits
+	 */
+	private static final class PackedColumn {
+		// dictionary of the distinct values, null when values are stored as offsets from min
+		private final int[] dictionary;
+		private final int min;
+		private final int bits;
+		private final long mask;
+		private final long[] data;
+
+		private PackedColumn(int[] dictionary, int min, int bits, int size) {
+			this.dictionary = dictionary;
+			this.min = min;
+			this.bits = bits;
+			this.mask = bits == 0 ? 0L : -1L >>> (64 - bits);
+			this.data = new long[(int) (((long) size * bits + 63) >>> 6)];
+		}
 
-		@Override
-		public int compare(int[] o1, int[] o2) {
-			int i = 0;
-			int l = o1.length;
-			while (i < l && o1[i] == o2[i]) {
-				i++;
+		/**
+		 * Pack the <i>size</i> first values of <i>values</i>, whose bounds are <i>min</i> and <i>max</i>
+		 */
+		static PackedColumn make(int[] values, int size, int min, int max) {
+			int[] dictionary = dictionary(values, size, min, max);
+			int bits = dictionary == null ? bitsFor((long) max - min) : bitsFor(dictionary.length - 1);
+			PackedColumn column = new PackedColumn(dictionary, min, bits, size);
+			if (bits > 0) {
+				for (int t = 0; t < size; t++) {
+					column.set(t, column.code(values[t]));
+				}
+			}
+			return column;
+		}
+
+		private static int[] dictionary(int[] values, int size, int min, int max) {
+			int[] sorted = Arrays.copyOf(values, size);
+			Arrays.sort(sorted);
+			int n = 0;
+			for (int t = 0; t < size; t++) {
+				if (n == 0 || sorted[n - 1] != sorted[t]) {
+					sorted[n++] = sorted[t];
+				}
+			}
+			return bitsFor(n - 1) < bitsFor((long) max - min) ? Arrays.copyOf(sorted, n) : null;
+		}
+
+		private static int bitsFor(long range) {
+			return 64 - Long.numberOfLeadingZeros(range);
+		}
+
+		int get(int idx) {
+			long code = 0L;
+			if (bits > 0) {
+				long pos = (long) idx * bits;
+				int w = (int) (pos >>> 6);
+				int b = (int) (pos & 63);
+				code = data[w] >>> b;
+				if (b + bits > 64) {
+					code |= data[w + 1] << (64 - b);
+				}
+				code &= mask;
+			}
+			return dictionary == null ? (int) (code + min) : dictionary[(int) code];
+		}
+
+		private void set(int idx, long code) {
+			long pos = (long) idx * bits;
+			int w = (int) (pos >>> 6);
+			int b = (int) (pos & 63);
+			data[w] |= code << b;
+			if (b + bits > 64) {
+				data[w + 1] |= code >>> (64 - b);
 			}
-			return (i == l ? 0 : o1[i] - o2[i]);
+		}
+
+		/**
+		 * @return a copy of this, where the t^th value is the order[t]^th value of this
+		 */
+		PackedColumn permute(int[] order, int size) {
+			PackedColumn column = new PackedColumn(dictionary, min, bits, size);
+			if (bits > 0) {
+				for (int t = 0; t < size; t++) {
+					column.set(t, code(get(order[t])));
+				}
+			}
+			return column;
+		}
+
+		private long code(int value) {
+			return dictionary == null ? (long) value - min : Arrays.binarySearch(dictionary, value);
 		}
 	}
 }
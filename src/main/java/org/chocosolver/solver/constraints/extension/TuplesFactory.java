@@ -49,7 +49,7 @@ public class TuplesFactory {
             t[j] = doms[j][0];
         }
         while (true) {
-            if (filter.valid(t)) tuples.add(t.clone());
+            if (filter.valid(t)) tuples.add(t);
             int j;
             for (j = 0; j < n; j++) {
                 i[j]++;
@@ -84,7 +84,7 @@ public class TuplesFactory {
             t[j] = cvalue[j] = vars[j].getLB();
         }
         while (true) {
-            if (filter.valid(t)) tuples.add(t.clone());
+            if (filter.valid(t)) tuples.add(t);
             int j;
             for (j = 0; j < n; j++) {
                 int v = t[j] = cvalue[j] = vars[j].nextValue(cvalue[j]);
@@ -287,7 +287,7 @@ public class TuplesFactory {
             for (int i = 0; i < VARS.length; i++) {
                 t[i] = k;
             }
-            tuples.add(t.clone());
+            tuples.add(t);
         }
         return tuples;
         /*return generateTuples(new TupleValidator() {
@@ -341,14 +341,14 @@ public class TuplesFactory {
         Tuples left = generateTuples(TupleValidator.TRUE, true, VARS);
         Tuples tuples = new Tuples(true);
         int n = VARS.length;
-        for (int[] tleft : left.tuples) {
+        int[] t = new int[n + 1];
+        for (int k = 0; k < left.nbTuples(); k++) {
             int right = 0;
             for (int i = 0; i < n; i++) {
-                right += tleft[i] * COEFFS[i];
+                t[i] = left.get(k, i);
+                right += t[i] * COEFFS[i];
             }
             if (right % SCALAR_COEFF == 0 && SCALAR.contains(right / SCALAR_COEFF)) {
-                int[] t = new int[n + 1];
-                System.arraycopy(tleft, 0, t, 0, n);
                 t[n] = right / SCALAR_COEFF;
                 tuples.add(t);
             }
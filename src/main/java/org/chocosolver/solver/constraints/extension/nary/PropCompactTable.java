@@ -15,10 +15,14 @@ import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.learn.ExplanationForSignedClause;
+import org.chocosolver.solver.learn.Implications;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.ValueSortedMap;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 import org.chocosolver.util.procedure.UnaryIntProcedure;
 
 /**
@@ -108,7 +112,7 @@ public class PropCompactTable extends Propagator<IntVar> {
 				int wI = 0;
 				int bI = 63;
 				for (int ti = 0; ti < tuples.nbTuples(); ti++) {
-					if (tuples.get(ti)[i] == v) {
+					if (tuples.get(ti, i) == v) {
 						tmp[wI] |= 1L << (bI);
 					}
 					bI--;
@@ -227,6 +231,124 @@ public class PropCompactTable extends Propagator<IntVar> {
 		}
 	}
 
+    /**
+     * Values removed from a variable x are explained by the tuples they are supported by:
+     * each of these tuples is invalid because of the domain of another variable.
+     * Variables are greedily selected, the one which invalidates the most remaining tuples first, until
+     * all tuples are invalid.
+     * For each selected variable y, the literal is restricted to the values of y which support
+     * the tuples it invalidates.
+     */
+    @Override
+    public void explain(ExplanationForSignedClause explanation, ValueSortedMap<IntVar> front, Implications ig, int p) {
+        if (!explainBySupports(explanation, front, ig, p)) {
+            defaultExplain(this, explanation, front, ig, p);
+        }
+    }
+
+    private boolean explainBySupports(ExplanationForSignedClause explanation, ValueSortedMap<IntVar> front,
+                                      Implications ig, int p) {
+        IntVar pivot = ig.getIntVarAt(p);
+        int x = -1;
+        for (int i = 0; i < vars.length; i++) {
+            if (vars[i] == pivot) {
+                if (x >= 0) {
+                    return false;
+                }
+                x = i;
+            }
+        }
+        if (x < 0) {
+            return false;
+        }
+        int nw = currTable.words.length;
+        // tuples which support the removed values
+        IntIterableRangeSet removed = explanation.getSet(pivot);
+        removed.removeAll(ig.getDomainAt(p));
+        long[] remaining = new long[nw];
+        for (int v = 0; v < supports[x].length; v++) {
+            if (removed.contains(v + offset[x])) {
+                for (int w = 0; w < nw; w++) {
+                    remaining[w] |= supports[x][v][w];
+                }
+            }
+        }
+        // tuples invalidated by each other variable
+        long[][] killed = new long[vars.length][nw];
+        for (int i = 0; i < vars.length; i++) {
+            if (i != x) {
+                IntIterableRangeSet dom = ig.getDomainAt(front.getValue(vars[i]));
+                for (int v = 0; v < supports[i].length; v++) {
+                    if (dom.contains(v + offset[i])) {
+                        for (int w = 0; w < nw; w++) {
+                            killed[i][w] |= supports[i][v][w];
+                        }
+                    }
+                }
+                for (int w = 0; w < nw; w++) {
+                    killed[i][w] = remaining[w] & ~killed[i][w];
+                }
+            }
+        }
+        // greedy cover
+        boolean[] selected = new boolean[vars.length];
+        int count = 0;
+        for (int w = 0; w < nw; w++) {
+            count += Long.bitCount(remaining[w]);
+        }
+        while (count > 0) {
+            int best = -1, bestCount = 0;
+            for (int i = 0; i < vars.length; i++) {
+                if (i != x && !selected[i]) {
+                    int c = 0;
+                    for (int w = 0; w < nw; w++) {
+                        c += Long.bitCount(remaining[w] & killed[i][w]);
+                    }
+                    if (c > bestCount) {
+                        best = i;
+                        bestCount = c;
+                    }
+                }
+            }
+            if (best < 0) {
+                explanation.returnSet(removed);
+                return false;
+            }
+            selected[best] = true;
+            count -= bestCount;
+            for (int w = 0; w < nw; w++) {
+                killed[best][w] &= remaining[w];
+                remaining[w] &= ~killed[best][w];
+            }
+        }
+        for (int i = 0; i < vars.length; i++) {
+            if (selected[i]) {
+                IntIterableRangeSet root = ig.getRootDomain(vars[i]);
+                IntIterableRangeSet set = explanation.getFreeSet();
+                for (int v = 0; v < supports[i].length; v++) {
+                    if (root.contains(v + offset[i]) && intersect(supports[i][v], killed[i])) {
+                        set.add(v + offset[i]);
+                    }
+                }
+                explanation.addLiteral(vars[i], set, false);
+            }
+        }
+        IntIterableRangeSet set = explanation.getRootSet(pivot);
+        set.removeAll(removed);
+        explanation.returnSet(removed);
+        explanation.addLiteral(pivot, set, true);
+        return true;
+    }
+
+    private static boolean intersect(long[] w1, long[] w2) {
+        for (int w = 0; w < w1.length; w++) {
+            if ((w1[w] & w2[w]) != 0L) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public ESat isEntailed() {
 		// TODO optim : check current according to currTable?
@@ -0,0 +1,398 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.extension.nary;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.procedure.UnaryIntProcedure;
+
+import java.util.Arrays;
+
+/**
+ * Propagator for table constraint based on
+ * "Compact-Table: Efficiently Filtering Table Constraints with Reversible Sparse Bit-Sets",
+ * dedicated to very large tables.
+ * Only for feasible Tuples, short tuples (see {@link Tuples#setUniversalValue(int)}) are accepted.
+ * <p>
+ * It differs from {@link PropCompactTable} on three points:
+ * <ul>
+ *     <li>the current table is an array of primitive words, and a modified word is trailed at most once per world
+ *     in a primitive array (based on the environment time stamp), with one undo operation per world,</li>
+ *     <li>the supports of a value are stored sparsely, as the list of its non-zero words,</li>
+ *     <li>on a variable modification, the mask is computed from the removed values (delta)
+ *     or from the remaining ones (reset), whichever is smaller.</li>
+ * </ul>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class PropCompactTableSparse extends Propagator<IntVar> {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    private static final int[] NO_INDEX = new int[0];
+    private static final long[] NO_WORD = new long[0];
+
+    private final IEnvironment environment;
+    private final Tuples tuples; // only for checker
+    // current table, and non-zero words in index[0, limit]
+    private final long[] words;
+    private final int[] index;
+    private final IStateInt limit;
+    private final long[] mask;
+    // trail of the modified words: position and previous value
+    private int[] trailIndex;
+    private long[] trailValue;
+    private int trailSize;
+    // time stamp at which each word was last trailed, and at which the last undo operation was stored
+    private final int[] stamps;
+    private int lastStamp;
+    // supports of each value, as sparse lists of words: position of the word and word
+    private int[][][] supIndex;
+    private long[][][] supWords;
+    // supports of each value without short tuples, same as the previous ones when there is no universal value
+    private int[][][] incIndex;
+    private long[][][] incWords;
+    // position, in the sparse list, of the last support word found
+    private int[][] residues;
+    private int[] offset;
+    private final IIntDeltaMonitor[] monitors;
+    private final UnaryIntProcedure<Integer> onValRem;
+
+    //***********************************************************************************
+    // CONSTRUCTOR
+    //***********************************************************************************
+
+    /**
+     * Create a propagator for table constraint
+     * Only for feasible Tuples
+     *
+     * @param vars   scope
+     * @param tuples list of feasible tuples
+     */
+    public PropCompactTableSparse(IntVar[] vars, Tuples tuples) {
+        super(vars, PropagatorPriority.QUADRATIC, true);
+        this.tuples = tuples;
+        this.environment = model.getEnvironment();
+        int nw = (tuples.nbTuples() + 63) >>> 6;
+        this.words = new long[nw];
+        this.index = new int[nw];
+        this.mask = new long[nw];
+        this.stamps = new int[nw];
+        for (int i = 0; i < nw; i++) {
+            index[i] = i;
+            stamps[i] = -1;
+        }
+        Arrays.fill(words, -1L);
+        if ((tuples.nbTuples() & 63) != 0) {
+            // unused bits of the last word
+            words[nw - 1] = (1L << (tuples.nbTuples() & 63)) - 1;
+        }
+        this.limit = environment.makeInt(nw - 1);
+        this.lastStamp = -1;
+        this.trailIndex = new int[16];
+        this.trailValue = new long[16];
+        computeSupports(tuples);
+        monitors = new IIntDeltaMonitor[vars.length];
+        for (int i = 0; i < vars.length; i++) {
+            monitors[i] = vars[i].monitorDelta(this);
+        }
+        onValRem = new UnaryIntProcedure<Integer>() {
+            int var, off;
+
+            @Override
+            public UnaryIntProcedure set(Integer o) {
+                var = o;
+                off = offset[var];
+                return this;
+            }
+
+            @Override
+            public void execute(int i) throws ContradictionException {
+                addToMask(incIndex[var][i - off], incWords[var][i - off]);
+            }
+        };
+    }
+
+    //***********************************************************************************
+    // INITIALIZATION
+    //***********************************************************************************
+
+    /**
+     * Build the sparse supports in a single pass over the tuples
+     */
+    private void computeSupports(Tuples tuples) {
+        int n = vars.length;
+        boolean star = tuples.allowUniversalValue();
+        int st = star ? tuples.getStarValue() : 0;
+        offset = new int[n];
+        residues = new int[n][];
+        supIndex = new int[n][][];
+        supWords = new long[n][][];
+        int[][] sizes = new int[n][];
+        int[][] incSizes = new int[n][];
+        if (star) {
+            incIndex = new int[n][][];
+            incWords = new long[n][][];
+        }
+        for (int i = 0; i < n; i++) {
+            int d = vars[i].getUB() - vars[i].getLB() + 1;
+            offset[i] = vars[i].getLB();
+            residues[i] = new int[d];
+            supIndex[i] = new int[d][];
+            supWords[i] = new long[d][];
+            sizes[i] = new int[d];
+            if (star) {
+                incIndex[i] = new int[d][];
+                incWords[i] = new long[d][];
+                incSizes[i] = new int[d];
+            }
+        }
+        for (int t = 0; t < tuples.nbTuples(); t++) {
+            int w = t >>> 6;
+            long bit = 1L << (t & 63);
+            for (int i = 0; i < n; i++) {
+                int v = tuples.get(t, i);
+                if (star && v == st) {
+                    int ub = vars[i].getUB();
+                    for (int u = vars[i].getLB(); u <= ub; u = vars[i].nextValue(u)) {
+                        append(supIndex[i], supWords[i], sizes[i], u - offset[i], w, bit);
+                    }
+                } else if (vars[i].contains(v)) {
+                    append(supIndex[i], supWords[i], sizes[i], v - offset[i], w, bit);
+                    if (star) {
+                        append(incIndex[i], incWords[i], incSizes[i], v - offset[i], w, bit);
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            trim(supIndex[i], supWords[i], sizes[i]);
+            if (star) {
+                trim(incIndex[i], incWords[i], incSizes[i]);
+            }
+        }
+        if (!star) {
+            incIndex = supIndex;
+            incWords = supWords;
+        }
+    }
+
+    private static void append(int[][] idx, long[][] ws, int[] sizes, int j, int w, long bit) {
+        int s = sizes[j];
+        if (s > 0 && idx[j][s - 1] == w) {
+            ws[j][s - 1] |= bit;
+            return;
+        }
+        if (idx[j] == null) {
+            idx[j] = new int[2];
+            ws[j] = new long[2];
+        } else if (s == idx[j].length) {
+            idx[j] = Arrays.copyOf(idx[j], s * 3 / 2 + 1);
+            ws[j] = Arrays.copyOf(ws[j], s * 3 / 2 + 1);
+        }
+        idx[j][s] = w;
+        ws[j][s] = bit;
+        sizes[j]++;
+    }
+
+    private static void trim(int[][] idx, long[][] ws, int[] sizes) {
+        for (int j = 0; j < idx.length; j++) {
+            if (idx[j] == null) {
+                idx[j] = NO_INDEX;
+                ws[j] = NO_WORD;
+            } else if (sizes[j] < idx[j].length) {
+                idx[j] = Arrays.copyOf(idx[j], sizes[j]);
+                ws[j] = Arrays.copyOf(ws[j], sizes[j]);
+            }
+        }
+    }
+
+    //***********************************************************************************
+    // FILTERING
+    //***********************************************************************************
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        if (PropagatorEventType.isFullPropagation(evtmask)) {
+            for (int i = 0; i < vars.length; i++) {
+                resetMask(i);
+                intersectWithMask();
+            }
+        }
+        filterDomains();
+        for (int i = 0; i < vars.length; i++) {
+            monitors[i].unfreeze();
+        }
+    }
+
+    @Override
+    public void propagate(int vIdx, int mask) throws ContradictionException {
+        monitors[vIdx].freeze();
+        if (vars[vIdx].getDomainSize() > monitors[vIdx].sizeApproximation()) {
+            // delta: tuples supported by the removed values are removed
+            clearMask();
+            monitors[vIdx].forEachRemVal(onValRem.set(vIdx));
+            reverseMask();
+        } else {
+            // reset: tuples supported by the remaining values are kept
+            resetMask(vIdx);
+        }
+        intersectWithMask();
+        monitors[vIdx].unfreeze();
+        if (isEmpty()) { // fail as soon as possible
+            fails();
+        }
+        forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
+    }
+
+    private void filterDomains() throws ContradictionException {
+        if (isEmpty()) {
+            fails();
+        }
+        for (int i = 0; i < vars.length; i++) {
+            if (vars[i].hasEnumeratedDomain()) {
+                int ub = vars[i].getUB();
+                for (int v = vars[i].getLB(); v <= ub; v = vars[i].nextValue(v)) {
+                    if (!supported(i, v - offset[i])) {
+                        vars[i].removeValue(v, this);
+                    }
+                }
+            } else {
+                int lb = vars[i].getLB();
+                int ub = vars[i].getUB();
+                while (lb <= ub && !supported(i, lb - offset[i])) {
+                    lb++;
+                }
+                while (ub > lb && !supported(i, ub - offset[i])) {
+                    ub--;
+                }
+                vars[i].updateBounds(lb, ub, this);
+            }
+        }
+    }
+
+    /**
+     * @return <tt>true</tt> if the value at position <i>j</i> of variable <i>i</i> is supported by a valid tuple
+     */
+    private boolean supported(int i, int j) {
+        int[] idx = supIndex[i][j];
+        long[] ws = supWords[i][j];
+        int r = residues[i][j];
+        if (r < idx.length && (words[idx[r]] & ws[r]) != 0L) {
+            return true;
+        }
+        for (int k = 0; k < idx.length; k++) {
+            if ((words[idx[k]] & ws[k]) != 0L) {
+                residues[i][j] = k;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public ESat isEntailed() {
+        return tuples.check(vars);
+    }
+
+    //***********************************************************************************
+    // SPARSE BIT SET
+    //***********************************************************************************
+
+    private boolean isEmpty() {
+        return limit.get() == -1;
+    }
+
+    private void clearMask() {
+        for (int i = limit.get(); i >= 0; i--) {
+            mask[index[i]] = 0L;
+        }
+    }
+
+    private void reverseMask() {
+        for (int i = limit.get(); i >= 0; i--) {
+            int o = index[i];
+            mask[o] = ~mask[o];
+        }
+    }
+
+    private void addToMask(int[] idx, long[] ws) {
+        for (int k = 0; k < idx.length; k++) {
+            mask[idx[k]] |= ws[k];
+        }
+    }
+
+    /**
+     * Set the mask to the tuples supported by the current domain of variable <i>i</i>
+     */
+    private void resetMask(int i) {
+        clearMask();
+        int ub = vars[i].getUB();
+        for (int v = vars[i].getLB(); v <= ub; v = vars[i].nextValue(v)) {
+            addToMask(supIndex[i][v - offset[i]], supWords[i][v - offset[i]]);
+        }
+    }
+
+    private void intersectWithMask() {
+        int lim = limit.get();
+        for (int i = lim; i >= 0; i--) {
+            int o = index[i];
+            long w = words[o] & mask[o];
+            if (words[o] != w) {
+                save(o);
+                words[o] = w;
+                if (w == 0L) {
+                    index[i] = index[lim];
+                    index[lim] = o;
+                    lim--;
+                }
+            }
+        }
+        limit.set(lim);
+    }
+
+    /**
+     * Trail the word at position <i>o</i>, if not already done in the current world
+     */
+    private void save(int o) {
+        int ts = environment.getTimeStamp();
+        if (stamps[o] != ts && environment.getWorldIndex() > 0) {
+            stamps[o] = ts;
+            if (lastStamp != ts) {
+                lastStamp = ts;
+                int from = trailSize;
+                environment.save(() -> restore(from));
+            }
+            if (trailSize == trailIndex.length) {
+                trailIndex = Arrays.copyOf(trailIndex, trailSize * 3 / 2 + 1);
+                trailValue = Arrays.copyOf(trailValue, trailSize * 3 / 2 + 1);
+            }
+            trailIndex[trailSize] = o;
+            trailValue[trailSize++] = words[o];
+        }
+    }
+
+    private void restore(int from) {
+        while (trailSize > from) {
+            trailSize--;
+            words[trailIndex[trailSize]] = trailValue[trailSize];
+        }
+    }
+}
@@ -86,7 +86,7 @@ public class PropCompactTableStar extends PropCompactTable {
                 int wI = 0;
                 int bI = 63;
                 for (int ti = 0; ti < tuples.nbTuples(); ti++) {
-                    int val = tuples.get(ti)[i];
+                    int val = tuples.get(ti, i);
                     long index = 1L << bI;
                     if (val == v) {
                         // main reason we re-wrote the class
@@ -0,0 +1,163 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.alldifferent;
+
+import gnu.trove.impl.Constants;
+import gnu.trove.map.hash.TIntIntHashMap;
+import gnu.trove.set.hash.TIntHashSet;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.learn.ExplanationForSignedClause;
+import org.chocosolver.solver.learn.Implications;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.ValueSortedMap;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+
+/**
+ * Explanation of the values removed by an alldifferent propagator (AC or BC) by a Hall set.
+ * <p>
+ * Let x be the pivot variable and R the values removed from x.
+ * A maximum matching of the other variables into their domains (as they were before the propagation) is computed.
+ * Then, starting from the values of R, alternating paths are followed: a value leads to the variable it is
+ * matched to, and a variable leads to the values of its domain.
+ * If no free value is reached, the variables visited, H, are matched to the values visited, U,
+ * and the domains of variables of H are included in U: H is a Hall set and x cannot take any value of U.
+ * The explanation is then:
+ * <pre>
+ *     (&and;<sub>y &isin; H</sub> y &isin; U) &rarr; x &notin; U
+ * </pre>
+ * that is, in DNF:
+ * <pre>
+ *     (&or;<sub>y &isin; H</sub> y &isin; (root(y) \ U)) &or; x &isin; (root(x) \ U)
+ * </pre>
+ * When no Hall set is found (for instance, when the pruning is due to a global failure or when domains are
+ * too large to be enumerated), the default explanation is used.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+class HallSetExplanation {
+
+    /**
+     * Maximum number of values to enumerate, beyond that the default explanation is used
+     */
+    private static final int MAX_VALUES = 1 << 16;
+
+    private HallSetExplanation() {
+    }
+
+    /**
+     * Explain the modification of the pivot variable at position <i>p</i> made by <i>prop</i>,
+     * an alldifferent propagator.
+     */
+    static void explain(Propagator<IntVar> prop, IntVar[] vars, ExplanationForSignedClause explanation,
+                        ValueSortedMap<IntVar> front, Implications ig, int p) {
+        if (!explainByHallSet(vars, explanation, front, ig, p)) {
+            Propagator.defaultExplain(prop, explanation, front, ig, p);
+        }
+    }
+
+    private static boolean explainByHallSet(IntVar[] vars, ExplanationForSignedClause explanation,
+                                            ValueSortedMap<IntVar> front, Implications ig, int p) {
+        IntVar pivot = ig.getIntVarAt(p);
+        // domains of the other variables, before propagation
+        int m = 0, nbValues = 0, occ = 0;
+        IntIterableRangeSet[] doms = new IntIterableRangeSet[vars.length];
+        int[] idx = new int[vars.length];
+        for (int i = 0; i < vars.length; i++) {
+            if (vars[i] == pivot) {
+                occ++;
+            } else {
+                doms[m] = ig.getDomainAt(front.getValue(vars[i]));
+                nbValues += doms[m].size();
+                if (doms[m].size() == 0 || nbValues > MAX_VALUES) {
+                    return false;
+                }
+                idx[m++] = i;
+            }
+        }
+        if (occ != 1) {
+            return false;
+        }
+        // maximum matching of the other variables, value -> variable
+        TIntIntHashMap matching = new TIntIntHashMap(Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR,
+                Integer.MIN_VALUE, -1);
+        TIntIntHashMap stamps = new TIntIntHashMap(Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR,
+                Integer.MIN_VALUE, -1);
+        for (int k = 0; k < m; k++) {
+            augment(k, k, doms, matching, stamps);
+        }
+        // alternating paths from the removed values
+        IntIterableRangeSet removed = explanation.getSet(pivot);
+        removed.removeAll(ig.getDomainAt(p));
+        if (removed.size() == 0 || removed.size() > MAX_VALUES) {
+            explanation.returnSet(removed);
+            return false;
+        }
+        TIntHashSet visited = new TIntHashSet();
+        int[] queue = new int[nbValues + removed.size()];
+        int head = 0, tail = 0;
+        boolean[] inHall = new boolean[m];
+        for (int v = removed.min(); v != Integer.MAX_VALUE; v = removed.nextValue(v)) {
+            visited.add(v);
+            queue[tail++] = v;
+        }
+        explanation.returnSet(removed);
+        while (head < tail) {
+            int k = matching.get(queue[head++]);
+            if (k == -1) {
+                // a free value is reachable
+                return false;
+            }
+            if (!inHall[k]) {
+                inHall[k] = true;
+                for (int v = doms[k].min(); v != Integer.MAX_VALUE; v = doms[k].nextValue(v)) {
+                    if (visited.add(v)) {
+                        queue[tail++] = v;
+                    }
+                }
+            }
+        }
+        IntIterableRangeSet values = explanation.getFreeSet();
+        for (int i = 0; i < tail; i++) {
+            values.add(queue[i]);
+        }
+        for (int k = 0; k < m; k++) {
+            if (inHall[k]) {
+                IntIterableRangeSet set = explanation.getRootSet(vars[idx[k]]);
+                set.removeAll(values);
+                explanation.addLiteral(vars[idx[k]], set, false);
+            }
+        }
+        IntIterableRangeSet set = explanation.getRootSet(pivot);
+        set.removeAll(values);
+        explanation.addLiteral(pivot, set, true);
+        explanation.returnSet(values);
+        return true;
+    }
+
+    /**
+     * Look for an augmenting path from variable <i>k</i> (Kuhn's algorithm).
+     */
+    private static boolean augment(int k, int stamp, IntIterableRangeSet[] doms,
+                                   TIntIntHashMap matching, TIntIntHashMap stamps) {
+        for (int v = doms[k].min(); v != Integer.MAX_VALUE; v = doms[k].nextValue(v)) {
+            if (stamps.get(v) != stamp) {
+                stamps.put(v, stamp);
+                int o = matching.get(v);
+                if (o == -1 || augment(o, stamp, doms, matching, stamps)) {
+                    matching.put(v, k);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
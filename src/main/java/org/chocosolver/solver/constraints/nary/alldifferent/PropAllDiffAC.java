@@ -12,8 +12,11 @@ import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.nary.alldifferent.algo.AlgoAllDiffAC;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.learn.ExplanationForSignedClause;
+import org.chocosolver.solver.learn.Implications;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.ValueSortedMap;
 
 /**
  * Propagator for AllDifferent AC constraint for integer variables
@@ -64,4 +67,13 @@ public class PropAllDiffAC extends Propagator<IntVar> {
         return ESat.TRUE; // redundant propagator (used with PropAllDiffInst)
     }
 
+    /**
+     * Values removed from a variable are explained by a Hall set of the other variables,
+     * see {@link HallSetExplanation}.
+     */
+    @Override
+    public void explain(ExplanationForSignedClause explanation, ValueSortedMap<IntVar> front, Implications ig, int p) {
+        HallSetExplanation.explain(this, vars, explanation, front, ig, p);
+    }
+
 }
@@ -12,12 +12,6 @@ import gnu.trove.map.hash.TIntIntHashMap;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
-import org.chocosolver.util.graphOperations.connectivity.StrongConnectivityFinder;
-import org.chocosolver.util.objects.graphs.DirectedGraph;
-import org.chocosolver.util.objects.setDataStructures.ISetIterator;
-import org.chocosolver.util.objects.setDataStructures.SetType;
-
-import java.util.BitSet;
 
 /**
  * Algorithm of Alldifferent with AC
@@ -26,9 +20,16 @@ import java.util.BitSet;
  * Runs in O(m.n) worst case time for the initial propagation
  * but has a good average behavior in practice
  * <p/>
- * Keeps track of previous matching for further calls
+ * Keeps track of previous matching for further calls:
+ * since domains only grow upon backtrack, the matching remains valid, and only the variables whose matched value
+ * has been removed since the last call are matched again.
+ * <p/>
+ * The graph is stored in primitive arrays: the values of each variable are copied into an adjacency array
+ * (compressed sparse rows) at each call, values are matched by the variables, and strongly connected components are
+ * computed with an iterative version of Tarjan's algorithm.
+ * Runs in O(n+m) for each further call, plus the cost of repairing the matching.
  * <p/>
- * 
+ *
  * @author Jean-Guillaume Fages
  */
 public class AlgoAllDiffAC {
@@ -37,19 +38,28 @@ public class AlgoAllDiffAC {
     // VARIABLES
     //***********************************************************************************
 
+    // variables are nodes [0,n), values are nodes [n,n2), n2 is the sink (linked to free values)
     private int n, n2;
-    private DirectedGraph digraph;
-    private int[] matching;
-    private int[] nodeSCC;
-    private BitSet free;
-    private StrongConnectivityFinder SCCfinder;
+    private IntVar[] vars;
+    private ICause aCause;
+    // value -> node, and node -> value
+    private TIntIntHashMap map;
+    private int[] dense;
+    private int offset;
+    private int[] values;
+    // matched node of each node, -1 if free
+    private int[] mate;
+    // values of each variable (compressed sparse rows)
+    private int[] start;
+    private int[] adj;
     // for augmenting matching (BFS)
     private int[] father;
-    private BitSet in;
-    private TIntIntHashMap map;
     private int[] fifo;
-    private IntVar[] vars;
-    private ICause aCause;
+    private int[] seen;
+    private int stamp;
+    // for SCC (Tarjan)
+    private int[] index, low, nodeSCC, stack, calls, next;
+    private boolean[] onStack;
 
     //***********************************************************************************
     // CONSTRUCTORS
@@ -59,17 +69,18 @@ public class AlgoAllDiffAC {
         this.vars = variables;
 		aCause = cause;
         n = vars.length;
-        matching = new int[n];
-        for (int i = 0; i < n; i++) {
-            matching[i] = -1;
-        }
         map = new TIntIntHashMap();
         IntVar v;
         int ub;
         int idx = n;
+        int m = 0;
+        int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
         for (int i = 0; i < n; i++) {
             v = vars[i];
             ub = v.getUB();
+            min = Math.min(min, v.getLB());
+            max = Math.max(max, ub);
+            m += v.getDomainSize();
             for (int j = v.getLB(); j <= ub; j = v.nextValue(j)) {
                 if (!map.containsKey(j)) {
                     map.put(j, idx);
@@ -78,12 +89,36 @@ public class AlgoAllDiffAC {
             }
         }
         n2 = idx;
-        fifo = new int[n2];
-        digraph = new DirectedGraph(n2 + 1, SetType.BITSET, false);
-        free = new BitSet(n2);
+        values = new int[n2 - n];
+        map.forEachEntry((val, node) -> {
+            values[node - n] = val;
+            return true;
+        });
+        if (n > 0 && (long) max - min < 4L * (n2 - n) + 64) {
+            // values are dense enough to be indexed by an array
+            offset = min;
+            dense = new int[max - min + 1];
+            map.forEachEntry((val, node) -> {
+                dense[val - offset] = node;
+                return true;
+            });
+        }
+        mate = new int[n2];
+        for (int i = 0; i < n2; i++) {
+            mate[i] = -1;
+        }
+        start = new int[n + 1];
+        adj = new int[m];
         father = new int[n2];
-        in = new BitSet(n2);
-        SCCfinder = new StrongConnectivityFinder(digraph);
+        fifo = new int[n];
+        seen = new int[n2];
+        index = new int[n2 + 1];
+        low = new int[n2 + 1];
+        nodeSCC = new int[n2 + 1];
+        stack = new int[n2 + 1];
+        calls = new int[n2 + 1];
+        next = new int[n2 + 1];
+        onStack = new boolean[n2 + 1];
     }
 
     //***********************************************************************************
@@ -99,72 +134,66 @@ public class AlgoAllDiffAC {
     // Initialization
     //***********************************************************************************
 
+    private int node(int value) {
+        return dense != null ? dense[value - offset] : map.get(value);
+    }
+
     private void findMaximumMatching() throws ContradictionException {
-        for (int i = 0; i < n2; i++) {
-            digraph.getSuccOf(i).clear();
-            digraph.getPredOf(i).clear();
-        }
-        free.set(0, n2);
-        int k, ub;
+        int k = 0, ub;
         IntVar v;
         for (int i = 0; i < n; i++) {
             v = vars[i];
+            // the matched value may have been removed since the last call
+            if (mate[i] != -1 && !v.contains(values[mate[i] - n])) {
+                mate[mate[i]] = -1;
+                mate[i] = -1;
+            }
+            start[i] = k;
             ub = v.getUB();
-            int mate = matching[i];
-            for (k = v.getLB(); k <= ub; k = v.nextValue(k)) {
-                int j = map.get(k);
-                if (mate == j) {
-                    assert free.get(i) && free.get(j);
-                    digraph.addArc(j, i);
-                    free.clear(i);
-                    free.clear(j);
-                } else {
-                    digraph.addArc(i, j);
-                }
+            for (int j = v.getLB(); j <= ub; j = v.nextValue(j)) {
+                adj[k++] = node(j);
             }
         }
-        for (int i = free.nextSetBit(0); i >= 0 && i < n; i = free.nextSetBit(i + 1)) {
-            tryToMatch(i);
-        }
+        start[n] = k;
         for (int i = 0; i < n; i++) {
-            matching[i] = digraph.getPredOf(i).isEmpty()?-1:digraph.getPredOf(i).iterator().next();
+            if (mate[i] == -1) {
+                tryToMatch(i);
+            }
         }
     }
 
     private void tryToMatch(int i) throws ContradictionException {
-        int mate = augmentPath_BFS(i);
-        if (mate != -1) {
-            free.clear(mate);
-            free.clear(i);
-            int tmp = mate;
-            while (tmp != i) {
-                digraph.removeArc(father[tmp], tmp);
-                digraph.addArc(tmp, father[tmp]);
-                tmp = father[tmp];
+        int mt = augmentPath_BFS(i);
+        if (mt != -1) {
+            // flip the edges along the alternating path
+            int j = mt;
+            while (j != -1) {
+                int x = father[j];
+                int nj = mate[x];
+                mate[x] = j;
+                mate[j] = x;
+                j = x == i ? -1 : nj;
             }
         } else {
-            vars[0].instantiateTo(vars[0].getLB()-1,aCause);
+            vars[0].instantiateTo(vars[0].getLB() - 1, aCause);
         }
     }
 
     private int augmentPath_BFS(int root) {
-        in.clear();
+        stamp++;
         int indexFirst = 0, indexLast = 0;
         fifo[indexLast++] = root;
-        int x;
-        ISetIterator succs;
         while (indexFirst != indexLast) {
-            x = fifo[indexFirst++];
-            succs = digraph.getSuccOf(x).iterator();
-            while (succs.hasNext()) {
-                int y = succs.nextInt();
-                if (!in.get(y)) {
+            int x = fifo[indexFirst++];
+            for (int k = start[x]; k < start[x + 1]; k++) {
+                int y = adj[k];
+                if (seen[y] != stamp) {
+                    seen[y] = stamp;
                     father[y] = x;
-                    fifo[indexLast++] = y;
-                    in.set(y);
-                    if (free.get(y)) {
+                    if (mate[y] == -1) {
                         return y;
                     }
+                    fifo[indexLast++] = mate[y];
                 }
             }
         }
@@ -175,60 +204,110 @@ public class AlgoAllDiffAC {
     // PRUNING
     //***********************************************************************************
 
+    /**
+     * @return the successor of <i>u</i> at position <i>p</i> (and beyond), or -1 if there is none.
+     * The position of the successor found is stored in next[u].
+     * A variable leads to its values, except the matched one, a matched value leads to its variable, a free value
+     * leads to the sink and the sink leads to matched values.
+     */
+    private int succ(int u, int p) {
+        if (u < n) {
+            for (int k = start[u] + p; k < start[u + 1]; k++) {
+                if (adj[k] != mate[u]) {
+                    next[u] = k - start[u] + 1;
+                    return adj[k];
+                }
+            }
+        } else if (u < n2) {
+            if (p == 0) {
+                next[u] = 1;
+                return mate[u] != -1 ? mate[u] : n2 - n > n ? n2 : -1;
+            }
+        } else {
+            for (int j = n + p; j < n2; j++) {
+                if (mate[j] != -1) {
+                    next[u] = j - n + 1;
+                    return j;
+                }
+            }
+        }
+        return -1;
+    }
+
     private void buildSCC() {
-        if (n2 > n * 2) {
-            digraph.removeNode(n2);
-            digraph.addNode(n2);
-            for (int i = n; i < n2; i++) {
-                if (free.get(i)) {
-                    digraph.addArc(i, n2);
-                } else {
-                    digraph.addArc(n2, i);
+        int size = n2 - n > n ? n2 + 1 : n2;
+        for (int u = 0; u < size; u++) {
+            index[u] = -1;
+        }
+        int idx = 0, nbSCC = 0, top = 0;
+        for (int r = 0; r < size; r++) {
+            if (index[r] != -1) {
+                continue;
+            }
+            int depth = 0;
+            calls[depth++] = r;
+            index[r] = low[r] = idx++;
+            next[r] = 0;
+            stack[top++] = r;
+            onStack[r] = true;
+            while (depth > 0) {
+                int u = calls[depth - 1];
+                int w = succ(u, next[u]);
+                if (w == -1) {
+                    depth--;
+                    if (low[u] == index[u]) {
+                        int x;
+                        do {
+                            x = stack[--top];
+                            onStack[x] = false;
+                            nodeSCC[x] = nbSCC;
+                        } while (x != u);
+                        nbSCC++;
+                    }
+                    if (depth > 0) {
+                        int f = calls[depth - 1];
+                        low[f] = Math.min(low[f], low[u]);
+                    }
+                } else if (index[w] == -1) {
+                    index[w] = low[w] = idx++;
+                    next[w] = 0;
+                    stack[top++] = w;
+                    onStack[w] = true;
+                    calls[depth++] = w;
+                } else if (onStack[w]) {
+                    low[u] = Math.min(low[u], index[w]);
                 }
             }
         }
-        SCCfinder.findAllSCC();
-        nodeSCC = SCCfinder.getNodesSCC();
-        digraph.removeNode(n2);
     }
 
     private boolean filter() throws ContradictionException {
-        boolean filter =false;
+        boolean filter = false;
         buildSCC();
-        int j, ub;
         IntVar v;
         for (int i = 0; i < n; i++) {
             v = vars[i];
-            ub = v.getUB();
-            for (int k = v.getLB(); k <= ub; k = v.nextValue(k)) {
-                j = map.get(k);
-                if (nodeSCC[i] != nodeSCC[j]) {
-                    if (matching[i] == j) {
-                        filter |= v.instantiateTo(k, aCause);
-                    } else {
-                        filter |= v.removeValue(k, aCause);
-                        digraph.removeArc(i, j);
+            if (v.hasEnumeratedDomain()) {
+                for (int k = start[i]; k < start[i + 1]; k++) {
+                    int j = adj[k];
+                    if (nodeSCC[i] != nodeSCC[j]) {
+                        if (mate[i] == j) {
+                            filter |= v.instantiateTo(values[j - n], aCause);
+                        } else {
+                            filter |= v.removeValue(values[j - n], aCause);
+                        }
                     }
                 }
-            }
-        }
-        for (int i = 0; i < n; i++) {
-            v = vars[i];
-            if (!v.hasEnumeratedDomain()) {
-                ub = v.getUB();
-                for (int k = v.getLB(); k <= ub; k++) {
-                    j = map.get(k);
-                    if (!(digraph.arcExists(i, j) || digraph.arcExists(j, i))) {
-                        filter |= v.removeValue(k, aCause);
-                    }
+            } else {
+                // only bounds can be removed
+                int f = start[i], l = start[i + 1] - 1;
+                while (f < l && nodeSCC[i] != nodeSCC[adj[f]] && mate[i] != adj[f]) {
+                    f++;
                 }
-                int lb = v.getLB();
-                for (int k = v.getUB(); k >= lb; k--) {
-                    j = map.get(k);
-                    if (!(digraph.arcExists(i, j) || digraph.arcExists(j, i))) {
-                        filter |= v.removeValue(k, aCause);
-                    }
+                while (l > f && nodeSCC[i] != nodeSCC[adj[l]] && mate[i] != adj[l]) {
+                    l--;
                 }
+                filter |= v.updateBounds(values[adj[f] - n], values[adj[l] - n], aCause);
             }
         }
         return filter;
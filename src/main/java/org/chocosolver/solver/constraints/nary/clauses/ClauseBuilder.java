@@ -109,6 +109,15 @@ public class ClauseBuilder {
      * @return the contraint or null if always true
      */
     public void buildNogood(Model model) {
+        buildNogood(model, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Build the nogood in memory and post it to <i>model</i>
+     *
+     * @param lbd literal block distance of the nogood, when learnt (bounded by its number of variables)
+     */
+    public void buildNogood(Model model, int lbd) {
         if ((status & ALWAYSTRUE) == 0) {
             if ((status & UNKNOWN) != 0) { // at least one clause is unknown
                 vars.removeIf(var -> (sets.get(var.getId()).isEmpty()));
@@ -126,7 +135,7 @@ public class ClauseBuilder {
                         for (int i = 0; i < _vars.length; i++) {
                             ranges[i] = sets.get(_vars[i].getId());
                         }
-                        model.getClauseConstraint().addClause(_vars, ranges);
+                        model.getClauseConstraint().addClause(_vars, ranges, Math.min(lbd, _vars.length));
                         break;
                 }
             } else {
@@ -8,6 +8,9 @@
  */
 package org.chocosolver.solver.constraints.nary.clauses;
 
+import gnu.trove.impl.Constants;
+import gnu.trove.map.hash.TLongIntHashMap;
+import org.chocosolver.memory.IStateInt;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
@@ -18,28 +21,45 @@ import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
 import org.chocosolver.solver.learn.Implications;
 import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.util.ESat;
-import org.chocosolver.util.objects.ShrinkableList;
 import org.chocosolver.util.objects.ValueSortedMap;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
-import org.chocosolver.util.objects.tree.Interval;
-import org.chocosolver.util.objects.tree.IntervalTree;
+import org.chocosolver.util.procedure.SafeIntProcedure;
 import org.chocosolver.util.tools.ArrayUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Stack;
 
 import static org.chocosolver.util.ESat.FALSE;
 import static org.chocosolver.util.ESat.TRUE;
 import static org.chocosolver.util.ESat.UNDEFINED;
 
 /**
- * A class to manage life of sclauses during resolution. TODO
+ * A class to manage life of sclauses during resolution.
+ * <p>
+ * Signed clauses are propagated with two watched literals.
+ * A literal is a unary membership constraint, <i>x &isin; [l,u]</i>, which covers <i>x &le; u</i>,
+ * <i>x &ge; l</i> and <i>x = v</i>.
+ * A literal is only materialised, in the watch lists of its variable, once a clause watches it.
+ * For each variable, watch lists are arrays of clause identifiers,
+ * and literals are sorted by lower and upper bound, so that a bound modification only visits
+ * the literals it falsifies since the last visit (this is restored upon backtrack).
+ * Watches are not restored upon backtrack, stale ones are removed lazily when visited.
+ * <p>
+ * Learnt clauses are organised in three tiers, wrt to their literal block distance (LBD):
+ * <ul>
+ *     <li>core: LBD &le; {@link #CORE_LBD}, never reduced,</li>
+ *     <li>tier2: LBD &le; {@link #TIER2_LBD}, moved to local when not used for {@link #TIER2_LIFESPAN} conflicts,</li>
+ *     <li>local: the others, only the most active ones are kept on reduction.</li>
+ * </ul>
+ * The database is reduced every {@link #REDUCE_INTERVAL} conflicts (this interval grows by
+ * {@link #REDUCE_INCREMENT} each time) or when the number of learnt clauses in the local tier exceeds
+ * {@link org.chocosolver.solver.Settings#getNbMaxLearntClauses()}.
  *
  * <p> Project: choco-solver.
  *
@@ -52,8 +72,41 @@ public class ClauseStore extends Propagator<IntVar> {
 
     public static boolean PRINT_CLAUSE = false;
 
+    /**
+     * Set to <tt>false</tt> to post each signed clause as a standalone propagator ({@link PropSignedClause})
+     * instead of storing it in this (the name is kept for compatibility).
+     */
     public static boolean INTERVAL_TREE = true;
 
+    /**
+     * Learnt clauses with LBD less than or equal to this value are never reduced (core tier)
+     */
+    public static int CORE_LBD = 2;
+
+    /**
+     * Learnt clauses with LBD less than or equal to this value are kept as long as they are used (tier2)
+     */
+    public static int TIER2_LBD = 6;
+
+    /**
+     * Number of conflicts a clause of tier2 can go without being used before being moved to the local tier
+     */
+    public static int TIER2_LIFESPAN = 10_000;
+
+    /**
+     * Number of conflicts before the first reduction
+     */
+    public static int REDUCE_INTERVAL = 2_000;
+
+    /**
+     * Increment of the number of conflicts between two reductions
+     */
+    public static int REDUCE_INCREMENT = 300;
+
+    private static final byte CORE = 0;
+    private static final byte TIER2 = 1;
+    private static final byte LOCAL = 2;
+
     /**
      * Signed clause unique ID -- for toString() mainly
      */
@@ -71,7 +124,7 @@ public class ClauseStore extends Propagator<IntVar> {
      */
     private List<SignedClause> learnts;
     /**
-     * Number of learnts signed clauses to not exceed
+     * Number of learnts signed clauses, in the local tier, to not exceed
      */
     private final int nbMaxLearnts;
     /**
@@ -85,11 +138,55 @@ public class ClauseStore extends Propagator<IntVar> {
      */
     private SignedClause last;
 
-    private HashMap<IntVar, IntervalTree<Container>> watches;
+    /**
+     * Watch lists of the literals, per variable
+     */
+    private final HashMap<IntVar, Watches> watches;
+    /**
+     * Watch lists of the literals, per index of the variable in this propagator
+     */
+    private Watches[] watchesAt;
+    /**
+     * Clauses, indexed by identifier (see {@link SignedClause#cid})
+     */
+    private SignedClause[] byId;
+    /**
+     * Number of clause identifiers in use
+     */
+    private int nbIds;
+    /**
+     * Stamp to detect duplicate watches
+     */
+    private int stamp;
+    /**
+     * Values removed strictly inside the bounds of a variable, collected on a removal event
+     */
+    private int[] removed = new int[16];
+    private int nbRemoved;
     /**
      * Amount to bump clause with.
      */
     private double clauseInc = 1d;
+    /**
+     * Listeners informed of each learnt signed clause
+     */
+    private final List<ILearntClauseListener> listeners;
+    /**
+     * Number of learnt clauses in each tier
+     */
+    private final int[] tierSizes;
+    /**
+     * Number of conflicts, and number of conflicts at which the next reduction is triggered
+     */
+    private long nbConflicts, nextReduction;
+    /**
+     * Current number of conflicts between two reductions
+     */
+    private long reduceInterval;
+    /**
+     * Statistics: number of reductions, of clauses removed on reduction and of clauses moved from tier2 to local
+     */
+    private long nbReductions, nbReduced, nbDemoted;
 
     /**
      * Create a Nogood store connected to a model.
@@ -107,6 +204,12 @@ public class ClauseStore extends Propagator<IntVar> {
         this.learnts = new ArrayList<>();
         last = null;
         this.watches = new HashMap<>();
+        this.watchesAt = new Watches[16];
+        this.byId = new SignedClause[16];
+        this.listeners = new ArrayList<>();
+        this.tierSizes = new int[3];
+        this.reduceInterval = REDUCE_INTERVAL;
+        this.nextReduction = REDUCE_INTERVAL;
         setActive0();
     }
 
@@ -122,16 +225,30 @@ public class ClauseStore extends Propagator<IntVar> {
      * Declare a new signed clause in this store
      */
     public void add(IntVar[] vars, IntIterableRangeSet[] ranges) {
+        add(vars, ranges, vars.length);
+    }
+
+    /**
+     * Declare a new signed clause in this store
+     *
+     * @param vars   set of variables
+     * @param ranges set of allowed ranges
+     * @param lbd    literal block distance of the clause, used to select its tier when learnt
+     */
+    public void add(IntVar[] vars, IntIterableRangeSet[] ranges, int lbd) {
         if (INTERVAL_TREE) {
             SignedClause cl = new SignedClause(vars, ranges);
-            attach(new Watcher(cl.pos[0], cl));
-            attach(new Watcher(cl.pos[1], cl));
+            register(cl);
             if (model.getSolver().getEngine().isInitialized()) {
                 this.learnts.add(cl);
                 last = cl;
                 last.activity = clauseInc;
                 last.rawActivity = 1;
+                classify(last, lbd);
                 if (PRINT_CLAUSE) System.out.printf("learn: %s\n", cl);
+                for (int i = 0; i < listeners.size(); i++) {
+                    listeners.get(i).onLearnt(cl.mvars, cl.bounds);
+                }
             } else {
                 if (PRINT_CLAUSE) System.out.printf("add: %s\n", cl);
                 this.clauses.add(cl);
@@ -144,20 +261,118 @@ public class ClauseStore extends Propagator<IntVar> {
         }
     }
 
-    private void attach(Watcher w) {
-        IntVar var = w.c.v(w.p);
-        IntervalTree<Container> wm = watches.get(var);
-        if (wm == null) {
-            wm = new IntervalTree<>();
-            watches.put(var, wm);
-            this.addVariable(var);
+    /**
+     * Declare a signed clause learnt outside this store, for instance by another solver
+     * working on a copy of the same model.
+     * Such a clause is managed like a learnt one, except that it is not notified to the listeners.
+     * The learnt database is reduced, if needed, afterwards.
+     * <p>
+     * Can be called anytime during search. The clause is checked against the current domains:
+     * it watches its satisfied literals first, then its undefined ones, so that a clause which is already unit
+     * or conflicting watches a false literal and is propagated (or fails) on the next call to the propagation
+     * engine, like any clause added dynamically.
+     *
+     * @param vars   set of variables
+     * @param ranges set of allowed ranges
+     */
+    public void importClause(IntVar[] vars, IntIterableRangeSet[] ranges) {
+        if (INTERVAL_TREE) {
+            SignedClause cl = new SignedClause(vars, ranges);
+            if (mSolver.getEngine().isInitialized()) {
+                cl.selectWatches();
+            }
+            register(cl);
+            this.learnts.add(cl);
+            cl.activity = clauseInc;
+            classify(cl, vars.length);
+            if (PRINT_CLAUSE) System.out.printf("import: %s\n", cl);
+            mSolver.getEngine().dynamicAddition(true, cl);
+            reduceDB();
+        } else {
+            PropSignedClause cl = PropSignedClause.makeFromIn(vars, ranges);
+            if (PRINT_CLAUSE) System.out.printf("import: %s\n", cl);
+            new Constraint("SC", cl).post();
+        }
+    }
+
+    /**
+     * Add a listener informed of each learnt signed clause.
+     * Clauses declared before search or imported with {@link #importClause(IntVar[], IntIterableRangeSet[])}
+     * are not notified.
+     *
+     * @param listener a listener
+     */
+    public void addLearntClauseListener(ILearntClauseListener listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Remove a listener previously added.
+     *
+     * @param listener a listener
+     */
+    public void removeLearntClauseListener(ILearntClauseListener listener) {
+        this.listeners.remove(listener);
+    }
+
+    /**
+     * Give an identifier to <i>c</i> and watch its two first literals
+     */
+    private void register(SignedClause c) {
+        if (nbIds == byId.length) {
+            byId = Arrays.copyOf(byId, nbIds * 3 / 2 + 1);
         }
-        Container ct = wm.get(w.c.l(w.p), w.c.u(w.p));
-        if (ct == null) {
-            ct = new Container(w.c.l(w.p), w.c.u(w.p));
-            wm.insert(ct);
+        c.cid = nbIds;
+        byId[nbIds++] = c;
+        attach(c, c.pos[0]);
+        attach(c, c.pos[1]);
+    }
+
+    /**
+     * Watch the literal <i>p</i> of <i>c</i>, the literal is materialised if needed.
+     */
+    private void attach(SignedClause c, int p) {
+        if (c.lits[p] < 0) {
+            IntVar var = c.v(p);
+            Watches w = watches.get(var);
+            if (w == null) {
+                w = new Watches(var);
+                watches.put(var, w);
+                this.addVariable(var);
+                if (vars.length > watchesAt.length) {
+                    watchesAt = Arrays.copyOf(watchesAt, vars.length * 3 / 2);
+                }
+                watchesAt[vars.length - 1] = w;
+            }
+            c.wvs[p] = w;
+            c.lits[p] = w.literal(c.l(p), c.u(p));
+        }
+        c.wvs[p].watch(c.lits[p], c.cid);
+    }
+
+    /**
+     * Forget all watches and literals, then watch again the connected clauses.
+     * Clause identifiers are compacted on the way.
+     */
+    private void rebuildWatches() {
+        for (Watches w : watches.values()) {
+            w.clear();
+        }
+        nbIds = 0;
+        for (int i = 0; i < clauses.size(); i++) {
+            relink(clauses.get(i));
+        }
+        for (int i = 0; i < learnts.size(); i++) {
+            relink(learnts.get(i));
+        }
+        Arrays.fill(byId, nbIds, byId.length, null);
+    }
+
+    private void relink(SignedClause c) {
+        if (c.isConnected()) {
+            Arrays.fill(c.lits, -1);
+            register(c);
         }
-        ct.add(w);
     }
 
     /**
@@ -166,11 +381,25 @@ public class ClauseStore extends Propagator<IntVar> {
      * @param idx position of the nogood in {@link #learnts}.
      */
     private void remove(int idx) {
-        SignedClause ng = learnts.remove(idx);
+        detach(learnts.remove(idx));
+    }
+
+    private void detach(SignedClause ng) {
         mSolver.getEngine().dynamicDeletion(ng);
+        tierSizes[ng.tier]--;
         ng.pos[0] = ng.pos[1] = -1; // to remove it from watchers
     }
 
+    /**
+     * Set the LBD of the learnt clause <i>c</i> and put it in the right tier
+     */
+    private void classify(SignedClause c, int lbd) {
+        c.lbd = lbd;
+        c.tier = lbd <= CORE_LBD ? CORE : lbd <= TIER2_LBD ? TIER2 : LOCAL;
+        c.lastUsed = nbConflicts;
+        tierSizes[c.tier]++;
+    }
+
     private void check(SignedClause ng) {
         if (mSolver.getDecisionPath().size() > 1) { // if at root node)
             // collect variables related to UNDEF lits.
@@ -210,6 +439,7 @@ public class ClauseStore extends Propagator<IntVar> {
      * Try to delete sclauses from this nogood store.
      */
     public void forget() {
+        nbConflicts++;
         decayActivity();
         if (mSolver.getDecisionPath().size() == 1) { // at root node
             simplifyDB();
@@ -258,34 +488,44 @@ public class ClauseStore extends Propagator<IntVar> {
     }
 
     /**
-     * Remove sclauses with a lifespan greater than <i>lifespan</i> and which did not filtered in
-     * the current branch.
+     * Reduce the learnt clauses database, if the number of conflicts since the last reduction is reached or if
+     * there are too many learnt clauses in the local tier:
+     * clauses of tier2 which were not used recently are moved to the local tier, then
+     * only the most active clauses of the local tier are kept.
      */
     public void reduceDB() {
         int size = learnts.size();
-        if (size >= nbMaxLearnts) {
-            learnts.sort(Comparator.comparingDouble(c -> -c.activity));
-            long to = Math.round(ratio * size);
-            for (int i = size - 1; i >= to; i--) {
+        if (nbConflicts >= nextReduction || tierSizes[LOCAL] >= nbMaxLearnts) {
+            nbReductions++;
+            reduceInterval += REDUCE_INCREMENT;
+            nextReduction = nbConflicts + reduceInterval;
+            List<SignedClause> locals = new ArrayList<>(tierSizes[LOCAL]);
+            for (int i = 0; i < size; i++) {
                 SignedClause ng = learnts.get(i);
-                if (ng.isNotLocked() && ng != last) {
-                    remove(i);
+                if (ng.tier == TIER2 && nbConflicts - ng.lastUsed > TIER2_LIFESPAN) {
+                    tierSizes[TIER2]--;
+                    tierSizes[LOCAL]++;
+                    ng.tier = LOCAL;
+                    nbDemoted++;
+                }
+                if (ng.tier == LOCAL) {
+                    locals.add(ng);
                 }
             }
-            if (size > learnts.size() && model.getSettings().warnUser()) {
-                System.out.printf("Reduce DB: %d -> %d\n", size, learnts.size());
-            }
-            for (IntervalTree<Container> t : watches.values()) {
-                Stack<Container> del = new Stack<>();
-                for (Container c : t) {
-                    c.watchers.removeIf(w -> !w.c.isConnected());
-                    if(c.watchers.isEmpty()){
-                        del.push(c);
-                    }
+            locals.sort(Comparator.comparingDouble(c -> -c.activity));
+            long to = Math.round(ratio * locals.size());
+            for (int i = locals.size() - 1; i >= to; i--) {
+                SignedClause ng = locals.get(i);
+                if (ng.isNotLocked() && ng != last) {
+                    detach(ng);
                 }
-                while(!del.isEmpty()){
-                    t.delete(del.pop());
+            }
+            if (learnts.removeIf(ng -> !ng.isConnected())) {
+                nbReduced += size - learnts.size();
+                if (model.getSettings().warnUser()) {
+                    System.out.printf("Reduce DB: %d -> %d\n", size, learnts.size());
                 }
+                rebuildWatches();
             }
         }
     }
@@ -306,13 +546,32 @@ public class ClauseStore extends Propagator<IntVar> {
 
 
     public void printStatistics() {
-        learnts.sort(Comparator.comparingInt(c -> -c.rawActivity));
+        System.out.printf("Clauses: %d, learnts: %d (core: %d, tier2: %d, local: %d)\n",
+                clauses.size(), learnts.size(), tierSizes[CORE], tierSizes[TIER2], tierSizes[LOCAL]);
+        System.out.printf("Conflicts: %d, reductions: %d, reduced: %d, moved to local: %d\n",
+                nbConflicts, nbReductions, nbReduced, nbDemoted);
+        List<SignedClause> top = new ArrayList<>(learnts);
+        top.sort(Comparator.comparingInt(c -> -c.rawActivity));
         System.out.print("Top ten clauses:\n");
-        for (int i = 0; i < 10 && i < learnts.size(); i++) {
-            System.out.printf("%d : %d %s\n", i, learnts.get(i).rawActivity, learnts.get(i));
+        for (int i = 0; i < 10 && i < top.size(); i++) {
+            System.out.printf("%d : %d (lbd: %d) %s\n", i, top.get(i).rawActivity, top.get(i).lbd, top.get(i));
         }
     }
 
+    /**
+     * @return the number of reductions of the learnt clauses database
+     */
+    public long getNbReductions() {
+        return nbReductions;
+    }
+
+    /**
+     * @return the number of learnt clauses in the core tier, which are never reduced
+     */
+    public int getNbCoreClauses() {
+        return tierSizes[CORE];
+    }
+
     @Override
     public void propagate(int evtmask) throws ContradictionException {
         // nothing is done here
@@ -320,20 +579,12 @@ public class ClauseStore extends Propagator<IntVar> {
 
     @Override
     public void propagate(int idxVarInProp, int mask) throws ContradictionException {
-        // iterate over clauses that needs to be propagator
-        IntVar var = vars[idxVarInProp];
-        IntervalTree<Container> wm = watches.get(var);
-        int lb = var.getLB();
-        int ub = var.getUB();
-        if (IntEventType.isInstantiate(mask) || IntEventType.isRemove(mask)) {
-            sweep(wm.iterator(), var, lb, ub);
-        } else {
-            if (IntEventType.isInclow(mask)) {
-                wm.forAllBelow(lb, c -> checkCont(c, var, lb, ub));
-            }
-            if (IntEventType.isDecupp(mask)) {
-                wm.forAllAbove(ub, c -> checkCont(c, var, lb, ub));
-            }
+        // schedule clauses whose watched literals are now false
+        Watches w = watchesAt[idxVarInProp];
+        w.onLowerBound(vars[idxVarInProp].getLB());
+        w.onUpperBound(vars[idxVarInProp].getUB());
+        if (IntEventType.isRemove(mask)) {
+            w.onRemove();
         }
     }
 
@@ -350,133 +601,256 @@ public class ClauseStore extends Propagator<IntVar> {
     }
 
 
-    private void sweep(Iterator<Container> it, IntVar v, int lb, int ub) {
-        while (it.hasNext()) {
-            checkCont(it.next(), v, lb, ub);
-        }
-    }
-
-    private void checkCont(Container ct, IntVar v, int lb, int ub) {
-        if (!ct.isActive()) return;
-        ESat check = check(lb, ub, ct.s, ct.e, v);
-        if (check != UNDEFINED) {
-            if (check == FALSE) {
-                ct.sweepOnFalse();
-            } else {
-                ct.sweepOnTrue();
+    /**
+     * Schedule the clauses watching the literal <i>k</i> of <i>w</i>, which is now false.
+     * Watches that are outdated, duplicated or related to removed clauses are forgotten on the way.
+     */
+    private void fire(Watches w, int k) {
+        int[] list = w.cids[k];
+        int n = w.nbCids[k];
+        int j = 0;
+        stamp++;
+        for (int i = 0; i < n; i++) {
+            int cid = list[i];
+            SignedClause c = byId[cid];
+            int p;
+            if (c == null || c.stamp == stamp || (p = c.watching(w, k)) < 0) {
+                // watched literal loss, forget it
+                continue;
+            }
+            c.stamp = stamp;
+            // keep it, even it is false, since propagation may change the other WL
+            list[j++] = cid;
+            if (c.isActive() && !c.isScheduled()) {
+                mSolver.getEngine().schedule(c, p, 1);
             }
-            model.getEnvironment().save(ct::setActive);
-            ct.setPassive();
         }
+        w.nbCids[k] = j;
     }
 
-    private final class Container implements Interval {
-
-        int s, e;
-        ShrinkableList<Watcher> watchers;
-        boolean active = true;
-
-        Container(int s, int e) {
-            this.s = s;
-            this.e = e;
-            this.watchers = new ShrinkableList<>();
-        }
-
-        @Override
-        public int start() {
-            return s;
-        }
+    /**
+     * Literals watched on a variable.
+     * A literal, <i>var &isin; [l,u]</i>, is identified by its index in this.
+     * It is created the first time a clause watches it, and stays until the next {@link #rebuildWatches()}.
+     * <p>
+     * Literals are indexed by bounds: a bound event visits the literals which are beyond the new bound,
+     * a value removal visits the literals which start in the hole the removed value belongs to.
+     */
+    private final class Watches implements SafeIntProcedure {
 
-        @Override
-        public int end() {
-            return e;
+        private final IntVar var;
+        /**
+         * Lower bound (resp. upper bound) of the variable when literals were last checked
+         */
+        private final IStateInt lastLB, lastUB;
+        /**
+         * Map the bounds of a literal to its index
+         */
+        private final TLongIntHashMap index;
+        /**
+         * Number of literals
+         */
+        private int size;
+        /**
+         * Bounds of each literal
+         */
+        private int[] lbs, ubs;
+        /**
+         * Identifiers of the clauses watching each literal
+         */
+        private int[][] cids;
+        private int[] nbCids;
+        /**
+         * Literals sorted by increasing upper bound and by increasing lower bound
+         */
+        private int[] byU, byL;
+        /**
+         * Values removed from the variable, monitored for variables with enumerated domain only
+         */
+        private final IIntDeltaMonitor removals;
+        /**
+         * Bounds of the variable while removed values are collected
+         */
+        private int clb, cub;
+
+        Watches(IntVar var) {
+            this.var = var;
+            this.lastLB = model.getEnvironment().makeInt(Integer.MIN_VALUE);
+            this.lastUB = model.getEnvironment().makeInt(Integer.MAX_VALUE);
+            this.index = new TLongIntHashMap(Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR, Long.MIN_VALUE, -1);
+            this.lbs = new int[4];
+            this.ubs = new int[4];
+            this.cids = new int[4][];
+            this.nbCids = new int[4];
+            this.byU = new int[4];
+            this.byL = new int[4];
+            this.removals = var.hasEnumeratedDomain() ? var.monitorDelta(ClauseStore.this) : IIntDeltaMonitor.Default.NONE;
         }
 
-        public void add(Watcher w) {
-            this.watchers.add(w);
+        /**
+         * @return the index of the literal <i>var &isin; [l,u]</i>, created if needed
+         */
+        int literal(int l, int u) {
+            long key = ((long) l << 32) | (u & 0xFFFFFFFFL);
+            int k = index.get(key);
+            if (k == -1) {
+                k = size++;
+                if (k == lbs.length) {
+                    int cap = k * 3 / 2 + 1;
+                    lbs = Arrays.copyOf(lbs, cap);
+                    ubs = Arrays.copyOf(ubs, cap);
+                    cids = Arrays.copyOf(cids, cap);
+                    nbCids = Arrays.copyOf(nbCids, cap);
+                    byU = Arrays.copyOf(byU, cap);
+                    byL = Arrays.copyOf(byL, cap);
+                }
+                lbs[k] = l;
+                ubs[k] = u;
+                if (cids[k] == null) {
+                    cids[k] = new int[4];
+                }
+                nbCids[k] = 0;
+                insert(byU, k, upperBound(byU, k, ubs, u));
+                insert(byL, k, upperBound(byL, k, lbs, l));
+                index.put(key, k);
+            }
+            return k;
         }
 
-        boolean isActive() {
-            return active;
+        /**
+         * Add the clause <i>cid</i> to the watch list of literal <i>k</i>
+         */
+        void watch(int k, int cid) {
+            if (nbCids[k] == cids[k].length) {
+                cids[k] = Arrays.copyOf(cids[k], nbCids[k] * 3 / 2 + 1);
+            }
+            cids[k][nbCids[k]++] = cid;
         }
 
-        void setPassive() {
-            active = false;
+        /**
+         * Fire literals which are falsified by the lower bound <i>lb</i>, that is, whose upper bound is in
+         * [lastLB, lb-1].
+         */
+        void onLowerBound(int lb) {
+            int from = lastLB.get();
+            if (lb > from) {
+                lastLB.set(lb);
+                for (int i = lowerBound(byU, size, ubs, from); i < size && ubs[byU[i]] < lb; i++) {
+                    fire(this, byU[i]);
+                }
+            }
         }
 
-        void setActive() {
-            active = true;
+        /**
+         * Fire literals which are falsified by the upper bound <i>ub</i>, that is, whose lower bound is in
+         * [ub+1, lastUB].
+         */
+        void onUpperBound(int ub) {
+            int from = lastUB.get();
+            if (ub < from) {
+                lastUB.set(ub);
+                for (int i = upperBound(byL, size, lbs, ub); i < size && lbs[byL[i]] <= from; i++) {
+                    fire(this, byL[i]);
+                }
+            }
         }
 
-        void sweepOnFalse() {
+        /**
+         * Fire literals strictly inside the bounds which do not intersect the domain anymore.
+         * Only the holes which contain a newly removed value are visited: a literal starting in such a hole
+         * is falsified if it ends in it too, and contains at least one newly removed value
+         * (otherwise, it was already falsified).
+         */
+        void onRemove() {
+            clb = var.getLB();
+            cub = var.getUB();
+            nbRemoved = 0;
+            removals.freeze();
+            removals.forEachRemVal(this);
+            removals.unfreeze();
+            Arrays.sort(removed, 0, nbRemoved);
             int i = 0;
-            int j = i;
-            int p;
-            int s = watchers.size();
-            while (i < s) {
-                Watcher w = watchers.get(i++);
-                SignedClause c = w.c;
-                if (w.p != c.pos[p = 0] && w.p != c.pos[++p]) {
-                    // watched literal loss, forget it
-                    continue;
-                }
-                if (w.c.isScheduled()) { // clause already scheduled, skip it
-                    watchers.set(j++, w);
-                    continue;
+            while (i < nbRemoved) {
+                // the hole (p,q) contains removed[i]
+                int p = var.previousValue(removed[i]);
+                int q = var.nextValue(removed[i]);
+                int j = i;
+                while (j < nbRemoved && removed[j] < q) {
+                    j++;
                 }
-                if (!w.c.isActive()) {
-                    // clause passive, forget it
-                    model.getEnvironment().save(() -> {
-                        if (w.c.isConnected()) {
-                            attach(w);
+                for (int x = upperBound(byL, size, lbs, p); x < size && lbs[byL[x]] < q; x++) {
+                    int k = byL[x];
+                    if (ubs[k] < q) {
+                        int r = Arrays.binarySearch(removed, i, j, lbs[k]);
+                        if (r >= 0 || (r = -r - 1) < j && removed[r] <= ubs[k]) {
+                            fire(this, k);
                         }
-                    });
-                    continue;
-                }/*else*/
-                {
-                    watchers.set(j++, w); // keep it, even it is false, since propagation may change the other WL
-                    mSolver.getEngine().schedule(w.c, p, 1);
+                    }
                 }
+                i = j;
             }
-            // shrink
-            watchers.removeRange(j, i);
         }
 
-        void sweepOnTrue() {
-            int i = 0;
-            int j = 0;
-            int s = watchers.size();
-            while (i < s) {
-                Watcher w = watchers.get(i++);
-                SignedClause c = w.c;
-                if (w.p == c.pos[0] || w.p == c.pos[1]) {
-                    watchers.set(j++, w);
-                }// watched literal loss due to initial propagation
+        /**
+         * Collect a removed value if it is strictly inside the bounds
+         */
+        @Override
+        public void execute(int v) {
+            if (clb < v && v < cub) {
+                if (nbRemoved == removed.length) {
+                    removed = Arrays.copyOf(removed, nbRemoved * 3 / 2 + 1);
+                }
+                removed[nbRemoved++] = v;
             }
-            // shrink
-            watchers.removeRange(j, i);
         }
 
-        @Override
-        public String toString() {
-            return String.format("[%d,%d]", start(), end());
+        /**
+         * Forget all literals
+         */
+        void clear() {
+            index.clear();
+            size = 0;
         }
     }
 
-
-    private static final class Watcher {
-        int p;
-        SignedClause c; // clause watch by c.mvars[p]
-
-        Watcher(int p, SignedClause c) {
-            this.p = p;
-            this.c = c;
+    /**
+     * @return the position, in <i>sorted[0,n)</i>, of the first literal whose key is greater or equal to <i>v</i>
+     */
+    private static int lowerBound(int[] sorted, int n, int[] keys, int v) {
+        int lo = 0, hi = n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[sorted[mid]] < v) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
         }
+        return lo;
+    }
 
-        @Override
-        public String toString() {
-            return c.toString();
+    /**
+     * @return the position, in <i>sorted[0,n)</i>, of the first literal whose key is strictly greater than <i>v</i>
+     */
+    private static int upperBound(int[] sorted, int n, int[] keys, int v) {
+        int lo = 0, hi = n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[sorted[mid]] <= v) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
         }
+        return lo;
+    }
+
+    /**
+     * Insert <i>k</i> at position <i>p</i> in <i>sorted</i>, which contains <i>k</i> elements
+     */
+    private static void insert(int[] sorted, int k, int p) {
+        System.arraycopy(sorted, p, sorted, p + 1, k - p);
+        sorted[p] = k;
     }
 
     private static PropagatorPriority computePriority(int nbvars) {
@@ -531,8 +905,33 @@ public class ClauseStore extends Propagator<IntVar> {
         private double activity = 0d;
 
         private int rawActivity = 0;
+        /**
+         * Literal block distance, when learnt
+         */
+        private int lbd;
+        /**
+         * Tier of this, when learnt
+         */
+        private byte tier = LOCAL;
+        /**
+         * Number of conflicts when this was last used in a conflict analysis
+         */
+        private long lastUsed;
 
         private int id;
+        /**
+         * Identifier in the store, to be referenced in watch lists
+         */
+        private int cid;
+        /**
+         * Last stamp this was visited with, to ignore duplicate watches
+         */
+        private int stamp;
+        /**
+         * For each literal, its watch lists and its index in them, once watched
+         */
+        private final Watches[] wvs;
+        private final int[] lits;
 
         SignedClause(IntVar[] vars, IntIterableRangeSet[] ranges) {
             super(new IntVar[]{vars[0], vars[0]}, computePriority(vars.length), false, false);
@@ -547,6 +946,9 @@ public class ClauseStore extends Propagator<IntVar> {
             this.pos = ArrayUtils.array(0, size - 1);
             this.mvars = new IntVar[size];
             this.bounds = new int[size << 1];
+            this.wvs = new Watches[size];
+            this.lits = new int[size];
+            Arrays.fill(this.lits, -1);
             for (int i = 0, k = -1; i < ranges.length; i++) {
                 for (int r = 0; r < ranges[i].getNbRanges(); r++) {
                     this.mvars[++k] = vars[i];
@@ -575,6 +977,28 @@ public class ClauseStore extends Propagator<IntVar> {
             return ClauseStore.check(mvars[p].getLB(), mvars[p].getUB(), bounds[p << 1], bounds[(p << 1) + 1], mvars[p]);
         }
 
+        /**
+         * Move to <i>pos[0]</i> and <i>pos[1]</i> the literals which are the least falsified by the current domains:
+         * satisfied ones first, then undefined ones.
+         * The clause is then unit (resp. conflicting) if and only if <i>pos[1]</i> (resp. <i>pos[0]</i>) is false.
+         */
+        private void selectWatches() {
+            for (int w = 0; w < 2; w++) {
+                int best = w;
+                ESat sat = check(pos[w]);
+                for (int i = w + 1; i < pos.length && sat != TRUE; i++) {
+                    ESat s = check(pos[i]);
+                    if (s == TRUE || (s == UNDEFINED && sat == FALSE)) {
+                        best = i;
+                        sat = s;
+                    }
+                }
+                int p = pos[w];
+                pos[w] = pos[best];
+                pos[best] = p;
+            }
+        }
+
         private boolean restrict(int p) throws ContradictionException {
             return mvars[p].updateBounds(bounds[p << 1], bounds[(p << 1) + 1], this);
         }
@@ -583,6 +1007,23 @@ public class ClauseStore extends Propagator<IntVar> {
             return pos[0] > -1 && pos[1] > -1;
         }
 
+        /**
+         * @return 0 (resp. 1) if the literal <i>k</i> of <i>w</i> is currently watched at <i>pos[0]</i>
+         * (resp. <i>pos[1]</i>), -1 otherwise
+         */
+        private int watching(Watches w, int k) {
+            if (!isConnected()) {
+                return -1;
+            }
+            if (lits[pos[0]] == k && wvs[pos[0]] == w) {
+                return 0;
+            }
+            if (lits[pos[1]] == k && wvs[pos[1]] == w) {
+                return 1;
+            }
+            return -1;
+        }
+
         @SuppressWarnings("Duplicates")
         public final void propagate(int evtmask) throws ContradictionException {
             if (evtmask == 2) {
@@ -616,7 +1057,9 @@ public class ClauseStore extends Propagator<IntVar> {
             if (FL != F0) {
                 propagateClause();
             }
-            if (evtmask == 2 && this.isActive()) {
+            // when both watched literals are on distinct variables and not false, there are at least two UNDEF
+            // lits on distinct variables: no hidden UUA
+            if (evtmask == 2 && this.isActive() && mvars[pos[0]] == mvars[pos[1]]) {
                 detectHiddenUUA();
             }
         }
@@ -691,7 +1134,7 @@ public class ClauseStore extends Propagator<IntVar> {
                         pos[1] = l;
                         pos[k] = pos[--to];
                         pos[to] = l1;
-                        attach(new Watcher(l, this));
+                        attach(this, l);
                         if (b == TRUE) {
                             setPassive();
                             FL = F0;
@@ -889,6 +1332,7 @@ public class ClauseStore extends Propagator<IntVar> {
             IntIterableRangeSet set;
             activity += clauseInc;
             rawActivity += 1;
+            lastUsed = nbConflicts;
             int i = 0;
             while (i < mvars.length) {
                 IntVar v = mvars[i];
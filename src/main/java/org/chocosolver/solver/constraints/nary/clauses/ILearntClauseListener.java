@@ -0,0 +1,38 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.clauses;
+
+import org.chocosolver.solver.variables.IntVar;
+
+/**
+ * A listener informed each time a clause is learnt during resolution,
+ * for instance to share it with other solvers working on a copy of the same model.
+ * <p>
+ * A learnt clause is a disjunction of literals, where the i<sup>th</sup> literal is:
+ * <pre>
+ *     vars[i] &isin; [bounds[2i], bounds[2i + 1]]
+ * </pre>
+ * A variable may appear in more than one literal.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public interface ILearntClauseListener {
+
+    /**
+     * Action to execute when a new clause is learnt.
+     * The arrays are not copied and must not be modified.
+     *
+     * @param vars   variables of the literals
+     * @param bounds bounds of the literals
+     */
+    void onLearnt(IntVar[] vars, int[] bounds);
+}
@@ -55,4 +55,22 @@ public abstract class CumulFilter {
 	 * @throws ContradictionException
 	 */
 	public abstract void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, Propagator<IntVar> aCause) throws ContradictionException;
+
+	/**
+	 * Filters the cumulative constraint over the subset of tasks induced by tasks,
+	 * given the profile of the compulsory parts of all the tasks.
+	 * By default, the profile is ignored.
+	 * @param s		start variables
+	 * @param d		duration variables
+	 * @param e		end variables
+	 * @param h		height variables
+	 * @param capa	maximum capacity variable
+	 * @param tasks	subset of tasks to filter
+	 * @param profile	the up-to-date profile of compulsory parts, may be null
+	 * @param aCause			a cumulative propagator
+	 * @throws ContradictionException
+	 */
+	public void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, CumulProfile profile, Propagator<IntVar> aCause) throws ContradictionException {
+		filter(s, d, e, h, capa, tasks, aCause);
+	}
 }
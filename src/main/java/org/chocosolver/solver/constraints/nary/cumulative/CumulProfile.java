@@ -0,0 +1,313 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+
+/**
+ * Backtrackable profile of the compulsory parts of the tasks of a cumulative constraint.
+ * <p>
+ * The profile is a segment tree over the time horizon, which supports adding a height on a time interval,
+ * and finding the maximum height on a time interval, in O(log(H)), where H is the size of the horizon.
+ * The compulsory part of each task, [s.UB, e.LB), is inserted with its height h.LB.
+ * When a compulsory part is modified (see {@link #update(int, int, int, int)}), only the difference is
+ * applied to the tree, and an operation to undo it upon backtracking is stored in the environment.
+ * <p>
+ * The profile can also be used to filter (see {@link #timeTable(IntVar[], IntVar[], IntVar[], IntVar[], IntVar, ISet, Propagator)})
+ * in time proportional to the number of conflicts found, and not to the size of the domains.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class CumulProfile {
+
+	//***********************************************************************************
+	// VARIABLES
+	//***********************************************************************************
+
+	/**
+	 * Maximum size of the time horizon, larger ones are not handled by a profile
+	 */
+	public static final int MAX_HORIZON = 1 << 18;
+	/**
+	 * Returned by {@link #firstAbove(int, int, int)} and {@link #lastAbove(int, int, int)} when no time point is found
+	 */
+	public static final int NONE = Integer.MIN_VALUE;
+
+	private final IEnvironment environment;
+	// first time point of the horizon
+	private final int origin;
+	// number of leaves
+	private final int size;
+	// height added on the interval of a node, and maximum height in the subtree (including its own add)
+	private final int[] add, max;
+	// compulsory parts currently in the profile
+	private final int[] start, end, height;
+
+	//***********************************************************************************
+	// CONSTRUCTORS
+	//***********************************************************************************
+
+	private CumulProfile(IEnvironment environment, int n, int origin, int horizon) {
+		this.environment = environment;
+		this.origin = origin;
+		int sz = 1;
+		while (sz < horizon) {
+			sz <<= 1;
+		}
+		this.size = sz;
+		this.add = new int[2 * sz];
+		this.max = new int[2 * sz];
+		this.start = new int[n];
+		this.end = new int[n];
+		this.height = new int[n];
+	}
+
+	/**
+	 * Create an empty profile for tasks whose starts and ends are <i>s</i> and <i>e</i>.
+	 * The time horizon is deduced from the current bounds of the variables.
+	 *
+	 * @param environment environment to store undo operations
+	 * @param s           start variables
+	 * @param e           end variables
+	 * @return an empty profile, or <tt>null</tt> if the time horizon exceeds {@link #MAX_HORIZON}
+	 */
+	public static CumulProfile make(IEnvironment environment, IntVar[] s, IntVar[] e) {
+		long min = Integer.MAX_VALUE;
+		long max = Integer.MIN_VALUE;
+		for (int i = 0; i < s.length; i++) {
+			min = Math.min(min, s[i].getLB());
+			max = Math.max(max, e[i].getUB());
+		}
+		if (s.length == 0 || max - min > MAX_HORIZON) {
+			return null;
+		}
+		return new CumulProfile(environment, s.length, (int) min, (int) Math.max(1, max - min));
+	}
+
+	//***********************************************************************************
+	// UPDATE
+	//***********************************************************************************
+
+	/**
+	 * Set the compulsory part of task <i>i</i> to [<i>st</i>, <i>en</i>) with height <i>h</i>.
+	 * Nothing is done if it is not modified.
+	 * Otherwise, the modification is undone upon backtracking.
+	 *
+	 * @param i  a task
+	 * @param st start of its compulsory part
+	 * @param en end of its compulsory part (exclusive)
+	 * @param h  height of its compulsory part
+	 * @return <tt>true</tt> if the compulsory part of <i>i</i> has been modified
+	 */
+	public boolean update(int i, int st, int en, int h) {
+		if (st >= en || h <= 0) {
+			st = en = h = 0;
+		}
+		if (start[i] != st || end[i] != en || height[i] != h) {
+			int ost = start[i], oen = end[i], oh = height[i];
+			environment.save(() -> apply(i, ost, oen, oh));
+			apply(i, st, en, h);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Set the compulsory part of task <i>i</i> to its current value, that is [s.UB, e.LB) with height h.LB.
+	 *
+	 * @return <tt>true</tt> if the compulsory part of <i>i</i> has been modified
+	 */
+	public boolean sync(int i, IntVar s, IntVar e, IntVar h) {
+		return update(i, s.getUB(), e.getLB(), h.getLB());
+	}
+
+	private void apply(int i, int st, int en, int h) {
+		if (height[i] > 0) {
+			add(start[i], end[i], -height[i]);
+		}
+		start[i] = st;
+		end[i] = en;
+		height[i] = h;
+		if (h > 0) {
+			add(st, en, h);
+		}
+	}
+
+	private void add(int from, int to, int h) {
+		add(1, 0, size, Math.max(0, from - origin), Math.min(size, to - origin), h);
+	}
+
+	private void add(int k, int lo, int hi, int from, int to, int h) {
+		if (to <= lo || hi <= from) {
+			return;
+		}
+		if (from <= lo && hi <= to) {
+			add[k] += h;
+			max[k] += h;
+			return;
+		}
+		int mid = (lo + hi) >>> 1;
+		add(2 * k, lo, mid, from, to, h);
+		add(2 * k + 1, mid, hi, from, to, h);
+		max[k] = add[k] + Math.max(max[2 * k], max[2 * k + 1]);
+	}
+
+	//***********************************************************************************
+	// QUERIES
+	//***********************************************************************************
+
+	/**
+	 * @return the maximum height of the profile
+	 */
+	public int getMax() {
+		return max[1];
+	}
+
+	/**
+	 * @return the maximum height of the profile on [<i>from</i>, <i>to</i>), 0 if the interval is empty
+	 */
+	public int getMax(int from, int to) {
+		int f = Math.max(0, from - origin), t = Math.min(size, to - origin);
+		return f < t ? max(1, 0, size, f, t) : 0;
+	}
+
+	private int max(int k, int lo, int hi, int from, int to) {
+		if (from <= lo && hi <= to) {
+			return max[k];
+		}
+		int mid = (lo + hi) >>> 1;
+		int m = Integer.MIN_VALUE;
+		if (from < mid) {
+			m = max(2 * k, lo, mid, from, to);
+		}
+		if (mid < to) {
+			m = Math.max(m, max(2 * k + 1, mid, hi, from, to));
+		}
+		return add[k] + m;
+	}
+
+	/**
+	 * @return the height of the profile at time <i>t</i>
+	 */
+	public int getHeight(int t) {
+		return getMax(t, t + 1);
+	}
+
+	/**
+	 * @return the first time point in [<i>from</i>, <i>to</i>) where the height is greater than <i>threshold</i>,
+	 * or {@link #NONE} if there is none
+	 */
+	public int firstAbove(int from, int to, int threshold) {
+		int f = Math.max(0, from - origin), t = Math.min(size, to - origin);
+		if (f >= t) {
+			return NONE;
+		}
+		int r = first(1, 0, size, f, t, threshold);
+		return r < 0 ? NONE : r + origin;
+	}
+
+	private int first(int k, int lo, int hi, int from, int to, int threshold) {
+		if (to <= lo || hi <= from || max[k] <= threshold) {
+			return -1;
+		}
+		if (hi - lo == 1) {
+			return lo;
+		}
+		int mid = (lo + hi) >>> 1;
+		int r = first(2 * k, lo, mid, from, to, threshold - add[k]);
+		return r >= 0 ? r : first(2 * k + 1, mid, hi, from, to, threshold - add[k]);
+	}
+
+	/**
+	 * @return the last time point in [<i>from</i>, <i>to</i>) where the height is greater than <i>threshold</i>,
+	 * or {@link #NONE} if there is none
+	 */
+	public int lastAbove(int from, int to, int threshold) {
+		int f = Math.max(0, from - origin), t = Math.min(size, to - origin);
+		if (f >= t) {
+			return NONE;
+		}
+		int r = last(1, 0, size, f, t, threshold);
+		return r < 0 ? NONE : r + origin;
+	}
+
+	private int last(int k, int lo, int hi, int from, int to, int threshold) {
+		if (to <= lo || hi <= from || max[k] <= threshold) {
+			return -1;
+		}
+		if (hi - lo == 1) {
+			return lo;
+		}
+		int mid = (lo + hi) >>> 1;
+		int r = last(2 * k + 1, mid, hi, from, to, threshold - add[k]);
+		return r >= 0 ? r : last(2 * k, lo, mid, from, to, threshold - add[k]);
+	}
+
+	//***********************************************************************************
+	// FILTERING
+	//***********************************************************************************
+
+	/**
+	 * Time-table filtering of the tasks in <i>tasks</i> against the profile:
+	 * a task cannot overlap a time point where it would exceed the capacity,
+	 * unless the time point is in its own compulsory part.
+	 * A task starting at <i>x</i> overlaps at least [x, max(x + d.LB, e.LB)),
+	 * and a task ending at <i>y</i> overlaps at least [min(y - d.LB, s.UB), y),
+	 * so tasks with a variable (possibly null) duration are filtered too.
+	 * Starts, ends, heights and capacity are filtered.
+	 * The profile is kept up to date with the modified compulsory parts.
+	 *
+	 * @return <tt>true</tt> if at least one bound has been modified
+	 * @throws ContradictionException if the capacity is exceeded
+	 */
+	public boolean timeTable(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks,
+							 Propagator<IntVar> aCause) throws ContradictionException {
+		capa.updateLowerBound(getMax(), aCause);
+		int capaMax = capa.getUB();
+		boolean modified = false;
+		ISetIterator tIter = tasks.iterator();
+		while (tIter.hasNext()) {
+			int i = tIter.nextInt();
+			int dlb = d[i].getLB();
+			int hlb = h[i].getLB();
+			// filter max height from the compulsory part, even if h.LB is null
+			if (!h[i].isInstantiated() && s[i].getUB() < e[i].getLB()) {
+				sync(i, s[i], e[i], h[i]);
+				modified |= h[i].updateUpperBound(capaMax - getMax(s[i].getUB(), e[i].getLB()) + height[i], aCause);
+			}
+			if (hlb == 0) {
+				continue;
+			}
+			int threshold = capaMax - hlb;
+			// earliest start, time points from s.UB on are either in the compulsory part or after it
+			int x = s[i].getLB();
+			int c;
+			while ((c = lastAbove(x, Math.min(Math.max(x + dlb, e[i].getLB()), s[i].getUB()), threshold)) != NONE) {
+				x = c + 1;
+				modified |= s[i].updateLowerBound(x, aCause);
+			}
+			// latest end, time points before e.LB are either in the compulsory part or before it
+			int y = e[i].getUB();
+			while ((c = firstAbove(Math.max(Math.min(y - dlb, s[i].getUB()), e[i].getLB()), y, threshold)) != NONE) {
+				y = c;
+				modified |= e[i].updateUpperBound(y, aCause);
+			}
+			sync(i, s[i], e[i], h[i]);
+		}
+		return modified;
+	}
+}
@@ -173,6 +173,17 @@ public class Cumulative extends Constraint {
 				return new NRJCumulFilter(n);
 			}
 		},
+		/**
+		 * time-table edge-finding: energetic reasoning on time windows,
+		 * including the compulsory parts of tasks that are not fully contained in the window
+		 * not idempotent
+		 * not enough to ensure correctness (only an additional filtering)
+		 */
+		TTEF{
+			public CumulFilter make(int n){
+				return new TTEFCumulFilter(n);
+			}
+		},
 		/**
 		 * energetic reasoning to filter disjunctive constraint
 		 * Only propagated on variable subsets of size < 30
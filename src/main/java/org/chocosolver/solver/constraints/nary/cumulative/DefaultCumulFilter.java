@@ -40,6 +40,11 @@ public class DefaultCumulFilter extends CumulFilter {
 	//***********************************************************************************
 
 	public void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, Propagator<IntVar> aCause) throws ContradictionException {
+		filter(s, d, e, h, capa, tasks, null, aCause);
+	}
+
+	@Override
+	public void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, CumulProfile profile, Propagator<IntVar> aCause) throws ContradictionException {
 		int min = Integer.MAX_VALUE;
 		int max = Integer.MIN_VALUE;
 		boolean hInst = true;
@@ -51,9 +56,9 @@ public class DefaultCumulFilter extends CumulFilter {
 			hInst &= h[t].isInstantiated();
 		}
 		if (max - min < tasks.size() * tasks.size()) {
-			getTime().filter(s, d, e, h, capa, tasks, aCause);
+			getTime().filter(s, d, e, h, capa, tasks, profile, aCause);
 		} else {
-			getSweep().filter(s, d, e, h, capa, tasks, aCause);
+			getSweep().filter(s, d, e, h, capa, tasks, profile, aCause);
 			if (!hInst) {
 				getHeights().filter(s, d, e, h, capa, tasks, aCause);
 			}
@@ -11,6 +11,7 @@ package org.chocosolver.solver.constraints.nary.cumulative;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.ISet;
 
 /**
  * Filtering (sweep-based) algorithm to filter task maximum heights
@@ -32,6 +33,12 @@ public class HeightCumulFilter extends SweepCumulFilter {
 	// SWEEP ALGORITHM
 	//***********************************************************************************
 
+	@Override
+	public void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, CumulProfile profile, Propagator<IntVar> aCause) throws ContradictionException {
+		// heights only: the profile-based time-table would filter starts and ends too
+		filter(s, d, e, h, capa, tasks, aCause);
+	}
+
 	// do not filter min and max (heights only)
 	protected void pruneMin(IntVar[] s) throws ContradictionException {}
 	protected void pruneMax(IntVar[] e) throws ContradictionException {}
@@ -12,14 +12,18 @@ import org.chocosolver.memory.IStateInt;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.learn.ExplanationForSignedClause;
+import org.chocosolver.solver.learn.Implications;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.ValueSortedMap;
 import org.chocosolver.util.objects.setDataStructures.ISet;
 import org.chocosolver.util.objects.setDataStructures.ISetIterator;
 import org.chocosolver.util.objects.setDataStructures.SetFactory;
 import org.chocosolver.util.objects.setDataStructures.SetType;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 import org.chocosolver.util.tools.ArrayUtils;
 
 import java.util.Arrays;
@@ -28,6 +32,11 @@ import java.util.Arrays;
  * Cumulative propagator
  * Performs energy checking and mandatory part based filtering
  * BEWARE : not idempotent, use two propagators to get the fix point
+ * <p>
+ * When the time horizon is not too large, the profile of the compulsory parts is maintained incrementally
+ * (see {@link CumulProfile}): only the compulsory parts which have been modified are updated in the profile
+ * before filtering. When the propagator reacts to fine events, they mark the tasks to check,
+ * otherwise all tasks are checked on each call.
  *
  * @author Jean-Guillaume Fages
  * @since 31/01/13
@@ -44,6 +53,14 @@ public class PropCumulative extends Propagator<IntVar> {
     protected CumulFilter[] filters;
     protected ISet allTasks;
     protected final IStateInt lastCapaMax;
+    /**
+     * Profile of the compulsory parts, null if the time horizon is too large
+     */
+    protected final CumulProfile profile;
+    /**
+     * Tasks whose compulsory part may have been modified since the last call to {@link #filter(ISet)}
+     */
+    protected final ISet touched;
 
     //***********************************************************************************
     // CONSTRUCTORS
@@ -70,6 +87,8 @@ public class PropCumulative extends Propagator<IntVar> {
         for(int t=0;t<n;t++){
             allTasks.add(t);
         }
+        profile = CumulProfile.make(model.getEnvironment(), this.s, this.e);
+        touched = SetFactory.makeBipartiteSet(0);
     }
 
     /**
@@ -105,10 +124,49 @@ public class PropCumulative extends Propagator<IntVar> {
         if (PropagatorEventType.isFullPropagation(evtmask)) {
             propIni();
         }
+        if (PropagatorEventType.isFullPropagation(evtmask) || !reactToFineEvt) {
+            // without fine events, any task may have been modified
+            for (int i = 0; i < n; i++) {
+                touch(i);
+            }
+        }
         updateMaxCapa();
         filter(allTasks);
     }
 
+    @Override
+    public void propagate(int varIdx, int mask) throws ContradictionException {
+        if (varIdx < 4 * n) {
+            touch(varIdx % n);
+        }
+        forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
+    }
+
+    /**
+     * Declare that the compulsory part of task <i>i</i> may have been modified
+     *
+     * @param i a task
+     */
+    protected void touch(int i) {
+        if (profile != null) {
+            touched.add(i);
+        }
+    }
+
+    /**
+     * Update the profile with the compulsory parts of the touched tasks
+     */
+    protected void syncProfile() {
+        if (profile != null) {
+            ISetIterator tIter = touched.iterator();
+            while (tIter.hasNext()) {
+                int i = tIter.nextInt();
+                profile.sync(i, s[i], e[i], h[i]);
+            }
+            touched.clear();
+        }
+    }
+
     protected void propIni() throws ContradictionException {
         for (int i = 0; i < n; i++) {
             d[i].updateLowerBound(0, this);
@@ -141,9 +199,192 @@ public class PropCumulative extends Propagator<IntVar> {
                 tasks.remove(t);
             }
         }
+        syncProfile();
         for (CumulFilter cf : filters) {
-            cf.filter(s, d, e, h, capa, tasks, this);
+            cf.filter(s, d, e, h, capa, tasks, profile, this);
+        }
+        // a propagator is not informed of its own modifications
+        if (profile != null) {
+            tIter = tasks.iterator();
+            while (tIter.hasNext()) {
+                int t = tIter.nextInt();
+                profile.sync(t, s[t], e[t], h[t]);
+            }
+        }
+    }
+
+    /**
+     * Explain a modification of a start (resp. end) variable of a task by time-table reasoning, as in
+     * "Explaining the cumulative propagator", A. Schutt, T. Feydy, P.J. Stuckey, M.G. Wallace, Constraints 2011.
+     * <p>
+     * Let i be the task, d and h the lower bounds of its duration and height, and C the upper bound of the capacity,
+     * as they were before the propagation.
+     * The removed starting times [a, b) are covered by a chain of time points u: each u is such that h plus
+     * the heights of the compulsory parts, of other tasks, that cover u exceeds C.
+     * Then, i cannot start in (u - d, u].
+     * For each time point u and each task j whose compulsory part is involved, the explanation contains:
+     * <pre>
+     *     s_j &ge; u + 1 &or; e_j &le; u &or; h_j &lt; h_j.LB
+     * </pre>
+     * plus d_i &lt; d, h_i &lt; h and capa &gt; C.
+     * <p>
+     * Other modifications (of durations, heights or capacity, or those which come from energetic reasoning)
+     * fall back on the default explanation.
+     */
+    @Override
+    public void explain(ExplanationForSignedClause explanation, ValueSortedMap<IntVar> front, Implications ig, int p) {
+        if (!explainTimeTable(explanation, front, ig, p)) {
+            defaultExplain(this, explanation, front, ig, p);
+        }
+    }
+
+    private boolean explainTimeTable(ExplanationForSignedClause explanation, ValueSortedMap<IntVar> front,
+                                     Implications ig, int p) {
+        IntVar pivot = ig.getIntVarAt(p);
+        int pos = -1;
+        for (int k = 0; k < vars.length; k++) {
+            if (vars[k] == pivot) {
+                if (pos >= 0) {
+                    return false;
+                }
+                pos = k;
+            }
+        }
+        boolean start = pos < n;
+        if (pos < 0 || (pos >= n && pos < 2 * n) || pos >= 3 * n) {
+            return false;
+        }
+        int i = pos % n;
+        IntIterableRangeSet before = ig.getDomainAt(front.getValue(pivot));
+        IntIterableRangeSet after = ig.getDomainAt(p);
+        if (before.size() == 0) {
+            return false;
+        }
+        // the values removed must be a prefix (resp. a suffix) of the domain
+        int target;
+        if (start) {
+            target = after.size() == 0 ? before.max() + 1 : after.min();
+            if (target <= before.min() || (after.size() > 0 && after.max() != before.max())) {
+                return false;
+            }
+        } else {
+            target = after.size() == 0 ? before.min() - 1 : after.max();
+            if (target >= before.max() || (after.size() > 0 && after.min() != before.min())) {
+                return false;
+            }
+        }
+        int dur = lbBefore(d[i], front, ig);
+        int hei = lbBefore(h[i], front, ig);
+        int cap = ig.getDomainAt(front.getValue(capa)).max();
+        if (dur <= 0 || hei <= 0 || hei > cap) {
+            return false;
+        }
+        // profile of the compulsory parts of the other tasks, before propagation
+        int[] cs = new int[n], ce = new int[n], ch = new int[n];
+        int[] times = new int[2 * n];
+        int m = 0;
+        for (int j = 0; j < n; j++) {
+            if (j != i) {
+                cs[j] = ig.getDomainAt(front.getValue(s[j])).max();
+                ce[j] = lbBefore(e[j], front, ig);
+                ch[j] = lbBefore(h[j], front, ig);
+                if (cs[j] < ce[j] && ch[j] > 0) {
+                    times[m++] = cs[j];
+                    times[m++] = ce[j];
+                }
+            }
+        }
+        Arrays.sort(times, 0, m);
+        int nbt = 0;
+        for (int k = 0; k < m; k++) {
+            if (nbt == 0 || times[nbt - 1] != times[k]) {
+                times[nbt++] = times[k];
+            }
+        }
+        // conflicting segments: [times[k], times[k+1]) is overloaded if conflict[k] is set
+        boolean[] conflict = new boolean[nbt];
+        for (int k = 0; k < nbt - 1; k++) {
+            long height = hei;
+            for (int j = 0; j < n; j++) {
+                if (j != i && cs[j] <= times[k] && times[k] < ce[j] && ch[j] > 0) {
+                    height += ch[j];
+                }
+            }
+            conflict[k] = height > cap;
+        }
+        // chain of time points covering the removed values
+        int[] points = new int[8];
+        int nbp = 0;
+        int t = start ? before.min() : before.max();
+        while (start ? t < target : t > target) {
+            int u = start ? lastConflict(times, conflict, nbt, t, t + dur) : firstConflict(times, conflict, nbt, t - dur, t);
+            if (u == Integer.MIN_VALUE) {
+                return false;
+            }
+            if (nbp == points.length) {
+                points = Arrays.copyOf(points, nbp * 2);
+            }
+            points[nbp++] = u;
+            t = start ? u + 1 : u;
+        }
+        // fill the explanation
+        for (int k = 0; k < nbp; k++) {
+            int u = points[k];
+            long height = hei;
+            for (int j = 0; j < n && height <= cap; j++) {
+                if (j != i && cs[j] <= u && u < ce[j] && ch[j] > 0) {
+                    height += ch[j];
+                    addLiteral(explanation, s[j], u + 1, IntIterableRangeSet.MAX);
+                    addLiteral(explanation, e[j], IntIterableRangeSet.MIN, u);
+                    addLiteral(explanation, h[j], IntIterableRangeSet.MIN, ch[j] - 1);
+                }
+            }
+        }
+        addLiteral(explanation, d[i], IntIterableRangeSet.MIN, dur - 1);
+        addLiteral(explanation, h[i], IntIterableRangeSet.MIN, hei - 1);
+        addLiteral(explanation, capa, cap + 1, IntIterableRangeSet.MAX);
+        IntIterableRangeSet set = explanation.getRootSet(pivot);
+        if (start) {
+            set.removeBetween(before.min(), t - 1);
+        } else {
+            set.removeBetween(t + 1, before.max());
+        }
+        explanation.addLiteral(pivot, set, true);
+        return true;
+    }
+
+    private static int lbBefore(IntVar var, ValueSortedMap<IntVar> front, Implications ig) {
+        return ig.getDomainAt(front.getValue(var)).min();
+    }
+
+    private static void addLiteral(ExplanationForSignedClause explanation, IntVar var, int from, int to) {
+        IntIterableRangeSet set = explanation.getRootSet(var);
+        set.retainBetween(from, to);
+        explanation.addLiteral(var, set, false);
+    }
+
+    /**
+     * @return the last time point in [from, to) which is in a conflicting segment, or Integer.MIN_VALUE
+     */
+    private static int lastConflict(int[] times, boolean[] conflict, int nbt, int from, int to) {
+        for (int k = nbt - 2; k >= 0 && times[k + 1] > from; k--) {
+            if (conflict[k] && times[k] < to) {
+                return Math.min(times[k + 1], to) - 1;
+            }
+        }
+        return Integer.MIN_VALUE;
+    }
+
+    /**
+     * @return the first time point in [from, to) which is in a conflicting segment, or Integer.MIN_VALUE
+     */
+    private static int firstConflict(int[] times, boolean[] conflict, int nbt, int from, int to) {
+        for (int k = 0; k < nbt - 1 && times[k] < to; k++) {
+            if (conflict[k] && times[k + 1] > from) {
+                return Math.max(times[k], from);
+            }
         }
+        return Integer.MIN_VALUE;
     }
 
     @Override
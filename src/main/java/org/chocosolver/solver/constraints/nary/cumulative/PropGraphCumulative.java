@@ -114,6 +114,7 @@ public class PropGraphCumulative extends PropCumulative {
         }
         if (varIdx < 4 * n) {
             int v = varIdx % n;
+            touch(v);
             if(h[v].getUB()==0 || d[v].getUB()==0){
                 allTasks.remove(v);
                 ISetIterator gIt = g.getNeighOf(v).iterator();
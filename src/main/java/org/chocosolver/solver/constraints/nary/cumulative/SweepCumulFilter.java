@@ -127,6 +127,16 @@ public class SweepCumulFilter extends CumulFilter {
 		}while(FIXPOINT && again);
 	}
 
+	@Override
+	public void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, CumulProfile profile, Propagator<IntVar> aCause) throws ContradictionException {
+		if (profile == null) {
+			filter(s, d, e, h, capa, tasks, aCause);
+		} else {
+			// the profile is updated with modified compulsory parts, which replaces the sweep line
+			while (profile.timeTable(s, d, e, h, capa, tasks, aCause) && FIXPOINT) ;
+		}
+	}
+
 	protected void removeNullDurations(IntVar[] d, ISet tasks){
 		tasksToUSe.clear();
 		ISetIterator tIter = tasks.iterator();
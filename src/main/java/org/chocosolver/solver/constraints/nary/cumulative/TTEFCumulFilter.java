@@ -0,0 +1,278 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+import org.chocosolver.util.sort.ArraySort;
+
+/**
+ * Time-table edge-finding filter for cumulative, in O(n^2.log(n)).
+ * <p>
+ * For each time window [a,b), where a is an earliest starting time and b a latest completion time,
+ * the energy required in the window is the energy of the compulsory parts (the time-table) plus
+ * the energy of the free parts of the tasks that are fully contained in the window.
+ * If it exceeds the capacity, the filter fails.
+ * Otherwise, among the tasks which start in the window and may end after it, the one that would consume
+ * the most energy in the window if started at its earliest starting time is pushed to the right, if needed.
+ * The same is done on the mirrored problem to filter latest completion times.
+ * <br/>
+ * "Explaining time-table-edge-finding propagation for the cumulative resource constraint",
+ * A. Schutt, T. Feydy, P.J. Stuckey, CPAIOR 2013.
+ * <p>
+ * The compulsory-part profile is kept from one call to the other, and is only rebuilt when a compulsory part
+ * has been modified (or when the set of tasks to filter changes).
+ * <p>
+ * Not idempotent.
+ * Not enough to ensure correctness (only an additional filtering):
+ * use it in addition to either SWEEP or TIME.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class TTEFCumulFilter extends CumulFilter {
+
+	//***********************************************************************************
+	// VARIABLES
+	//***********************************************************************************
+
+	// variable bound copies, for the current direction
+	private final int[] est, lct, lst, ect, p, c;
+	// new bounds
+	private final int[] newEst;
+	// tasks considered and their sorting
+	private final int[] tasks, byEst, byLct;
+	private int m;
+	private final ArraySort<?> sorter;
+	// compulsory parts used to build the profile (in original direction)
+	private final int[] cpStart, cpEnd, cpHeight;
+	private final int[] inProfile;
+	private int profileStamp, profileSize;
+	// the profile: breakpoints, height from each breakpoint and energy before each breakpoint
+	private final int[] events;
+	private int[] times;
+	private int[] heights;
+	private long[] energies;
+	private int nbTimes;
+
+	//***********************************************************************************
+	// CONSTRUCTORS
+	//***********************************************************************************
+
+	public TTEFCumulFilter(int n) {
+		super(n);
+		est = new int[n];
+		lct = new int[n];
+		lst = new int[n];
+		ect = new int[n];
+		p = new int[n];
+		c = new int[n];
+		newEst = new int[n];
+		tasks = new int[n];
+		byEst = new int[n];
+		byLct = new int[n];
+		sorter = new ArraySort<>(2 * n, false, true);
+		cpStart = new int[n];
+		cpEnd = new int[n];
+		cpHeight = new int[n];
+		inProfile = new int[n];
+		events = new int[2 * n];
+		times = new int[2 * n];
+		heights = new int[2 * n];
+		energies = new long[2 * n];
+	}
+
+	//***********************************************************************************
+	// METHODS
+	//***********************************************************************************
+
+	@Override
+	public void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, Propagator<IntVar> aCause) throws ContradictionException {
+		updateProfile(s, e, h, tasks);
+		long capaMax = capa.getUB();
+		// earliest starting times
+		if (load(s, d, e, h, tasks, false)) {
+			filter(capaMax, false, aCause);
+			for (int k = 0; k < m; k++) {
+				s[this.tasks[k]].updateLowerBound(newEst[k], aCause);
+			}
+		}
+		// latest completion times
+		updateProfile(s, e, h, tasks);
+		if (load(s, d, e, h, tasks, true)) {
+			filter(capaMax, true, aCause);
+			for (int k = 0; k < m; k++) {
+				e[this.tasks[k]].updateUpperBound(-newEst[k], aCause);
+			}
+		}
+	}
+
+	/**
+	 * Rebuild the compulsory-part profile, if at least one compulsory part has changed since the last call.
+	 */
+	private void updateProfile(IntVar[] s, IntVar[] e, IntVar[] h, ISet tasks) {
+		boolean same = tasks.size() == profileSize;
+		ISetIterator tIter = tasks.iterator();
+		while (same && tIter.hasNext()) {
+			int i = tIter.nextInt();
+			same = inProfile[i] == profileStamp
+					&& cpStart[i] == s[i].getUB() && cpEnd[i] == e[i].getLB() && cpHeight[i] == h[i].getLB();
+		}
+		if (same) {
+			return;
+		}
+		profileStamp++;
+		profileSize = tasks.size();
+		int nbEvents = 0;
+		tIter = tasks.iterator();
+		while (tIter.hasNext()) {
+			int i = tIter.nextInt();
+			inProfile[i] = profileStamp;
+			cpStart[i] = s[i].getUB();
+			cpEnd[i] = e[i].getLB();
+			cpHeight[i] = h[i].getLB();
+			if (cpStart[i] < cpEnd[i] && cpHeight[i] > 0) {
+				// each task has two events: its start (2.i) and its end (2.i+1)
+				events[nbEvents++] = 2 * i;
+				events[nbEvents++] = 2 * i + 1;
+			}
+		}
+		sorter.sort(events, nbEvents, (e1, e2) -> Integer.compare(date(e1), date(e2)));
+		nbTimes = 0;
+		int height = 0;
+		long energy = 0;
+		for (int k = 0; k < nbEvents; k++) {
+			int t = date(events[k]);
+			if (nbTimes > 0 && times[nbTimes - 1] == t) {
+				nbTimes--;
+			} else if (nbTimes > 0) {
+				energy += (long) height * (t - times[nbTimes - 1]);
+			}
+			int i = events[k] >> 1;
+			height += (events[k] & 1) == 0 ? cpHeight[i] : -cpHeight[i];
+			times[nbTimes] = t;
+			heights[nbTimes] = height;
+			energies[nbTimes] = energy;
+			nbTimes++;
+		}
+	}
+
+	private int date(int event) {
+		return (event & 1) == 0 ? cpStart[event >> 1] : cpEnd[event >> 1];
+	}
+
+	/**
+	 * @return the energy of the compulsory parts before <i>t</i>
+	 */
+	private long energyBefore(int t) {
+		int lo = 0, hi = nbTimes - 1;
+		if (nbTimes == 0 || t <= times[0]) {
+			return 0;
+		}
+		// find the last breakpoint <= t
+		while (lo < hi) {
+			int mid = (lo + hi + 1) >>> 1;
+			if (times[mid] <= t) {
+				lo = mid;
+			} else {
+				hi = mid - 1;
+			}
+		}
+		return energies[lo] + (long) heights[lo] * (t - times[lo]);
+	}
+
+	/**
+	 * @return the energy of the compulsory parts in [a,b), in the current direction
+	 */
+	private long timeTable(int a, int b, boolean mirror) {
+		return mirror ? energyBefore(-a) - energyBefore(-b) : energyBefore(b) - energyBefore(a);
+	}
+
+	/**
+	 * Load tasks with positive minimum duration and height, in the given direction.
+	 *
+	 * @return <tt>true</tt> if there is something to filter
+	 */
+	private boolean load(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, ISet set, boolean mirror) {
+		m = 0;
+		ISetIterator tIter = set.iterator();
+		while (tIter.hasNext()) {
+			int i = tIter.nextInt();
+			if (d[i].getLB() > 0 && h[i].getLB() > 0) {
+				tasks[m] = i;
+				if (mirror) {
+					est[m] = -e[i].getUB();
+					lct[m] = -s[i].getLB();
+					lst[m] = -e[i].getLB();
+					ect[m] = -s[i].getUB();
+				} else {
+					est[m] = s[i].getLB();
+					lct[m] = e[i].getUB();
+					lst[m] = s[i].getUB();
+					ect[m] = e[i].getLB();
+				}
+				p[m] = Math.max(d[i].getLB(), ect[m] - lst[m]);
+				c[m] = h[i].getLB();
+				newEst[m] = est[m];
+				byEst[m] = byLct[m] = m;
+				m++;
+			}
+		}
+		if (m == 0) {
+			return false;
+		}
+		sorter.sort(byEst, m, (i, j) -> Integer.compare(est[i], est[j]));
+		sorter.sort(byLct, m, (i, j) -> Integer.compare(lct[i], lct[j]));
+		return true;
+	}
+
+	private void filter(long capaMax, boolean mirror, Propagator<IntVar> aCause) throws ContradictionException {
+		for (int q = m - 1; q >= 0; q--) {
+			int b = lct[byLct[q]];
+			if (q > 0 && lct[byLct[q - 1]] == b) {
+				continue;
+			}
+			// energy of the free parts of tasks in [a,b)
+			long free = 0;
+			// task starting in [a,b) and ending after b, requiring the most energy in [a,b)
+			int best = -1;
+			long bestExtra = 0;
+			int bestCp = 0;
+			for (int k = m - 1; k >= 0; k--) {
+				int i = byEst[k];
+				int cp = Math.max(0, ect[i] - lst[i]);
+				if (lct[i] <= b) {
+					free += (long) c[i] * (p[i] - cp);
+				} else if (est[i] < b) {
+					int cpIn = Math.max(0, Math.min(ect[i], b) - lst[i]);
+					long extra = (long) c[i] * (Math.min(p[i], b - est[i]) - cpIn);
+					if (extra > bestExtra) {
+						best = i;
+						bestExtra = extra;
+						bestCp = cpIn;
+					}
+				}
+				int a = est[i];
+				if ((k > 0 && est[byEst[k - 1]] == a) || a >= b) {
+					continue;
+				}
+				long avail = capaMax * (b - a) - timeTable(a, b, mirror) - free;
+				if (avail < 0) {
+					aCause.fails();
+				}
+				if (best >= 0 && bestExtra > avail) {
+					newEst[best] = Math.max(newEst[best], b - bestCp - (int) (avail / c[best]));
+				}
+			}
+		}
+	}
+}
@@ -104,6 +104,16 @@ public class TimeCumulFilter extends CumulFilter {
 		}
 	}
 
+	@Override
+	public void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, CumulProfile profile, Propagator<IntVar> aCause) throws ContradictionException {
+		if (profile == null) {
+			filter(s, d, e, h, capa, tasks, aCause);
+		} else {
+			// one pass over the tasks, using the profile instead of each point in time
+			profile.timeTable(s, d, e, h, capa, tasks, aCause);
+		}
+	}
+
 	protected void filterInf(IntVar start, int elb, int dlb, int hlb, int min, int max, int[] time, int capaMax, Propagator<IntVar> aCause) throws ContradictionException {
 		int nbOk = 0;
 		int sub = start.getUB();
@@ -0,0 +1,318 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.disjunctive;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.sort.ArraySort;
+import org.chocosolver.util.tools.ArrayUtils;
+
+import java.util.Arrays;
+
+/**
+ * Unary resource propagator: tasks cannot overlap in time.
+ * <p>
+ * Based on Theta-Lambda trees (see {@link ThetaLambdaTree}), it runs in O(n.log(n)):
+ * <ul>
+ * <li>overload checking,</li>
+ * <li>detectable precedences,</li>
+ * <li>not-first/not-last,</li>
+ * <li>edge-finding,</li>
+ * </ul>
+ * on both earliest starting times and latest completion times, until a fix point is reached.
+ * <br/>
+ * "Filtering algorithms for the unary resource constraint", P. Vilim, Archives of Control Sciences, 2008.
+ * <p>
+ * The minimum of the duration of a task is used as its processing time.
+ * Tasks whose duration may be null are ignored.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class PropDisjunctive extends Propagator<IntVar> {
+
+    private final int n;
+    private final IntVar[] s, d, e;
+    private final ThetaLambdaTree tree;
+    private final ArraySort<?> sorter;
+    /**
+     * Number of tasks considered in the current pass
+     */
+    private int m;
+    /**
+     * Tasks considered, and their data, in the current direction
+     */
+    private final int[] tasks, est, lct, p;
+    /**
+     * Rank of each task wrt ascending est
+     */
+    private final int[] rank;
+    /**
+     * Set to <tt>true</tt> when a task is in &Theta;
+     */
+    private final boolean[] inTheta;
+    /**
+     * Tasks sorted wrt various criteria
+     */
+    private final int[] byEst, byLct, byLst, byEct;
+    /**
+     * New bounds
+     */
+    private final int[] newEst, newLct;
+
+    /**
+     * Create a unary resource propagator
+     *
+     * @param s start variables
+     * @param d duration variables
+     * @param e end variables
+     */
+    public PropDisjunctive(IntVar[] s, IntVar[] d, IntVar[] e) {
+        super(ArrayUtils.append(s, d, e), PropagatorPriority.LINEAR, false);
+        this.n = s.length;
+        if (!(n == d.length && n == e.length)) {
+            throw new SolverException("PropDisjunctive: starts, durations and ends should have the same length, " +
+                    "but they are " + n + ", " + d.length + " and " + e.length);
+        }
+        this.s = Arrays.copyOfRange(vars, 0, n);
+        this.d = Arrays.copyOfRange(vars, n, n * 2);
+        this.e = Arrays.copyOfRange(vars, n * 2, n * 3);
+        this.tree = new ThetaLambdaTree(n);
+        this.sorter = new ArraySort<>(n, false, true);
+        this.tasks = new int[n];
+        this.est = new int[n];
+        this.lct = new int[n];
+        this.p = new int[n];
+        this.rank = new int[n];
+        this.inTheta = new boolean[n];
+        this.byEst = new int[n];
+        this.byLct = new int[n];
+        this.byLst = new int[n];
+        this.byEct = new int[n];
+        this.newEst = new int[n];
+        this.newLct = new int[n];
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return IntEventType.boundAndInst();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        boolean again;
+        do {
+            again = filter(false);
+            again |= filter(true);
+        } while (again);
+    }
+
+    /**
+     * Run all filtering rules in one direction.
+     *
+     * @param mirror set to <tt>false</tt> to filter earliest starting times and latest completion times,
+     *               to <tt>true</tt> to work on the mirrored problem
+     * @return <tt>true</tt> if at least one bound has been modified
+     * @throws ContradictionException if the resource is overloaded
+     */
+    private boolean filter(boolean mirror) throws ContradictionException {
+        if (!load(mirror)) {
+            return false;
+        }
+        overloadAndEdgeFinding();
+        detectablePrecedences();
+        notLast();
+        return apply(mirror);
+    }
+
+    /**
+     * Load tasks with a positive processing time, and sort them.
+     *
+     * @return <tt>true</tt> if at least two tasks are considered
+     */
+    private boolean load(boolean mirror) {
+        m = 0;
+        for (int i = 0; i < n; i++) {
+            if (d[i].getLB() > 0) {
+                tasks[m] = i;
+                p[m] = d[i].getLB();
+                if (mirror) {
+                    est[m] = -e[i].getUB();
+                    lct[m] = -s[i].getLB();
+                } else {
+                    est[m] = s[i].getLB();
+                    lct[m] = e[i].getUB();
+                }
+                newEst[m] = est[m];
+                newLct[m] = lct[m];
+                byEst[m] = byLct[m] = byLst[m] = byEct[m] = m;
+                m++;
+            }
+        }
+        if (m < 2) {
+            return false;
+        }
+        sorter.sort(byEst, m, (i, j) -> est[i] - est[j]);
+        sorter.sort(byLct, m, (i, j) -> lct[i] - lct[j]);
+        sorter.sort(byLst, m, (i, j) -> (lct[i] - p[i]) - (lct[j] - p[j]));
+        sorter.sort(byEct, m, (i, j) -> (est[i] + p[i]) - (est[j] + p[j]));
+        for (int k = 0; k < m; k++) {
+            rank[byEst[k]] = k;
+        }
+        return true;
+    }
+
+    /**
+     * Overload checking and edge-finding: filter est.
+     */
+    private void overloadAndEdgeFinding() throws ContradictionException {
+        tree.clear();
+        for (int k = 0; k < m; k++) {
+            int i = byEst[k];
+            tree.addToTheta(k, est[i], p[i]);
+        }
+        int q = m - 1;
+        int j = byLct[q];
+        if (tree.getEct() > lct[j]) {
+            fails();
+        }
+        while (q > 0) {
+            tree.moveToLambda(rank[j]);
+            j = byLct[--q];
+            if (tree.getEct() > lct[j]) {
+                fails();
+            }
+            while (tree.getGrayEct() > lct[j] && tree.getResponsibleGrayEct() >= 0) {
+                int i = byEst[tree.getResponsibleGrayEct()];
+                newEst[i] = Math.max(newEst[i], tree.getEct());
+                tree.remove(rank[i]);
+            }
+        }
+    }
+
+    /**
+     * Detectable precedences: filter est.
+     */
+    private void detectablePrecedences() {
+        clearTheta();
+        int q = 0;
+        for (int k = 0; k < m; k++) {
+            int i = byEct[k];
+            int ecti = est[i] + p[i];
+            while (q < m && ecti > lct[byLst[q]] - p[byLst[q]]) {
+                int j = byLst[q++];
+                addToTheta(j);
+            }
+            newEst[i] = Math.max(newEst[i], ectWithout(i));
+        }
+    }
+
+    /**
+     * Not-last: filter lct.
+     */
+    private void notLast() {
+        clearTheta();
+        // j is the task of Theta with the largest lst, j0 the one before it
+        int q = 0, j = -1, j0 = -1;
+        for (int k = 0; k < m; k++) {
+            int i = byLct[k];
+            while (q < m && lct[i] > lct[byLst[q]] - p[byLst[q]]) {
+                j0 = j;
+                j = byLst[q++];
+                addToTheta(j);
+            }
+            int l = j == i ? j0 : j;
+            if (l >= 0 && ectWithout(i) > lct[i] - p[i]) {
+                newLct[i] = Math.min(newLct[i], lct[l] - p[l]);
+            }
+        }
+    }
+
+    private void clearTheta() {
+        tree.clear();
+        Arrays.fill(inTheta, 0, m, false);
+    }
+
+    private void addToTheta(int i) {
+        tree.addToTheta(rank[i], est[i], p[i]);
+        inTheta[i] = true;
+    }
+
+    /**
+     * @param i a task
+     * @return ECT(&Theta; \ {i})
+     */
+    private int ectWithout(int i) {
+        if (inTheta[i]) {
+            tree.remove(rank[i]);
+            int ect = tree.getEct();
+            tree.addToTheta(rank[i], est[i], p[i]);
+            return ect;
+        }
+        return tree.getEct();
+    }
+
+    /**
+     * Apply new bounds.
+     *
+     * @return <tt>true</tt> if at least one bound has been modified
+     */
+    private boolean apply(boolean mirror) throws ContradictionException {
+        boolean modified = false;
+        for (int k = 0; k < m; k++) {
+            int t = tasks[k];
+            if (mirror) {
+                modified |= e[t].updateUpperBound(-newEst[k], this);
+                modified |= s[t].updateLowerBound(-newLct[k], this);
+            } else {
+                modified |= s[t].updateLowerBound(newEst[k], this);
+                modified |= e[t].updateUpperBound(newLct[k], this);
+            }
+        }
+        return modified;
+    }
+
+    @Override
+    public ESat isEntailed() {
+        boolean instantiated = true;
+        for (int i = 0; i < n; i++) {
+            instantiated &= s[i].isInstantiated() && d[i].isInstantiated() && e[i].isInstantiated();
+            if (d[i].getLB() > 0) {
+                // compulsory parts must not overlap
+                for (int j = i + 1; j < n; j++) {
+                    if (d[j].getLB() > 0
+                            && s[i].getUB() < e[j].getLB() && s[j].getUB() < e[i].getLB()) {
+                        return ESat.FALSE;
+                    }
+                }
+            }
+        }
+        return instantiated ? ESat.TRUE : ESat.UNDEFINED;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("PropDisjunctive(");
+        for (int i = 0; i < n; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append("[").append(s[i].getName()).append(",").append(d[i].getName())
+                    .append(",").append(e[i].getName()).append("]");
+        }
+        return sb.append(")").toString();
+    }
+}
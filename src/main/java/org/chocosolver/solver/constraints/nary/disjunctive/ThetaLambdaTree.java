@@ -0,0 +1,187 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.disjunctive;
+
+/**
+ * A Theta-Lambda tree, as described in:
+ * <br/>
+ * "Filtering algorithms for the unary resource constraint", P. Vilim, Archives of Control Sciences, 2008.
+ * <p>
+ * Leaves are tasks sorted by ascending earliest starting time.
+ * Each task is either out of the tree, in the set &Theta; (white) or in the set &Lambda; (gray).
+ * The tree maintains, in O(log(n)) per operation:
+ * <ul>
+ * <li>ECT(&Theta;), the earliest completion time of the tasks of &Theta;,</li>
+ * <li>ECT(&Theta;, &Lambda;), the largest earliest completion time obtained by adding at most
+ * one task of &Lambda; to &Theta;, and the task of &Lambda; responsible for it.</li>
+ * </ul>
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class ThetaLambdaTree {
+
+    /**
+     * Earliest completion time of an empty set
+     */
+    public static final int NO_ECT = Integer.MIN_VALUE / 4;
+
+    /**
+     * Index of the first leaf
+     */
+    private int first;
+    /**
+     * Sum of processing times of &Theta;
+     */
+    private int[] sp;
+    /**
+     * Earliest completion time of &Theta;
+     */
+    private int[] ect;
+    /**
+     * Sum of processing times of &Theta;, with at most one gray task
+     */
+    private int[] gsp;
+    /**
+     * Earliest completion time of &Theta;, with at most one gray task
+     */
+    private int[] gect;
+    /**
+     * Gray leaf responsible for {@link #gsp}, -1 if none
+     */
+    private int[] rsp;
+    /**
+     * Gray leaf responsible for {@link #gect}, -1 if none
+     */
+    private int[] rect;
+
+    /**
+     * Create a Theta-Lambda tree
+     *
+     * @param capacity maximum number of tasks
+     */
+    public ThetaLambdaTree(int capacity) {
+        first = 1;
+        while (first < capacity) {
+            first <<= 1;
+        }
+        sp = new int[2 * first];
+        ect = new int[2 * first];
+        gsp = new int[2 * first];
+        gect = new int[2 * first];
+        rsp = new int[2 * first];
+        rect = new int[2 * first];
+        clear();
+    }
+
+    /**
+     * Remove all tasks from the tree.
+     */
+    public void clear() {
+        for (int k = 1; k < 2 * first; k++) {
+            sp[k] = gsp[k] = 0;
+            ect[k] = gect[k] = NO_ECT;
+            rsp[k] = rect[k] = -1;
+        }
+    }
+
+    /**
+     * Put task <i>leaf</i> in &Theta;.
+     *
+     * @param leaf rank of the task wrt ascending earliest starting time
+     * @param est  earliest starting time of the task
+     * @param p    processing time of the task
+     */
+    public void addToTheta(int leaf, int est, int p) {
+        int k = first + leaf;
+        sp[k] = gsp[k] = p;
+        ect[k] = gect[k] = est + p;
+        rsp[k] = rect[k] = -1;
+        update(k >> 1);
+    }
+
+    /**
+     * Move task <i>leaf</i> from &Theta; to &Lambda;.
+     *
+     * @param leaf rank of the task wrt ascending earliest starting time
+     */
+    public void moveToLambda(int leaf) {
+        int k = first + leaf;
+        sp[k] = 0;
+        ect[k] = NO_ECT;
+        rsp[k] = rect[k] = leaf;
+        update(k >> 1);
+    }
+
+    /**
+     * Remove task <i>leaf</i> from the tree.
+     *
+     * @param leaf rank of the task wrt ascending earliest starting time
+     */
+    public void remove(int leaf) {
+        int k = first + leaf;
+        sp[k] = gsp[k] = 0;
+        ect[k] = gect[k] = NO_ECT;
+        rsp[k] = rect[k] = -1;
+        update(k >> 1);
+    }
+
+    /**
+     * @return ECT(&Theta;), or {@link #NO_ECT} if &Theta; is empty
+     */
+    public int getEct() {
+        return ect[1];
+    }
+
+    /**
+     * @return ECT(&Theta;, &Lambda;), or {@link #NO_ECT} if both sets are empty
+     */
+    public int getGrayEct() {
+        return gect[1];
+    }
+
+    /**
+     * @return the rank of the gray task responsible for ECT(&Theta;, &Lambda;), -1 if none
+     */
+    public int getResponsibleGrayEct() {
+        return rect[1];
+    }
+
+    private void update(int k) {
+        while (k > 0) {
+            int l = k << 1, r = l + 1;
+            sp[k] = sp[l] + sp[r];
+            ect[k] = Math.max(ect[r], ect[l] + sp[r]);
+            // sum of processing times with one gray task
+            if (gsp[l] + sp[r] >= sp[l] + gsp[r]) {
+                gsp[k] = gsp[l] + sp[r];
+                rsp[k] = rsp[l];
+            } else {
+                gsp[k] = sp[l] + gsp[r];
+                rsp[k] = rsp[r];
+            }
+            // earliest completion time with one gray task
+            int v = gect[r];
+            int resp = rect[r];
+            if (ect[l] + gsp[r] > v) {
+                v = ect[l] + gsp[r];
+                resp = rsp[r];
+            }
+            if (gect[l] + sp[r] > v) {
+                v = gect[l] + sp[r];
+                resp = rect[l];
+            }
+            gect[k] = v;
+            rect[k] = resp;
+            k >>= 1;
+        }
+    }
+}
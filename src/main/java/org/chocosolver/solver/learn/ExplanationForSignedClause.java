@@ -27,6 +27,7 @@ import org.chocosolver.util.objects.ValueSortedMap;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableSetUtils;
 
+import java.util.Arrays;
 import java.util.HashMap;
 
 /**
@@ -76,6 +77,11 @@ public class ExplanationForSignedClause extends IExplanation {
      *           otherwise it represents the decision to refute in the decision path.
      */
     private int assertLevel = 0;
+    /**
+     * Literal block distance of the last learnt signed clause, that is, the number of distinct decision levels
+     * among its literals
+     */
+    private int lbd = 0;
     /**
      * The implication graph
      */
@@ -97,7 +103,7 @@ public class ExplanationForSignedClause extends IExplanation {
     public void extractConstraint(Model mModel, ClauseStore ngstore) {
         ClauseBuilder ngb = mModel.getClauseBuilder();
         literals.forEach(ngb::put);
-        ngb.buildNogood(mModel);
+        ngb.buildNogood(mModel, lbd);
     }
 
     @Override
@@ -106,6 +112,7 @@ public class ExplanationForSignedClause extends IExplanation {
         literals.forEach((v, r) -> returnSet(r));
         literals.clear();
         assertLevel = Integer.MAX_VALUE;
+        lbd = 0;
     }
 
     public void learnSolution(DecisionPath path) {
@@ -154,6 +161,8 @@ public class ExplanationForSignedClause extends IExplanation {
                 }
                 addLiteral(var, dom, false);
             }
+            // each literal comes from a distinct decision
+            lbd = literals.size();
         }
     }
 
@@ -168,9 +177,41 @@ public class ExplanationForSignedClause extends IExplanation {
         if (PROOF) System.out.print("<-----");
         initFront(cex);
         loop();
+        computeLBD();
         if (PROOF) System.out.print(">\n");
     }
 
+    /**
+     * Compute the literal block distance of the learnt signed clause.
+     * The decision level of a literal is the one of the node of its variable in the front,
+     * it is found by walking the implication graph down to the previous decision.
+     */
+    private void computeLBD() {
+        int[] nodes = new int[literals.size()];
+        int n = 0;
+        for (IntVar var : literals.keySet()) {
+            int p = front.getValueOrDefault(var, -1);
+            if (p > -1) {
+                nodes[n++] = p;
+            }
+        }
+        Arrays.sort(nodes, 0, n);
+        lbd = 0;
+        // first node of the decision level being visited
+        int start = Integer.MAX_VALUE;
+        for (int k = n - 1; k >= 0; k--) {
+            if (nodes[k] < start) {
+                lbd++;
+                start = nodes[k];
+                while (start > 0 && !IntDecision.class.isAssignableFrom(mIG.getCauseAt(start).getClass())) {
+                    start--;
+                }
+            }
+        }
+        // a literal whose variable is not in the front counts for one level
+        lbd += literals.size() - n;
+    }
+
     private void initFront(ContradictionException cex) {
         mIG.collectNodesFromConflict(cex, front);
         // deal with global conflict
@@ -391,6 +432,14 @@ public class ExplanationForSignedClause extends IExplanation {
         return assertLevel;
     }
 
+    /**
+     * @return the literal block distance of the last learnt signed clause, that is, the number of distinct
+     * decision levels among its literals
+     */
+    public int getLBD() {
+        return lbd;
+    }
+
     /**
      * Return an empty set available (created and returned) or create a new one
      * @return a free set
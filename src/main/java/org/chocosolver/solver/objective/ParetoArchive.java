@@ -0,0 +1,245 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.objective;
+
+import org.chocosolver.solver.Solution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Archive of mutually non-dominated points, each one attached to a solution.
+ * All coordinates are to be maximized.
+ * <p>
+ * Coordinates are stored in a flat array.
+ * With two dimensions, points are kept sorted by increasing first coordinate (hence decreasing second coordinate),
+ * so that insertions and queries rely on binary searches.
+ * Otherwise, points are stored in no particular order and scanned.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class ParetoArchive {
+
+    private final int dim;
+    private int[] coords;
+    private Solution[] solutions;
+    private int size;
+
+    /**
+     * Create an empty archive
+     *
+     * @param dim number of coordinates of a point
+     */
+    public ParetoArchive(int dim) {
+        this.dim = dim;
+        this.coords = new int[16 * dim];
+        this.solutions = new Solution[16];
+    }
+
+    /**
+     * @return number of points in the archive
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the i^th coordinate of the k^th point
+     */
+    public int get(int k, int i) {
+        return coords[k * dim + i];
+    }
+
+    /**
+     * @return the solution attached to the k^th point
+     */
+    public Solution getSolution(int k) {
+        return solutions[k];
+    }
+
+    /**
+     * @return the solutions of the archive
+     */
+    public List<Solution> getSolutions() {
+        List<Solution> list = new ArrayList<>(size);
+        for (int k = 0; k < size; k++) {
+            list.add(solutions[k]);
+        }
+        return list;
+    }
+
+    /**
+     * @return <i>true</i> if <i>point</i> is weakly dominated by (or equal to) a point of the archive
+     */
+    public boolean isDominated(int[] point) {
+        if (dim == 2) {
+            int k = firstNotBelow(point[0]);
+            return k < size && coords[2 * k + 1] >= point[1];
+        }
+        for (int k = 0; k < size; k++) {
+            if (dominates(k, point)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean dominates(int k, int[] point) {
+        for (int i = 0, p = k * dim; i < dim; i++, p++) {
+            if (coords[p] < point[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isDominatedBy(int k, int[] point) {
+        for (int i = 0, p = k * dim; i < dim; i++, p++) {
+            if (coords[p] > point[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Add <i>point</i> to the archive, unless it is weakly dominated, and remove the points it dominates.
+     *
+     * @param point    coordinates of the point, copied
+     * @param solution solution attached to the point
+     * @param removed  receives the solutions of the removed points
+     * @return <i>true</i> if the point has been added
+     */
+    public boolean add(int[] point, Solution solution, List<Solution> removed) {
+        if (isDominated(point)) {
+            return false;
+        }
+        int at;
+        if (dim == 2) {
+            // dominated points form a range: [j, k) in the ordering
+            int k = firstNotBelow(point[0]);
+            if (k < size && coords[2 * k] == point[0]) {
+                k++;
+            }
+            int j = k;
+            while (j > 0 && coords[2 * (j - 1) + 1] <= point[1]) {
+                j--;
+            }
+            for (int q = j; q < k; q++) {
+                removed.add(solutions[q]);
+            }
+            int shift = 1 - (k - j);
+            ensureCapacity(size + shift);
+            System.arraycopy(coords, 2 * k, coords, 2 * (k + shift), 2 * (size - k));
+            System.arraycopy(solutions, k, solutions, k + shift, size - k);
+            size += shift;
+            at = j;
+        } else {
+            for (int k = size - 1; k >= 0; k--) {
+                if (isDominatedBy(k, point)) {
+                    removed.add(solutions[k]);
+                    size--;
+                    System.arraycopy(coords, size * dim, coords, k * dim, dim);
+                    solutions[k] = solutions[size];
+                }
+            }
+            ensureCapacity(size + 1);
+            at = size++;
+        }
+        System.arraycopy(point, 0, coords, at * dim, dim);
+        solutions[at] = solution;
+        for (int k = size; k < solutions.length && solutions[k] != null; k++) {
+            solutions[k] = null;
+        }
+        return true;
+    }
+
+    /**
+     * Compute, for each coordinate, the smallest value that a point bounded by <i>ideal</i> must have to not be
+     * weakly dominated by a point of the archive.
+     *
+     * @param ideal largest possible coordinates
+     * @param lower receives the smallest admissible value of each coordinate, {@link Integer#MIN_VALUE} when
+     *              there is no restriction
+     * @return <i>false</i> if <i>ideal</i> itself is weakly dominated
+     */
+    public boolean filter(int[] ideal, int[] lower) {
+        for (int i = 0; i < dim; i++) {
+            lower[i] = Integer.MIN_VALUE;
+        }
+        if (dim == 2) {
+            // points with a second coordinate not below ideal[1] form a prefix
+            int a = 0, b = size;
+            while (a < b) {
+                int m = (a + b) >>> 1;
+                if (coords[2 * m + 1] >= ideal[1]) {
+                    a = m + 1;
+                } else {
+                    b = m;
+                }
+            }
+            if (a > 0) {
+                lower[0] = coords[2 * (a - 1)] + 1;
+            }
+            // points with a first coordinate not below ideal[0] form a suffix
+            int k = firstNotBelow(ideal[0]);
+            if (k < size) {
+                lower[1] = coords[2 * k + 1] + 1;
+            }
+            return lower[0] <= ideal[0] && lower[1] <= ideal[1];
+        }
+        for (int k = 0; k < size; k++) {
+            // a point that reaches the ideal on all coordinates but one restricts this one
+            int below = -1;
+            for (int i = 0, p = k * dim; i < dim; i++, p++) {
+                if (coords[p] < ideal[i]) {
+                    if (below >= 0) {
+                        below = -2;
+                        break;
+                    }
+                    below = i;
+                }
+            }
+            if (below == -1) {
+                return false;
+            } else if (below >= 0) {
+                lower[below] = Math.max(lower[below], coords[k * dim + below] + 1);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return in two dimensions, the index of the first point whose first coordinate is not below <i>v</i>
+     */
+    private int firstNotBelow(int v) {
+        int a = 0, b = size;
+        while (a < b) {
+            int m = (a + b) >>> 1;
+            if (coords[2 * m] < v) {
+                a = m + 1;
+            } else {
+                b = m;
+            }
+        }
+        return a;
+    }
+
+    private void ensureCapacity(int n) {
+        if (n > solutions.length) {
+            int c = Math.max(n, solutions.length * 3 / 2 + 1);
+            coords = Arrays.copyOf(coords, c * dim);
+            solutions = Arrays.copyOf(solutions, c);
+        }
+    }
+}
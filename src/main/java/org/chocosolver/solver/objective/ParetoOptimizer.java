@@ -8,19 +8,23 @@
  */
 package org.chocosolver.solver.objective;
 
-import org.chocosolver.sat.PropSat;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solution;
-import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.SolutionPool;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.ConstraintsName;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
 import org.chocosolver.solver.variables.IntVar;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Class to store the pareto front (multi-objective optimization).
  * Worse solutions are dynamically removed from the solution set.
+ * <p>
+ * The front is stored in a {@link ParetoArchive} and a single propagator, {@link PropParetoDominance},
+ * prevents search from computing dominated solutions.
  *
  * @author Jean-Guillaume Fages
  */
@@ -31,21 +35,22 @@ public class ParetoOptimizer implements IMonitorSolution {
     //***********************************************************************************
 
     // Set of incomparable and Pareto-best solutions
-    private LinkedList<Solution> paretoFront;
+    private ParetoArchive paretoFront;
 
     private Model model;
 
     // Allow to recycle (dominated) Solution objects
-    private LinkedList<Solution> pool = new LinkedList<>();
+    private SolutionPool pool;
+    private List<Solution> removed = new ArrayList<>();
 
     // objective function
     private boolean maximize;
     private IntVar[] objectives;
     private int n;
 
-    // to post dynamical constraints
-    private int[] vals, lits;
-    private PropSat psat;
+    // to prevent search from computing dominated solutions
+    private int[] vals;
+    private PropParetoDominance dominance;
 
     //***********************************************************************************
     // CONSTRUCTOR
@@ -68,14 +73,15 @@ public class ParetoOptimizer implements IMonitorSolution {
      * @param objectives objective variables (must all be optimized in the same direction)
      */
     public ParetoOptimizer(final boolean maximize, final IntVar[] objectives) {
-        this.paretoFront = new LinkedList<>();
         this.objectives = objectives.clone();
         this.maximize = maximize;
         n = objectives.length;
         model = objectives[0].getModel();
-        psat = model.getMinisat().getPropSat();
+        paretoFront = new ParetoArchive(n);
+        pool = new SolutionPool(model);
         vals = new int[n];
-        lits = new int[n];
+        dominance = new PropParetoDominance(this.objectives, maximize, paretoFront);
+        model.post(new Constraint(ConstraintsName.PARETO, dominance));
     }
 
     //***********************************************************************************
@@ -84,50 +90,28 @@ public class ParetoOptimizer implements IMonitorSolution {
 
     @Override
     public void onSolution() {
-        // get objective values
+        // get objective values, to be maximized
         for (int i = 0; i < n; i++) {
-            vals[i] = objectives[i].getValue();
+            vals[i] = maximize ? objectives[i].getValue() : -objectives[i].getValue();
         }
-        // remove dominated solutions
-        for (int i = paretoFront.size() - 1; i >= 0; i--) {
-            if (isDominated(paretoFront.get(i), vals)) {
-                pool.add(paretoFront.remove(i));
+        // store current solution, and remove dominated ones
+        Solution solution = pool.acquire().record();
+        if (paretoFront.add(vals, solution, removed)) {
+            for (int k = 0; k < removed.size(); k++) {
+                pool.release(removed.get(k));
             }
+            removed.clear();
+            // prevent search from computing dominated solutions
+            dominance.onNewPoint();
+        } else {
+            pool.release(solution);
         }
-        // store current solution
-        if(pool.isEmpty()){
-            paretoFront.add(new Solution(model).record());
-        }else{
-            Solution solution = pool.remove();
-
-            solution.record();
-            paretoFront.add(solution);
-        }
-        // post dynamical constraints to prevent search from computing dominated solutions
-        Operator symbol = Operator.GT;
-        if (!maximize) {
-            symbol = Operator.LT;
-        }
-        for (int i = 0; i < n; i++) {
-            lits[i] = psat.makeLiteral(model.arithm(objectives[i], symbol.toString(), vals[i]).reify(), true);
-        }
-        psat.addLearnt(lits);
     }
 
 	/**
      * @return the set of Pareto-best (possibly optimal) solutions found so far
      */
     public List<Solution> getParetoFront() {
-   		return paretoFront;
+   		return paretoFront.getSolutions();
    	}
-
-    private boolean isDominated(Solution solution, int[] vals) {
-        for (int i = 0; i < n; i++) {
-            int delta = solution.getIntVal(objectives[i]) - vals[i];
-            if ((delta > 0 && maximize) || (delta < 0 && !maximize)) {
-                return false;
-            }
-        }
-        return true;
-    }
 }
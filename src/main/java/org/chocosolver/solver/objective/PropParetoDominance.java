@@ -0,0 +1,96 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.objective;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+
+/**
+ * Propagator that prevents the objective variables from taking values weakly dominated by a point of a
+ * {@link ParetoArchive}: for each point p of the archive, at least one objective must be strictly better than in p.
+ * <p>
+ * The bounds of the objectives are filtered against the whole archive (see {@link ParetoArchive#filter(int[], int[])}),
+ * so that no constraint is added when a new point is archived.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class PropParetoDominance extends Propagator<IntVar> {
+
+    private final ParetoArchive archive;
+    private final boolean maximize;
+    private final int[] ideal, lower;
+
+    /**
+     * Create a propagator that forbids points dominated by the archive
+     *
+     * @param objectives objective variables
+     * @param maximize   whether the objectives are maximized or minimized
+     * @param archive    the archive, where objectives are stored to be maximized (that is, negated when minimized)
+     */
+    public PropParetoDominance(IntVar[] objectives, boolean maximize, ParetoArchive archive) {
+        super(objectives, PropagatorPriority.LINEAR, false);
+        this.archive = archive;
+        this.maximize = maximize;
+        this.ideal = new int[objectives.length];
+        this.lower = new int[objectives.length];
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return maximize ? IntEventType.DECUPP.getMask() + IntEventType.INSTANTIATE.getMask()
+                : IntEventType.INCLOW.getMask() + IntEventType.INSTANTIATE.getMask();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        if (archive.size() == 0) {
+            return;
+        }
+        for (int i = 0; i < vars.length; i++) {
+            ideal[i] = maximize ? vars[i].getUB() : -vars[i].getLB();
+        }
+        if (!archive.filter(ideal, lower)) {
+            fails();
+        }
+        for (int i = 0; i < vars.length; i++) {
+            if (lower[i] > Integer.MIN_VALUE) {
+                if (maximize) {
+                    vars[i].updateLowerBound(lower[i], this);
+                } else {
+                    vars[i].updateUpperBound(-lower[i], this);
+                }
+            }
+        }
+    }
+
+    /**
+     * To call when a point has been added to the archive, this is then propagated on backtrack.
+     */
+    public void onNewPoint() {
+        forcePropagationOnBacktrack();
+    }
+
+    @Override
+    public ESat isEntailed() {
+        if (isCompletelyInstantiated()) {
+            for (int i = 0; i < vars.length; i++) {
+                ideal[i] = maximize ? vars[i].getValue() : -vars[i].getValue();
+            }
+            return ESat.eval(!archive.isDominated(ideal));
+        }
+        return ESat.UNDEFINED;
+    }
+}
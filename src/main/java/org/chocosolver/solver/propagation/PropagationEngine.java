@@ -30,6 +30,12 @@ import java.util.function.Consumer;
  * <br/>On a call to {@code onVariableUpdate}, it stores the event generated and schedules the propagator in
  * one of the 7 queues wrt to its priority for future revision.
  * <p>
+ * When {@link org.chocosolver.solver.Settings#enableCostBasedPropagation()} returns <tt>true</tt>,
+ * the queue of a propagator is chosen wrt its measured cost instead of its static priority
+ * (see {@link PropagatorCosts}).
+ * <p>
+ * A {@link PropagationProfiler} can be attached to measure the propagation, see {@link #setProfiler(PropagationProfiler)}.
+ * <p>
  * <br/>
  *
  * @author Charles Prud'homme
@@ -88,6 +94,23 @@ public class PropagationEngine {
      * when set to '0b10', this workds as a variable- oriented propagation engine.
      */
     private final byte hybrid;
+    /**
+     * Runtime costs of propagators, <tt>null</tt> unless cost-based scheduling is enabled
+     */
+    private final PropagatorCosts costs;
+    /**
+     * Profiler of the propagation, <tt>null</tt> unless profiling is enabled
+     */
+    private PropagationProfiler profiler;
+    /**
+     * Set to <tt>true</tt> when propagator executions are measured,
+     * that is when cost-based scheduling or profiling is enabled
+     */
+    private boolean measure;
+    /**
+     * Number of domain reductions so far, only maintained when propagator executions are measured
+     */
+    private int nbReductions;
 
     /**
      * A seven-queue propagation engine.
@@ -108,6 +131,25 @@ public class PropagationEngine {
         this.dynPropagators = new DynPropagators();
         this.propagators = new ArrayList<>();
         this.hybrid = model.getSettings().enableHybridizationOfPropagationEngine();
+        this.costs = model.getSettings().enableCostBasedPropagation() ? new PropagatorCosts() : null;
+        this.measure = costs != null;
+    }
+
+    /**
+     * Attach a profiler to this engine, or detach the current one.
+     *
+     * @param profiler a profiler, or <tt>null</tt> to disable profiling
+     */
+    public void setProfiler(PropagationProfiler profiler) {
+        this.profiler = profiler;
+        this.measure = costs != null || profiler != null;
+    }
+
+    /**
+     * @return the profiler attached to this engine, <tt>null</tt> if none
+     */
+    public PropagationProfiler getProfiler() {
+        return profiler;
     }
 
     /**
@@ -158,7 +200,29 @@ public class PropagationEngine {
      */
     @SuppressWarnings({"NullableProblems"})
     public void propagate() throws ContradictionException {
+        if (profiler != null) {
+            long start = System.nanoTime();
+            try {
+                activatePropagators();
+                fixpoint();
+            } catch (ContradictionException cex) {
+                profiler.recordFixpoint(System.nanoTime() - start, true);
+                throw cex;
+            }
+            profiler.recordFixpoint(System.nanoTime() - start, false);
+            return;
+        }
         activatePropagators();
+        fixpoint();
+    }
+
+    /**
+     * Execute scheduled propagators until a fix point is reached.
+     * When propagator executions are measured, the cost of each of them is recorded.
+     *
+     * @throws ContradictionException if a contradiction occurrs
+     */
+    private void fixpoint() throws ContradictionException {
         do {
             manageModifications();
             for (int i = nextNotEmpty(0); i > -1; i = nextNotEmpty(0)) {
@@ -167,14 +231,19 @@ public class PropagationEngine {
                     // revision of the variable
                     lastProp.unschedule();
                     delayedPropagationType = 0;
-                    if (lastProp.reactToFineEvent()) {
-                        lastProp.doFinePropagation();
-                        // now we can check whether a delayed propagation has been scheduled
-                        if (delayedPropagationType > 0) {
-                            lastProp.propagate(delayedPropagationType);
+                    if (measure) {
+                        Propagator measured = lastProp;
+                        int reductions = nbReductions;
+                        long start = System.nanoTime();
+                        try {
+                            propagateLast();
+                        } catch (ContradictionException cex) {
+                            record(measured, System.nanoTime() - start, nbReductions - reductions, true);
+                            throw cex;
                         }
-                    } else if (lastProp.isActive()) { // need to be checked due to views
-                        lastProp.propagate(PropagatorEventType.FULL_PROPAGATION.getMask());
+                        record(measured, System.nanoTime() - start, nbReductions - reductions, false);
+                    } else {
+                        propagateLast();
                     }
                     if (hybrid < 0b01) {
                         manageModifications();
@@ -185,6 +254,35 @@ public class PropagationEngine {
         } while (!var_queue.isEmpty());
     }
 
+    /**
+     * Execute the last propagator polled from the queues
+     *
+     * @throws ContradictionException if a contradiction occurrs
+     */
+    private void propagateLast() throws ContradictionException {
+        if (lastProp.reactToFineEvent()) {
+            lastProp.doFinePropagation();
+            // now we can check whether a delayed propagation has been scheduled
+            if (delayedPropagationType > 0) {
+                lastProp.propagate(delayedPropagationType);
+            }
+        } else if (lastProp.isActive()) { // need to be checked due to views
+            lastProp.propagate(PropagatorEventType.FULL_PROPAGATION.getMask());
+        }
+    }
+
+    /**
+     * Record an execution of a propagator
+     */
+    private void record(Propagator propagator, long nanos, int reductions, boolean fail) {
+        if (costs != null) {
+            costs.record(propagator, nanos, reductions, fail);
+        }
+        if (profiler != null) {
+            profiler.record(propagator, nanos, reductions, fail);
+        }
+    }
+
     /**
      * Checks if some propagators were added or have to be propagated on backtrack
      * @throws ContradictionException if a propagation fails
@@ -208,7 +306,19 @@ public class PropagationEngine {
             propagator.setActive();
         }
         if (propagator.isActive()) {
-            propagator.propagate(PropagatorEventType.FULL_PROPAGATION.getMask());
+            if (measure) {
+                int reductions = nbReductions;
+                long start = System.nanoTime();
+                try {
+                    propagator.propagate(PropagatorEventType.FULL_PROPAGATION.getMask());
+                } catch (ContradictionException cex) {
+                    record(propagator, System.nanoTime() - start, nbReductions - reductions, true);
+                    throw cex;
+                }
+                record(propagator, System.nanoTime() - start, nbReductions - reductions, false);
+            } else {
+                propagator.propagate(PropagatorEventType.FULL_PROPAGATION.getMask());
+            }
             while (!var_queue.isEmpty()) {
                 schedule(var_queue.pollFirst());
             }
@@ -271,6 +381,9 @@ public class PropagationEngine {
         }
         var_queue.addLast(variable);
         variable.storeEvents(type.getMask(), cause);
+        if (measure) {
+            nbReductions++;
+        }
     }
 
     private void schedule(Variable variable) {
@@ -299,7 +412,11 @@ public class PropagationEngine {
 
     public void schedule(Propagator prop, int pindice, int mask) {
         prop.doScheduleEvent(pindice, mask);
-        notEmpty = notEmpty | (1 << prop.doSchedule(pro_queue));
+        if (costs != null) {
+            notEmpty = notEmpty | (1 << prop.doSchedule(pro_queue, costs.queueOf(prop)));
+        } else {
+            notEmpty = notEmpty | (1 << prop.doSchedule(pro_queue));
+        }
     }
 
     /**
@@ -0,0 +1,309 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import gnu.trove.impl.Constants;
+import gnu.trove.map.custom_hash.TObjectIntCustomHashMap;
+import gnu.trove.strategy.IdentityHashingStrategy;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A profiler of the propagation, to be attached to a {@link PropagationEngine}
+ * with {@link PropagationEngine#setProfiler(PropagationProfiler)}.
+ * <p>
+ * It records, for each propagator:
+ * <ul>
+ *     <li>the wall time spent in its filtering algorithms (coarse and fine propagation),</li>
+ *     <li>the number of times it has been executed,</li>
+ *     <li>the number of failures it has raised,</li>
+ *     <li>the number of domain reductions it has made.</li>
+ * </ul>
+ * These data are also aggregated per constraint type (that is, per constraint name, see {@link Constraint#getName()}).
+ * The number of fix points reached, or not, and the time spent to reach them are recorded too.
+ * </p>
+ * <p>
+ * When no profiler is attached, the propagation engine does not pay any measurement.
+ * Each propagator gets a slot the first time it is recorded, so a profiler can be shared by several engines.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class PropagationProfiler {
+
+    /**
+     * Slot of each profiled propagator
+     */
+    private TObjectIntCustomHashMap<Propagator> slots;
+    /**
+     * Profiled propagators, per slot
+     */
+    private Propagator[] propagators;
+    /**
+     * Time spent, in nanoseconds
+     */
+    private long[] times;
+    /**
+     * Number of executions
+     */
+    private long[] calls;
+    /**
+     * Number of failures
+     */
+    private long[] fails;
+    /**
+     * Number of domain reductions
+     */
+    private long[] reductions;
+    /**
+     * Number of calls to {@link PropagationEngine#propagate()}
+     */
+    private long nbFixpoints;
+    /**
+     * Number of calls to {@link PropagationEngine#propagate()} that ended with a failure
+     */
+    private long nbFailedFixpoints;
+    /**
+     * Time spent in {@link PropagationEngine#propagate()}, in nanoseconds
+     */
+    private long fixpointTime;
+
+    /**
+     * Create an empty profiler
+     */
+    public PropagationProfiler() {
+        reset();
+    }
+
+    /**
+     * Forget all data recorded so far
+     */
+    public void reset() {
+        slots = new TObjectIntCustomHashMap<>(IdentityHashingStrategy.INSTANCE,
+                Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR, -1);
+        propagators = new Propagator[64];
+        times = new long[64];
+        calls = new long[64];
+        fails = new long[64];
+        reductions = new long[64];
+        nbFixpoints = nbFailedFixpoints = fixpointTime = 0;
+    }
+
+    /**
+     * Record an execution of a propagator.
+     *
+     * @param p     a propagator
+     * @param nanos time spent, in nanoseconds
+     * @param nbred number of domain reductions
+     * @param fail  set to <tt>true</tt> if the execution ended with a failure
+     */
+    void record(Propagator p, long nanos, int nbred, boolean fail) {
+        int id = slots.get(p);
+        if (id == -1) {
+            id = slots.size();
+            slots.put(p, id);
+            ensureCapacity(id);
+            propagators[id] = p;
+        }
+        times[id] += nanos;
+        calls[id]++;
+        reductions[id] += nbred;
+        if (fail) {
+            fails[id]++;
+        }
+    }
+
+    /**
+     * Record a call to {@link PropagationEngine#propagate()}.
+     *
+     * @param nanos time spent, in nanoseconds
+     * @param fail  set to <tt>true</tt> if the call ended with a failure
+     */
+    void recordFixpoint(long nanos, boolean fail) {
+        fixpointTime += nanos;
+        nbFixpoints++;
+        if (fail) {
+            nbFailedFixpoints++;
+        }
+    }
+
+    private void ensureCapacity(int id) {
+        if (id >= propagators.length) {
+            int nsize = Math.max(id + 1, propagators.length * 3 / 2);
+            propagators = Arrays.copyOf(propagators, nsize);
+            times = Arrays.copyOf(times, nsize);
+            calls = Arrays.copyOf(calls, nsize);
+            fails = Arrays.copyOf(fails, nsize);
+            reductions = Arrays.copyOf(reductions, nsize);
+        }
+    }
+
+    /**
+     * @return the number of calls to {@link PropagationEngine#propagate()}
+     */
+    public long getNbFixpoints() {
+        return nbFixpoints;
+    }
+
+    /**
+     * @return the time spent in {@link PropagationEngine#propagate()}, in nanoseconds
+     */
+    public long getFixpointTime() {
+        return fixpointTime;
+    }
+
+    /**
+     * @param p a propagator
+     * @return the time spent by <i>p</i>, in nanoseconds
+     */
+    public long getTime(Propagator p) {
+        int id = slots.get(p);
+        return id == -1 ? 0 : times[id];
+    }
+
+    /**
+     * @param p a propagator
+     * @return the number of executions of <i>p</i>
+     */
+    public long getNbCalls(Propagator p) {
+        int id = slots.get(p);
+        return id == -1 ? 0 : calls[id];
+    }
+
+    /**
+     * @param p a propagator
+     * @return the number of failures raised by <i>p</i>
+     */
+    public long getNbFails(Propagator p) {
+        int id = slots.get(p);
+        return id == -1 ? 0 : fails[id];
+    }
+
+    /**
+     * @param p a propagator
+     * @return the number of domain reductions made by <i>p</i>
+     */
+    public long getNbReductions(Propagator p) {
+        int id = slots.get(p);
+        return id == -1 ? 0 : reductions[id];
+    }
+
+    /**
+     * Output a report of the recorded data: a summary of the fix points,
+     * then one line per constraint type and one line per propagator, both sorted by decreasing time.
+     *
+     * @param out where to write the report
+     * @param top maximum number of propagators to output
+     */
+    public void writeReport(PrintStream out, int top) {
+        out.printf("- Propagation profile [\n");
+        out.printf("\tFix points: %d (%d failed) in %.3fs\n", nbFixpoints, nbFailedFixpoints, fixpointTime / 1e9);
+        out.printf("\tPer constraint type:\n");
+        out.printf("\t%-24s %12s %12s %10s %12s\n", "type", "time(s)", "calls", "fails", "reductions");
+        for (Row r : aggregate()) {
+            out.printf("\t%-24s %12.4f %12d %10d %12d\n", r.name, r.time / 1e9, r.calls, r.fails, r.reductions);
+        }
+        out.printf("\tPer propagator (top %d):\n", top);
+        out.printf("\t%-40s %12s %12s %10s %12s\n", "propagator", "time(s)", "calls", "fails", "reductions");
+        List<Row> rows = rows();
+        for (int i = 0; i < rows.size() && i < top; i++) {
+            Row r = rows.get(i);
+            out.printf("\t%-40s %12.4f %12d %10d %12d\n", r.name, r.time / 1e9, r.calls, r.fails, r.reductions);
+        }
+        out.printf("]\n");
+    }
+
+    /**
+     * Output the recorded data in a semicolon-separated format, one line per propagator,
+     * sorted by decreasing time.
+     * The header is:
+     * <pre>
+     *     id;propagator;constraint;time(ns);calls;fails;reductions
+     * </pre>
+     *
+     * @param out where to write the data
+     */
+    public void writeCSV(PrintStream out) {
+        out.println("id;propagator;constraint;time(ns);calls;fails;reductions");
+        for (Row r : rows()) {
+            out.printf("%d;%s;%s;%d;%d;%d;%d\n", r.id, r.name, r.type, r.time, r.calls, r.fails, r.reductions);
+        }
+    }
+
+    /**
+     * @return one row per propagator executed at least once, sorted by decreasing time
+     */
+    private List<Row> rows() {
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < propagators.length; i++) {
+            if (propagators[i] != null) {
+                Propagator p = propagators[i];
+                Row r = new Row(p.getId(), p.getClass().getSimpleName() + "#" + p.getId(), typeOf(p));
+                r.add(times[i], calls[i], fails[i], reductions[i]);
+                rows.add(r);
+            }
+        }
+        rows.sort((r1, r2) -> Long.compare(r2.time, r1.time));
+        return rows;
+    }
+
+    /**
+     * @return one row per constraint type, sorted by decreasing time
+     */
+    private List<Row> aggregate() {
+        Map<String, Row> types = new HashMap<>();
+        for (int i = 0; i < propagators.length; i++) {
+            if (propagators[i] != null) {
+                String type = typeOf(propagators[i]);
+                Row r = types.computeIfAbsent(type, t -> new Row(-1, t, t));
+                r.add(times[i], calls[i], fails[i], reductions[i]);
+            }
+        }
+        List<Row> rows = new ArrayList<>(types.values());
+        rows.sort((r1, r2) -> Long.compare(r2.time, r1.time));
+        return rows;
+    }
+
+    private static String typeOf(Propagator p) {
+        Constraint c = p.getConstraint();
+        return c == null ? "-" : c.getName();
+    }
+
+    /**
+     * A line of the report
+     */
+    private static class Row {
+        final int id;
+        final String name;
+        final String type;
+        long time, calls, fails, reductions;
+
+        Row(int id, String name, String type) {
+            this.id = id;
+            this.name = name;
+            this.type = type;
+        }
+
+        void add(long time, long calls, long fails, long reductions) {
+            this.time += time;
+            this.calls += calls;
+            this.fails += fails;
+            this.reductions += reductions;
+        }
+    }
+}
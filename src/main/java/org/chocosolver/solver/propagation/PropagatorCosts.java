@@ -0,0 +1,129 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import gnu.trove.impl.Constants;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import org.chocosolver.solver.constraints.Propagator;
+
+import java.util.Arrays;
+
+/**
+ * Runtime cost of propagators, used by {@link PropagationEngine} to schedule propagators
+ * wrt to their actual behavior instead of their static priority.
+ * <p>
+ * For each propagator, the time spent per call and the number of domain reductions per call
+ * are smoothed with an exponential moving average.
+ * A failure counts as {@link #FAIL_YIELD} domain reductions.
+ * The <i>efficiency</i> of a propagator is then its average time divided by (1 + its average yield),
+ * and it is mapped to a queue: the cheaper (or the more productive) a propagator, the lower its queue.
+ * A propagator that has never been executed is mapped to the queue of its static priority.
+ * </p>
+ * <p>
+ * Each propagator gets a slot the first time it is executed, slots are given in order, starting from 0.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+class PropagatorCosts {
+
+    /**
+     * Number of domain reductions a failure is worth
+     */
+    private static final int FAIL_YIELD = 16;
+    /**
+     * Weight of the last measure in the moving averages
+     */
+    private static final double ALPHA = .125;
+    /**
+     * Base-2 logarithm of the efficiency, in nanoseconds, from which a propagator leaves the first queue
+     */
+    private static final int SHIFT = 7;
+    /**
+     * Number of queues available, the first one being 1
+     */
+    private static final int NB_QUEUES = 7;
+
+    /**
+     * Slot of each propagator executed at least once
+     */
+    private final TObjectIntHashMap<Propagator> slots;
+    /**
+     * Average time per call, in nanoseconds
+     */
+    private double[] times;
+    /**
+     * Average number of domain reductions per call
+     */
+    private double[] yields;
+    /**
+     * Queue of each propagator
+     */
+    private byte[] queues;
+
+    PropagatorCosts() {
+        slots = new TObjectIntHashMap<>(Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR, -1);
+        times = new double[64];
+        yields = new double[64];
+        queues = new byte[64];
+    }
+
+    /**
+     * @param p a propagator
+     * @return the queue <i>p</i> should be scheduled in, between 1 and 7
+     */
+    int queueOf(Propagator p) {
+        int id = slots.get(p);
+        if (id > -1) {
+            return queues[id];
+        }
+        return p.getPriority().priority;
+    }
+
+    /**
+     * Record an execution of <i>p</i>.
+     *
+     * @param p          a propagator
+     * @param nanos      time spent, in nanoseconds
+     * @param reductions number of domain reductions
+     * @param fail       set to <tt>true</tt> if the execution ended with a failure
+     */
+    void record(Propagator p, long nanos, int reductions, boolean fail) {
+        int id = slots.get(p);
+        boolean first = id == -1;
+        if (first) {
+            id = slots.size();
+            slots.put(p, id);
+            ensureCapacity(id);
+        }
+        double yield = fail ? reductions + FAIL_YIELD : reductions;
+        if (first) {
+            times[id] = nanos;
+            yields[id] = yield;
+        } else {
+            times[id] += ALPHA * (nanos - times[id]);
+            yields[id] += ALPHA * (yield - yields[id]);
+        }
+        long efficiency = (long) (times[id] / (1d + yields[id]));
+        int log2 = 63 - Long.numberOfLeadingZeros(efficiency);
+        // one queue per factor 4
+        queues[id] = (byte) Math.max(1, Math.min(NB_QUEUES, 1 + (log2 - SHIFT + 2) / 2));
+    }
+
+    private void ensureCapacity(int id) {
+        if (id >= queues.length) {
+            int nsize = Math.max(id + 1, queues.length * 3 / 2);
+            times = Arrays.copyOf(times, nsize);
+            yields = Arrays.copyOf(yields, nsize);
+            queues = Arrays.copyOf(queues, nsize);
+        }
+    }
+}
@@ -10,6 +10,7 @@ package org.chocosolver.solver.search;
 
 import org.chocosolver.solver.ISelf;
 import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.SolutionPool;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.nary.lex.PropLexInt;
@@ -138,8 +139,10 @@ public interface IResolutionHelper extends ISelf<Solver> {
 		ref().getModel().clearObjective();
         ref().addStopCriterion(stop);
         List<Solution> solutions = new ArrayList<>();
+        // solutions share the positions of the variables
+        SolutionPool pool = new SolutionPool(ref().getModel());
         while (ref().solve()) {
-            solutions.add(new Solution(ref().getModel()).record());
+            solutions.add(pool.acquire().record());
         }
         ref().removeStopCriterion(stop);
         return solutions;
@@ -181,10 +184,13 @@ public interface IResolutionHelper extends ISelf<Solver> {
         ref().addStopCriterion(stop);
         Spliterator<Solution> it = new Spliterator<Solution>() {
 
+            // solutions share the positions of the variables
+            private final SolutionPool pool = new SolutionPool(ref().getModel());
+
             @Override
             public boolean tryAdvance(Consumer<? super Solution> action) {
                 if (ref().solve()) {
-                    action.accept(new Solution(ref().getModel()).record());
+                    action.accept(pool.acquire().record());
                     return true;
                 }
                 ref().removeStopCriterion(stop);
@@ -8,6 +8,7 @@
  */
 package org.chocosolver.solver.search.loop.lns;
 
+import org.chocosolver.solver.search.loop.lns.neighbors.BanditNeighborhood;
 import org.chocosolver.solver.search.loop.lns.neighbors.INeighbor;
 import org.chocosolver.solver.search.loop.lns.neighbors.PropagationGuidedNeighborhood;
 import org.chocosolver.solver.search.loop.lns.neighbors.RandomNeighborhood;
@@ -34,6 +35,20 @@ public class INeighborFactory {
         );
     }
 
+    /**
+     * Creates a black-box LNS neighbor that learns online which neighbor improves the objective the most per second
+     * @param vars the pool of variables to be freezed
+     * @return a black-box LNS neighbor, with bandit selection
+     * @see BanditNeighborhood
+     */
+    public static INeighbor bandit(IntVar... vars) {
+        return new BanditNeighborhood(vars[0].getModel(), 0,
+                propagationGuided(vars),
+                reversedPropagationGuided(vars),
+                random(vars)
+        );
+    }
+
     /**
      * Create a random neighborhood fixing variables randomly
      * @param vars   the pool of variables to be freezed
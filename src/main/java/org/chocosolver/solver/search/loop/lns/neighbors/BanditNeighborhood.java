@@ -0,0 +1,174 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.lns.neighbors;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ResolutionPolicy;
+import org.chocosolver.solver.objective.IObjectiveManager;
+import org.chocosolver.solver.search.strategy.decision.DecisionPath;
+
+import java.util.Random;
+
+/**
+ * A neighbor which is based on multiple neighbors, and learns which one to call.
+ * <p>
+ * Each neighbor is scored by the improvement of the objective it brought per second of LNS run
+ * (one improvement per solution when there is no objective). Improvements and durations are smoothed
+ * exponentially, each time the neighbor ends a run, so that recent runs matter more (ALNS-like adaptive weights).
+ * Each neighbor is first called once, then a neighbor is selected with a probability proportional to its score,
+ * relatively to the best score, plus {@link #MIN_WEIGHT}.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class BanditNeighborhood extends SequenceNeighborhood {
+
+    /**
+     * Smoothing factor of improvements and durations: weight of the past
+     */
+    public static double DECAY = .9;
+    /**
+     * Weight of a neighbor added to its relative score, to keep on calling poor neighbors from time to time
+     */
+    public static double MIN_WEIGHT = .05;
+
+    private final Model model;
+    private final Random random;
+    /**
+     * Smoothed improvement and duration (in seconds) of the runs of each neighbor
+     */
+    private final double[] gains, times;
+    /**
+     * Number of runs of each neighbor
+     */
+    private final int[] runs;
+    private final double[] weights;
+    /**
+     * Whether a run is in progress, when it started and the objective value at that time
+     */
+    private boolean running;
+    private long start;
+    private double before;
+
+    /**
+     * Create a neighbor that selects among <i>neighbors</i> the one expected to improve the objective the most
+     *
+     * @param model     the model, to read the objective value
+     * @param seed      for randomness
+     * @param neighbors neighbors to select from
+     */
+    public BanditNeighborhood(Model model, long seed, INeighbor... neighbors) {
+        super(neighbors);
+        this.model = model;
+        this.random = new Random(seed);
+        this.gains = new double[count];
+        this.times = new double[count];
+        this.runs = new int[count];
+        this.weights = new double[count];
+    }
+
+    @Override
+    public void recordSolution() {
+        endRun(true);
+        super.recordSolution();
+    }
+
+    @Override
+    public void fixSomeVariables(DecisionPath decisionPath) {
+        running = true;
+        start = System.nanoTime();
+        before = objective();
+        super.fixSomeVariables(decisionPath);
+    }
+
+    @Override
+    public void restrictLess() {
+        // the run ended without solution
+        endRun(false);
+        super.restrictLess();
+    }
+
+    /**
+     * Update the score of the current neighbor, if a run was in progress
+     *
+     * @param improved whether a solution has been found
+     */
+    private void endRun(boolean improved) {
+        if (!running) {
+            return;
+        }
+        running = false;
+        double gain = 0d;
+        if (improved) {
+            gain = isOptimization() ? Math.abs(objective() - before) : 1d;
+        }
+        double time = Math.max((System.nanoTime() - start) / 1e9, 1e-6);
+        gains[who] = DECAY * gains[who] + gain;
+        times[who] = DECAY * times[who] + time;
+        runs[who]++;
+    }
+
+    @Override
+    protected void nextNeighbor() {
+        // each neighbor is called at least once
+        for (int i = 0; i < count; i++) {
+            if (runs[i] == 0) {
+                who = i;
+                return;
+            }
+        }
+        double best = 0d;
+        for (int i = 0; i < count; i++) {
+            weights[i] = gains[i] / times[i];
+            best = Math.max(best, weights[i]);
+        }
+        double sum = 0d;
+        for (int i = 0; i < count; i++) {
+            weights[i] = (best > 0d ? weights[i] / best : 1d) + MIN_WEIGHT;
+            sum += weights[i];
+        }
+        double r = random.nextDouble() * sum;
+        who = count - 1;
+        for (int i = 0; i < count - 1; i++) {
+            r -= weights[i];
+            if (r < 0) {
+                who = i;
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return the expected improvement of the objective per second of the <i>i</i>^th neighbor, 0 if it has not been
+     * called yet
+     */
+    public double getScore(int i) {
+        return runs[i] == 0 ? 0d : gains[i] / times[i];
+    }
+
+    /**
+     * @return the number of runs of the <i>i</i>^th neighbor
+     */
+    public int getNbRuns(int i) {
+        return runs[i];
+    }
+
+    private boolean isOptimization() {
+        return model.getSolver().getObjectiveManager().getPolicy() != ResolutionPolicy.SATISFACTION;
+    }
+
+    private double objective() {
+        IObjectiveManager<?> om = model.getSolver().getObjectiveManager();
+        if (om.getPolicy() == ResolutionPolicy.SATISFACTION || om.getBestSolutionValue() == null) {
+            return 0d;
+        }
+        return om.getBestSolutionValue().doubleValue();
+    }
+}
@@ -163,4 +163,19 @@ public interface IMoveFactory extends ISelf<Solver> {
     default void setLNS(INeighbor neighbor) {
         setLNS(neighbor, ICounter.Impl.None);
     }
+
+    /**
+     * Creates a Move object based on Large Neighborhood Search, like {@link #setLNS(INeighbor, ICounter)},
+     * where the restart frequency adapts to the runs (see {@link MoveLNS#setAdaptiveLimit(boolean)}).
+     * A neighbor which learns which fragments are the most effective, like
+     * {@link org.chocosolver.solver.search.loop.lns.neighbors.BanditNeighborhood}, is a good companion.
+     *
+     * @param neighbor       the neighbor for the LNS
+     * @param restartCounter the (fast) restart counter. Initial limit gives the initial frequency.
+     */
+    default void setAdaptiveLNS(INeighbor neighbor, ICounter restartCounter) {
+        MoveLNS lns = new MoveLNS(ref().getMove(), neighbor, restartCounter);
+        lns.setAdaptiveLimit(true);
+        ref().setMove(lns);
+    }
 }
@@ -40,6 +40,11 @@ public class MoveLNS implements Move {
      * Number of solutions found so far
      */
     protected long solutions;
+    /**
+     * Number of solutions found by the solver and already taken into account,
+     * which differs from {@link #solutions} when solutions are loaded
+     */
+    protected long found;
     /**
      * Indicate a restart has been triggered
      */
@@ -52,6 +57,15 @@ public class MoveLNS implements Move {
      * For restart strategy
      */
     protected long frequency;
+    /**
+     * Initial restart frequency, and maximum growth of it when the limit adapts to the runs
+     */
+    protected final long initialFrequency;
+    protected static final int MAX_GROWTH = 64;
+    /**
+     * Set to <tt>true</tt> when the restart frequency adapts to the runs
+     */
+    protected boolean adaptive;
 
     /**
      * Create a move which defines a Large Neighborhood Search.
@@ -64,6 +78,7 @@ public class MoveLNS implements Move {
         this.neighbor = neighbor;
         this.counter = restartCounter;
         this.frequency = counter.getLimitValue();
+        this.initialFrequency = frequency;
         this.solutions = 0;
         this.freshRestart = false;
     }
@@ -121,6 +136,7 @@ public class MoveLNS implements Move {
                 // if fast restart is on
                 if (counter.isMet()) {
                     // then is restart is triggered
+                    adaptLimit(true);
                     doRestart(solver);
                     extend = true;
                 } else {
@@ -176,8 +192,9 @@ public class MoveLNS implements Move {
                 // the second condition is only here for intiale calls, when solutions is not already up to date
                 || solver.getSolutionCount() > 0) {
             // the detection of a new solution can only be met here
-            if (solutions < solver.getSolutionCount()) {
-                assert solutions == solver.getSolutionCount() - 1;
+            if (found < solver.getSolutionCount()) {
+                assert found == solver.getSolutionCount() - 1;
+                found++;
                 solutions++;
                 neighbor.recordSolution();
                 doRestart(solver);
@@ -192,6 +209,7 @@ public class MoveLNS implements Move {
                 // but the neighbor cannot ensure completeness
                 if (!neighbor.isSearchComplete()) {
                     // then a restart is triggered
+                    adaptLimit(false);
                     doRestart(solver);
                     repair = true;
                 }
@@ -199,6 +217,7 @@ public class MoveLNS implements Move {
             // or a fast restart is on
             else if (counter.isMet()) {
                 // then is restart is triggered
+                adaptLimit(true);
                 doRestart(solver);
                 repair = true;
             }
@@ -211,6 +230,7 @@ public class MoveLNS implements Move {
     /**
      * Give an initial solution to begin with if called before executing the solving process
      * or erase the last recorded one otherwise.
+     * When called during the search, a restart is triggered so that the next fragment relies on <i>solution</i>.
      * @param solution a solution to record
      * @param solver that manages the LNS
      */
@@ -219,11 +239,53 @@ public class MoveLNS implements Move {
         if(solutions == 0){
             solutions++;
             freshRestart = true;
+            if (solver.getDecisionPath().size() > 1) {
+                // the search is in progress but not in LNS mode yet
+                doRestart(solver);
+            }
         }else{
             doRestart(solver);
         }
     }
 
+    /**
+     * Make the restart frequency adapt to the runs: it grows, up to {@link #MAX_GROWTH} times its initial value,
+     * each time a run reaches the limit, and decreases back to its initial value each time a fragment is
+     * entirely explored without solution.
+     * Has no effect when no restart counter is given.
+     *
+     * @param adaptive <tt>true</tt> to adapt the restart frequency
+     */
+    public void setAdaptiveLimit(boolean adaptive) {
+        this.adaptive = adaptive;
+        if (!adaptive) {
+            this.frequency = initialFrequency;
+        }
+    }
+
+    /**
+     * @return the current restart frequency
+     */
+    public long getFrequency() {
+        return frequency;
+    }
+
+    /**
+     * Adapt the restart frequency to the outcome of the current run, if required
+     *
+     * @param limitReached <tt>true</tt> if the run is stopped by the restart counter, <tt>false</tt> if the fragment
+     *                     has been entirely explored without solution
+     */
+    protected void adaptLimit(boolean limitReached) {
+        if (adaptive && initialFrequency > 0 && initialFrequency < Long.MAX_VALUE / MAX_GROWTH) {
+            if (limitReached) {
+                frequency = Math.min(frequency + frequency / 4 + 1, MAX_GROWTH * initialFrequency);
+            } else {
+                frequency = Math.max(frequency - frequency / 4, initialFrequency);
+            }
+        }
+    }
+
     @Override
     public void setTopDecisionPosition(int position) {
         move.setTopDecisionPosition(position);
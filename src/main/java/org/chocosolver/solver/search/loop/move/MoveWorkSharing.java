@@ -0,0 +1,266 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.move;
+
+import gnu.trove.map.hash.TIntObjectHashMap;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.loop.move.WorkSharingPool.Subproblem;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperator;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
+import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.search.strategy.decision.DecisionPath;
+import org.chocosolver.solver.search.strategy.decision.IntDecision;
+import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This {@link Move}'s implementation defines one worker of a work-sharing parallel tree search.
+ * <p>
+ * Subproblems (decision prefixes) are taken from a {@link WorkSharingPool} shared by all workers.
+ * Each prefix is applied at root node, as non-refutable decisions, then the subtree it defines
+ * is explored by the underlying move.
+ * Once the subtree is entirely explored, a restart is triggered and a new subproblem is taken from the pool.
+ * </p>
+ * <p>
+ * When another worker is idle (see {@link WorkSharingPool#isHungry()}), this worker donates
+ * the unexplored right-branch of the shallowest refutable decision of its decision path:
+ * the prefix leading to the right-branch is sent to the pool and the decision is set non-refutable,
+ * so that the right-branch is not explored by this worker anymore.
+ * </p>
+ * <p>
+ * Only {@link IntDecision}s can be shared. The underlying move must explore the subtree exhaustively,
+ * that is, it has to be a {@link MoveBinaryDFS}.
+ * </p>
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class MoveWorkSharing implements Move {
+
+    /**
+     * The move that explores each subproblem
+     */
+    protected Move move;
+    /**
+     * The pool shared among workers
+     */
+    protected final WorkSharingPool pool;
+    /**
+     * Maps variable ids to integer variables of the model
+     */
+    private final TIntObjectHashMap<IntVar> varsById;
+    /**
+     * The subproblem currently explored, <tt>null</tt> if none
+     */
+    private Subproblem current;
+    /**
+     * Indicate the prefix of the current subproblem has to be pushed in the decision path
+     */
+    private boolean freshRestart;
+    /**
+     * Position, in the decision path, of the first decision not part of the current prefix
+     */
+    private int firstFreePosition;
+    /**
+     * Number of subproblems explored by this worker
+     */
+    private long nbSubproblems;
+    /**
+     * Number of subproblems donated by this worker
+     */
+    private long nbDonations;
+
+    /**
+     * Create a move which takes subproblems to explore from <i>pool</i>.
+     *
+     * @param model the model this move is attached to
+     * @param move  how each subproblem is explored
+     * @param pool  the pool of subproblems shared among workers
+     */
+    public MoveWorkSharing(Model model, Move move, WorkSharingPool pool) {
+        this.move = move;
+        this.pool = pool;
+        this.varsById = new TIntObjectHashMap<>();
+        for (Variable v : model.getVars()) {
+            if ((v.getTypeAndKind() & Variable.INT) != 0) {
+                varsById.put(v.getId(), (IntVar) v);
+            }
+        }
+    }
+
+    @Override
+    public boolean init() {
+        current = pool.take(false);
+        if (current == null) {
+            return false;
+        }
+        nbSubproblems++;
+        freshRestart = current.size() > 0;
+        firstFreePosition = 1;
+        return move.init();
+    }
+
+    @Override
+    public boolean extend(Solver solver) {
+        if (freshRestart) {
+            assert solver.getDecisionPath().size() == 1;
+            pushPrefix(solver.getDecisionPath());
+            solver.getEnvironment().worldPush();
+            freshRestart = false;
+            return true;
+        }
+        if (pool.isHungry()) {
+            donate(solver.getDecisionPath());
+        }
+        return move.extend(solver);
+    }
+
+    @Override
+    public boolean repair(Solver solver) {
+        boolean repair = move.repair(solver);
+        if (!repair) {
+            // the current subproblem is entirely explored
+            current = pool.take(true);
+            if (current != null) {
+                nbSubproblems++;
+                freshRestart = current.size() > 0;
+                firstFreePosition = 1;
+                solver.restart();
+                repair = true;
+            }
+        }
+        return repair;
+    }
+
+    /**
+     * @return <tt>true</tt> if this worker is currently exploring a subproblem
+     */
+    public boolean isBusy() {
+        return current != null;
+    }
+
+    /**
+     * @return the number of subproblems explored by this worker
+     */
+    public long getNbSubproblems() {
+        return nbSubproblems;
+    }
+
+    /**
+     * @return the number of subproblems donated by this worker
+     */
+    public long getNbDonations() {
+        return nbDonations;
+    }
+
+    /**
+     * Push the decisions of the current prefix into <i>decisionPath</i>, they are all non-refutable.
+     * @param decisionPath the decision path
+     */
+    private void pushPrefix(DecisionPath decisionPath) {
+        for (int i = 0; i < current.size(); i++) {
+            IntDecision decision = decisionPath.makeIntDecision(
+                    varsById.get(current.getVarId(i)), current.getOperator(i), current.getValue(i));
+            decision.setRefutable(false);
+            decisionPath.pushDecision(decision);
+        }
+        firstFreePosition = decisionPath.size();
+    }
+
+    /**
+     * Look for the shallowest decision which right-branch is not explored yet,
+     * send this right-branch to the pool and make the decision non-refutable.
+     * @param decisionPath the decision path
+     */
+    @SuppressWarnings("unchecked")
+    private void donate(DecisionPath decisionPath) {
+        int size = decisionPath.size();
+        int p = firstFreePosition;
+        for (; p < size; p++) {
+            Decision d = decisionPath.getDecision(p);
+            if (!(d instanceof IntDecision)) {
+                return;
+            }
+            if (d.hasNext()) {
+                break;
+            }
+        }
+        if (p == size) {
+            return;
+        }
+        int n = current.size() + p - firstFreePosition + 1;
+        int[] ids = new int[n];
+        DecisionOperator<IntVar>[] ops = new DecisionOperator[n];
+        int[] vals = new int[n];
+        int k = 0;
+        for (; k < current.size(); k++) {
+            ids[k] = current.getVarId(k);
+            ops[k] = current.getOperator(k);
+            vals[k] = current.getValue(k);
+        }
+        for (int i = firstFreePosition; i <= p; i++, k++) {
+            IntDecision d = (IntDecision) decisionPath.getDecision(i);
+            ids[k] = d.getDecisionVariable().getId();
+            // the right-branch of the last one is the one to share
+            if (i == p || (d.getArity() == 2 && d.triesLeft() == 0)) {
+                DecisionOperator<IntVar> op = d.getDecOp();
+                int val = d.getDecisionValue();
+                if (op == DecisionOperatorFactory.makeIntSplit()) {
+                    val++;
+                } else if (op == DecisionOperatorFactory.makeIntReverseSplit()) {
+                    val--;
+                }
+                ops[k] = op.opposite();
+                vals[k] = val;
+            } else {
+                ops[k] = d.getDecOp();
+                vals[k] = d.getDecisionValue();
+            }
+        }
+        decisionPath.getDecision(p).setRefutable(false);
+        nbDonations++;
+        pool.offer(new Subproblem(ids, ops, vals));
+    }
+
+    @Override
+    public void setTopDecisionPosition(int position) {
+        move.setTopDecisionPosition(position);
+    }
+
+    @Override
+    public <V extends Variable> AbstractStrategy<V> getStrategy() {
+        return move.getStrategy();
+    }
+
+    @Override
+    public <V extends Variable> void setStrategy(AbstractStrategy<V> aStrategy) {
+        move.setStrategy(aStrategy);
+    }
+
+    @Override
+    public List<Move> getChildMoves() {
+        return Collections.singletonList(move);
+    }
+
+    @Override
+    public void setChildMoves(List<Move> someMoves) {
+        if (someMoves.size() == 1) {
+            this.move = someMoves.get(0);
+        } else {
+            throw new UnsupportedOperationException("Only one child move can be attached to it.");
+        }
+    }
+}
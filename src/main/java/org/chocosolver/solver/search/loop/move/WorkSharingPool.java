@@ -0,0 +1,259 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.move;
+
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperator;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * A pool of subproblems shared among the workers of a work-sharing parallel search.
+ * <p>
+ * A subproblem is a decision prefix, that is a conjunction of unary decisions
+ * (e.g., <i>x = 3</i>, <i>y &ne; 2</i>, <i>z &le; 5</i>) which, once applied at root node,
+ * defines a subtree of the search space.
+ * The pool starts with the empty prefix (the entire search tree).
+ * Idle workers wait for subproblems, busy ones donate unexplored right-branches
+ * (see {@link MoveWorkSharing}) when {@link #isHungry()} returns <tt>true</tt>.
+ * </p>
+ * <p>
+ * The search space is entirely explored as soon as the pool is empty and no worker is busy.
+ * </p>
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class WorkSharingPool {
+
+    /**
+     * Subproblems to explore
+     */
+    private final Deque<Subproblem> subproblems;
+    /**
+     * Number of workers currently exploring a subproblem
+     */
+    private int busy;
+    /**
+     * Number of workers waiting for a subproblem
+     */
+    private int waiting;
+    /**
+     * Set to <tt>true</tt> when no more subproblem can be provided
+     */
+    private boolean closed;
+    /**
+     * Set to <tt>true</tt> when at least one worker waits for a subproblem that does not exist yet
+     */
+    private volatile boolean hungry;
+    /**
+     * Number of subproblems provided so far
+     */
+    private long nbSubproblems;
+
+    /**
+     * Create a pool of subproblems that initially contains the entire search tree.
+     */
+    public WorkSharingPool() {
+        this.subproblems = new ArrayDeque<>();
+        this.subproblems.add(Subproblem.ROOT);
+        this.nbSubproblems = 1;
+    }
+
+    /**
+     * @return <tt>true</tt> if a worker waits for a subproblem.
+     * This method does not require any lock and can be called anytime.
+     */
+    public boolean isHungry() {
+        return hungry;
+    }
+
+    /**
+     * Retrieves and removes a subproblem from this pool, waiting if necessary until a subproblem becomes available.
+     *
+     * @param wasBusy set to <tt>true</tt> if the caller has just explored its previous subproblem
+     * @return a subproblem, or <tt>null</tt> if the search space is entirely explored or the pool is closed.
+     */
+    public synchronized Subproblem take(boolean wasBusy) {
+        if (wasBusy) {
+            busy--;
+        }
+        while (!closed && subproblems.isEmpty() && busy > 0) {
+            waiting++;
+            updateHunger();
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                closed = true;
+            }
+            waiting--;
+        }
+        Subproblem sub = null;
+        if (!closed && !subproblems.isEmpty()) {
+            sub = subproblems.poll();
+            busy++;
+        } else {
+            // either the search tree is entirely explored or the search has been interrupted
+            closed = true;
+            notifyAll();
+        }
+        updateHunger();
+        return sub;
+    }
+
+    /**
+     * Adds a subproblem to this pool and wakes up a waiting worker, if any.
+     *
+     * @param sub a subproblem, not yet explored
+     */
+    public synchronized void offer(Subproblem sub) {
+        if (!closed) {
+            subproblems.add(sub);
+            nbSubproblems++;
+            updateHunger();
+            notify();
+        }
+    }
+
+    /**
+     * Informs this pool that a worker stops, whatever the reason.
+     *
+     * @param wasBusy set to <tt>true</tt> if the worker was exploring a subproblem
+     */
+    public synchronized void leave(boolean wasBusy) {
+        if (wasBusy) {
+            busy--;
+        }
+        if (busy == 0 && subproblems.isEmpty()) {
+            closed = true;
+        }
+        updateHunger();
+        notifyAll();
+    }
+
+    /**
+     * Closes this pool: waiting workers are woken up and no subproblem will be provided anymore.
+     */
+    public synchronized void close() {
+        closed = true;
+        updateHunger();
+        notifyAll();
+    }
+
+    /**
+     * @return the number of subproblems that were added to this pool so far (including the initial one).
+     */
+    public synchronized long getNbSubproblems() {
+        return nbSubproblems;
+    }
+
+    private void updateHunger() {
+        hungry = !closed && waiting > subproblems.size();
+    }
+
+    /**
+     * A decision prefix which defines a subtree of the search space.
+     * Variables are referenced by their id (see {@link IntVar#getId()}),
+     * so that a subproblem built from one model can be applied to any identical copy of it.
+     */
+    public static final class Subproblem {
+
+        /**
+         * The empty prefix, which stands for the entire search tree
+         */
+        public static final Subproblem ROOT = new Subproblem(new int[0], new DecisionOperator[0], new int[0]);
+
+        /**
+         * Ids of the variables
+         */
+        private final int[] varIds;
+        /**
+         * Decision operators
+         */
+        private final DecisionOperator<IntVar>[] operators;
+        /**
+         * Decision values
+         */
+        private final int[] values;
+
+        /**
+         * Create a subproblem based on a decision prefix, where the i<sup>th</sup> decision is
+         * "<i>operators[i]</i>(<i>varIds[i]</i>, <i>values[i]</i>)".
+         * @param varIds ids of the variables
+         * @param operators decision operators
+         * @param values decision values
+         */
+        public Subproblem(int[] varIds, DecisionOperator<IntVar>[] operators, int[] values) {
+            this.varIds = varIds;
+            this.operators = operators;
+            this.values = values;
+        }
+
+        /**
+         * @return number of decisions in the prefix
+         */
+        public int size() {
+            return varIds.length;
+        }
+
+        /**
+         * @param i index of a decision in the prefix
+         * @return the id of the variable of the i<sup>th</sup> decision
+         */
+        public int getVarId(int i) {
+            return varIds[i];
+        }
+
+        /**
+         * @param i index of a decision in the prefix
+         * @return the operator of the i<sup>th</sup> decision
+         */
+        public DecisionOperator<IntVar> getOperator(int i) {
+            return operators[i];
+        }
+
+        /**
+         * @param i index of a decision in the prefix
+         * @return the value of the i<sup>th</sup> decision
+         */
+        public int getValue(int i) {
+            return values[i];
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder st = new StringBuilder("{");
+            for (int i = 0; i < varIds.length; i++) {
+                if (i > 0) st.append(", ");
+                st.append('#').append(varIds[i]).append(operators[i]).append(values[i]);
+            }
+            return st.append('}').toString();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Subproblem that = (Subproblem) o;
+            return Arrays.equals(varIds, that.varIds)
+                    && Arrays.equals(operators, that.operators)
+                    && Arrays.equals(values, that.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * Arrays.hashCode(varIds) + Arrays.hashCode(operators)) + Arrays.hashCode(values);
+        }
+    }
+}
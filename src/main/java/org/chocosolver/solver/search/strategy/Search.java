@@ -245,7 +245,9 @@ public class Search {
     /**
      * Builds a default search heuristics of integer variables
      * Variable selection relies on {@link #domOverWDegSearch(IntVar...)}
-     * Value selection relies on InDomainBest for optimization and InDomainMin for satisfaction
+     * Value selection relies on InDomainBest for optimization and InDomainMin for satisfaction,
+     * guided by the last solution found, or by the last value assigned to each variable when phase saving is enabled
+     * (see {@link org.chocosolver.solver.Settings#enablePhaseSaving()})
      * @param vars         variables to branch on
      * @return a default search strategy
      */
@@ -257,9 +259,14 @@ public class Search {
                 valueSelector = new IntDomainMin();
         }else{
             valueSelector = new IntDomainBest();
-            Solution lastSolution = new Solution(model, vars);
-            model.getSolver().plugMonitor((IMonitorSolution) lastSolution::record);
-            valueSelector = new IntDomainLast(lastSolution, valueSelector);
+            if (!model.getSettings().enablePhaseSaving()) {
+                Solution lastSolution = new Solution(model, vars);
+                model.getSolver().plugMonitor((IMonitorSolution) lastSolution::record);
+                valueSelector = new IntDomainLast(lastSolution, valueSelector);
+            }
+        }
+        if (model.getSettings().enablePhaseSaving()) {
+            valueSelector = new IntDomainPhase(vars, valueSelector, false);
         }
         return new DomOverWDeg(vars, 0,valueSelector);
     }
@@ -0,0 +1,142 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.values;
+
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.search.loop.monitors.IMonitorUpBranch;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.BitSet;
+
+/**
+ * Value selector with phase saving:
+ * branches on the value saved for the variable (its <i>phase</i>), if still in domain.
+ * <p>
+ * In phase saving mode, the phase of a variable is the last value it was assigned to:
+ * it is saved when the variable is selected for branching, and, for all the variables instantiated at that time,
+ * on each solution, before each restart (see {@link org.chocosolver.solver.search.loop.move.MoveRestart}) and
+ * before each backjump (see {@link org.chocosolver.solver.search.loop.learn.LearnSignedClauses}).
+ * <p>
+ * In solution-guided mode, phases are only saved on solutions: the search is guided towards the last solution found.
+ * <p>
+ * This selector is plugged into the solver as a search monitor on construction.
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public final class IntDomainPhase implements IntValueSelector, IMonitorSolution, IMonitorRestart, IMonitorUpBranch {
+
+    /**
+     * Variables whose phase is saved
+     */
+    private final IntVar[] vars;
+    /**
+     * The default value selector
+     */
+    private final IntValueSelector mainSelector;
+    /**
+     * Set to <tt>true</tt> to save phases only on solutions
+     */
+    private final boolean guided;
+    private final Solver solver;
+    /**
+     * Phases, indexed by variable id minus {@link #offset}
+     */
+    private final int[] phases;
+    private final BitSet saved;
+    private final int offset;
+
+    /**
+     * Create a value selector that returns the phase of the variable.
+     * If no phase was saved or the value does not exist anymore, falls back to <i>mainSelector</i>.
+     *
+     * @param vars         variables to branch on
+     * @param mainSelector falling back selector
+     * @param guided       <tt>true</tt> to save phases on solutions only (solution-guided search),
+     *                     <tt>false</tt> to save the last values assigned (phase saving)
+     */
+    public IntDomainPhase(IntVar[] vars, IntValueSelector mainSelector, boolean guided) {
+        this.vars = vars.clone();
+        this.mainSelector = mainSelector;
+        this.guided = guided;
+        int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+        for (IntVar var : vars) {
+            min = Math.min(min, var.getId());
+            max = Math.max(max, var.getId());
+        }
+        this.offset = vars.length > 0 ? min : 0;
+        this.phases = new int[vars.length > 0 ? max - min + 1 : 0];
+        this.saved = new BitSet(phases.length);
+        this.solver = vars.length > 0 ? vars[0].getModel().getSolver() : null;
+        if (solver != null) {
+            solver.plugMonitor(this);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int selectValue(IntVar var) {
+        int i = var.getId() - offset;
+        boolean known = i >= 0 && i < phases.length;
+        if (known && saved.get(i) && var.contains(phases[i])) {
+            return phases[i];
+        }
+        int value = mainSelector.selectValue(var);
+        if (known && !guided) {
+            phases[i] = value;
+            saved.set(i);
+        }
+        return value;
+    }
+
+    /**
+     * @return <tt>true</tt> if a phase is saved for <i>var</i>
+     */
+    public boolean hasPhase(IntVar var) {
+        int i = var.getId() - offset;
+        return i >= 0 && i < phases.length && saved.get(i);
+    }
+
+    /**
+     * Save the value of each instantiated variable
+     */
+    private void saveInstantiated() {
+        for (IntVar var : vars) {
+            if (var.isInstantiated()) {
+                int i = var.getId() - offset;
+                phases[i] = var.getValue();
+                saved.set(i);
+            }
+        }
+    }
+
+    @Override
+    public void onSolution() {
+        saveInstantiated();
+    }
+
+    @Override
+    public void beforeRestart() {
+        if (!guided) {
+            saveInstantiated();
+        }
+    }
+
+    @Override
+    public void beforeUpBranch() {
+        // the learner has set how many decisions are rolled back
+        if (!guided && solver.getJumpTo() > 1) {
+            saveInstantiated();
+        }
+    }
+}
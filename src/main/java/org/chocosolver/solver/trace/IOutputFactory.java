@@ -10,6 +10,7 @@ package org.chocosolver.solver.trace;
 
 import org.chocosolver.solver.ISelf;
 import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.propagation.PropagationProfiler;
 import org.chocosolver.solver.search.loop.monitors.IMonitorClose;
 import org.chocosolver.solver.search.loop.monitors.IMonitorContradiction;
 import org.chocosolver.solver.search.loop.monitors.IMonitorDownBranch;
@@ -151,6 +152,45 @@ public interface IOutputFactory extends ISelf<Solver> {
         });
     }
 
+    /**
+     * Attach a {@link PropagationProfiler} to the propagation engine, if not done yet,
+     * and plug a search monitor which outputs the profile of the propagation after closing the search:
+     * per constraint type and per propagator (the <i>top</i> most expensive ones) time, calls, fails
+     * and domain reductions.
+     * <p>
+     * Recommended usage: to be called before the resolution step.
+     *
+     * @param top maximum number of propagators to output
+     * @param csv set to <tt>true</tt> to output the profile in a semicolon-separated format
+     *            (see {@link PropagationProfiler#writeCSV(PrintStream)}), in which case all propagators are output
+     */
+    default void showPropagationProfile(int top, boolean csv) {
+        if (ref().getEngine().getProfiler() == null) {
+            ref().getEngine().setProfiler(new PropagationProfiler());
+        }
+        ref().plugMonitor(new IMonitorClose() {
+            @Override
+            public void afterClose() {
+                PropagationProfiler profiler = ref().getEngine().getProfiler();
+                if (csv) {
+                    profiler.writeCSV(getOut());
+                } else {
+                    profiler.writeReport(getOut(), top);
+                }
+            }
+        });
+    }
+
+    /**
+     * Plug a search monitor which outputs the profile of the propagation after closing the search,
+     * see {@link #showPropagationProfile(int, boolean)}.
+     * <p>
+     * Recommended usage: to be called before the resolution step.
+     */
+    default void showPropagationProfile() {
+        showPropagationProfile(20, false);
+    }
+
     /**
      * Plug a search monitor which calls {@link #printShortStatistics()} before closing the search.
      * <p>
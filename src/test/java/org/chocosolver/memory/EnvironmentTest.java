@@ -8,6 +8,9 @@
  */
 package org.chocosolver.memory;
 
+import org.chocosolver.memory.trailing.EnvironmentTrailing;
+import org.chocosolver.memory.trailing.StoredLong;
+import org.chocosolver.memory.trailing.trail.hybrid.HybridLongTrail;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -24,7 +27,10 @@ public class EnvironmentTest {
     private Object[][] env() {
         return new IEnvironment[][]{
                 {new EnvironmentBuilder().fromFlat().build()},
-                {new EnvironmentBuilder().fromChunk().build()}
+                {new EnvironmentBuilder().fromChunk().build()},
+                {new EnvironmentBuilder().fromPacked().build()},
+                {new EnvironmentBuilder().fromHybrid().build()},
+                {new EnvironmentBuilder().fromHybrid(0.).build()}
         };
     }
 
@@ -147,5 +153,53 @@ public class EnvironmentTest {
         }catch (IndexOutOfBoundsException e){}
     }
 
-}
+    @Test(groups = "1s", timeOut = 60000)
+    public void testHybrid() {
+        EnvironmentTrailing environment = new EnvironmentBuilder().fromHybrid().build();
+        HybridLongTrail trail = (HybridLongTrail) environment.getLongTrail();
+        StoredLong dense = (StoredLong) environment.makeLong(0);
+        StoredLong sparse = (StoredLong) environment.makeLong(0);
+        int n = 3 * HybridLongTrail.MIN_WORLDS;
+        for (int i = 1; i <= n; i++) {
+            environment.worldPush();
+            dense.set(i);
+            if (i % 4 == 0) {
+                sparse.set(i);
+            }
+        }
+        Assert.assertTrue(trail.isCopied(dense));
+        Assert.assertFalse(trail.isCopied(sparse));
+        for (int i = n; i > 0; i--) {
+            Assert.assertEquals(dense.get(), i);
+            Assert.assertEquals(sparse.get(), i - i % 4);
+            environment.worldPop();
+        }
+        Assert.assertEquals(dense.get(), 0);
+        Assert.assertEquals(sparse.get(), 0);
+        Assert.assertFalse(trail.isCopied(dense));
+        Assert.assertEquals(trail.getNbCopied(), 0);
+    }
 
+    @Test(groups = "1s", timeOut = 60000)
+    public void testHybridCommit() {
+        EnvironmentTrailing environment = new EnvironmentBuilder().fromHybrid(0.).build();
+        HybridLongTrail trail = (HybridLongTrail) environment.getLongTrail();
+        StoredLong dense = (StoredLong) environment.makeLong(0);
+        int n = 2 * HybridLongTrail.MIN_WORLDS;
+        for (int i = 1; i <= n; i++) {
+            environment.worldPush();
+            dense.set(i);
+        }
+        Assert.assertTrue(trail.isCopied(dense));
+        // commit the worlds in which dense is copied
+        while (trail.isCopied(dense)) {
+            environment.worldCommit();
+        }
+        Assert.assertEquals(dense.get(), n);
+        int w = environment.getWorldIndex();
+        environment.worldPop();
+        Assert.assertEquals(dense.get(), w - 1);
+        environment.worldPopUntil(0);
+        Assert.assertEquals(dense.get(), 0);
+    }
+}
@@ -19,7 +19,10 @@ public class PopTest {
     public Object[][] getEnvs(){
         return new EnvironmentTrailing[][]{
                 {new EnvironmentBuilder().fromFlat().build()},
-                {new EnvironmentBuilder().fromChunk().build()}
+                {new EnvironmentBuilder().fromChunk().build()},
+                {new EnvironmentBuilder().fromPacked().build()},
+                {new EnvironmentBuilder().fromHybrid().build()},
+                {new EnvironmentBuilder().fromHybrid(0.).build()}
         };
     }
 
@@ -0,0 +1,193 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory;
+
+import org.chocosolver.memory.trailing.EnvironmentTrailing;
+import org.chocosolver.memory.trailing.StoredInt;
+import org.chocosolver.memory.trailing.trail.hybrid.HybridIntTrail;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Checks that the trail backends reach identical states on a push/set/pop workload.
+ * Their timings are compared in the benchmarks module, see <code>EnvironmentBenchmark</code>.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class TrailBackendTest {
+
+    private static final int NB_INTS = 10_000;
+    private static final int DEPTH = 200;
+    private static final int NB_SETS = 2_000;
+
+    @DataProvider(name = "backends")
+    public Object[][] backends() {
+        return new Object[][]{
+                {"flat", (Supplier<EnvironmentTrailing>) () -> new EnvironmentBuilder().fromFlat().build()},
+                {"chunk", (Supplier<EnvironmentTrailing>) () -> new EnvironmentBuilder().fromChunk().build()},
+                {"packed", (Supplier<EnvironmentTrailing>) () -> new EnvironmentBuilder().fromPacked().build()},
+                {"hybrid", (Supplier<EnvironmentTrailing>) () -> new EnvironmentBuilder().fromHybrid().build()},
+                {"copy", (Supplier<EnvironmentTrailing>) () -> new EnvironmentBuilder().fromHybrid(0.).build()},
+        };
+    }
+
+    @DataProvider(name = "committable")
+    public Object[][] committable() {
+        return new Object[][]{
+                {"flat", (Supplier<EnvironmentTrailing>) () -> new EnvironmentBuilder().fromFlat().build()},
+                {"packed", (Supplier<EnvironmentTrailing>) () -> new EnvironmentBuilder().fromPacked().build()},
+                {"hybrid", (Supplier<EnvironmentTrailing>) () -> new EnvironmentBuilder().fromHybrid().build()},
+                {"copy", (Supplier<EnvironmentTrailing>) () -> new EnvironmentBuilder().fromHybrid(0.).build()},
+        };
+    }
+
+    @Test(groups = "10s", timeOut = 60000, dataProvider = "backends")
+    public void testPushPop(String name, Supplier<EnvironmentTrailing> supplier) {
+        long[] ref = run(new EnvironmentBuilder().fromFlat().build());
+        Assert.assertEquals(run(supplier.get()), ref);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "committable")
+    public void testCommit(String name, Supplier<EnvironmentTrailing> supplier) {
+        EnvironmentTrailing env = supplier.get();
+        IStateInt a = env.makeInt(0);
+        IStateLong b = env.makeLong(0);
+        IStateDouble c = env.makeFloat(0.);
+        IStateBool d = env.makeBool(false);
+        env.worldPush();
+        a.set(1);
+        b.set(1L << 40);
+        c.set(.5);
+        d.set(true);
+        env.worldPush();
+        a.set(2);
+        b.set(-1L);
+        c.set(-.5);
+        env.worldCommit();
+        env.worldPop();
+        Assert.assertEquals(a.get(), 0);
+        Assert.assertEquals(b.get(), 0L);
+        Assert.assertEquals(c.get(), 0.);
+        Assert.assertFalse(d.get());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testPackedRelease() {
+        EnvironmentTrailing env = new EnvironmentBuilder().fromPacked().build();
+        StoredInt a = (StoredInt) env.makeInt(0);
+        StoredInt b = (StoredInt) env.makeInt(0);
+        Assert.assertEquals(a.getAddress(), -1);
+        env.worldPush();
+        a.set(1);
+        env.worldPush();
+        a.set(2);
+        b.set(1);
+        int address = b.getAddress();
+        Assert.assertNotEquals(address, -1);
+        Assert.assertNotEquals(a.getAddress(), address);
+        env.worldPop();
+        // b has no update on the trail anymore, a still has one
+        Assert.assertEquals(b.getAddress(), -1);
+        Assert.assertNotEquals(a.getAddress(), -1);
+        StoredInt c = (StoredInt) env.makeInt(0);
+        env.worldPush();
+        c.set(1);
+        Assert.assertEquals(c.getAddress(), address);
+        env.worldCommit();
+        // the update of c is discarded by the commit
+        Assert.assertEquals(c.getAddress(), -1);
+        env.worldPop();
+        Assert.assertEquals(a.getAddress(), -1);
+        Assert.assertEquals(a.get(), 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testHybridRelease() {
+        EnvironmentTrailing env = new EnvironmentBuilder().fromHybrid(0.).build();
+        StoredInt a = (StoredInt) env.makeInt(0);
+        env.worldPush();
+        a.set(1);
+        int address = a.getAddress();
+        Assert.assertNotEquals(address, -1);
+        // a is copied once updated in enough worlds
+        for (int w = 0; w < 10; w++) {
+            env.worldPush();
+            a.add(1);
+        }
+        Assert.assertTrue(((HybridIntTrail) env.getIntTrail()).isCopied(a));
+        env.worldPopUntil(1);
+        Assert.assertEquals(a.getAddress(), address);
+        Assert.assertFalse(((HybridIntTrail) env.getIntTrail()).isCopied(a));
+        env.worldPop();
+        Assert.assertEquals(a.getAddress(), -1);
+        Assert.assertEquals(a.get(), 0);
+        StoredInt b = (StoredInt) env.makeInt(0);
+        env.worldPush();
+        b.set(1);
+        Assert.assertEquals(b.getAddress(), address);
+        env.worldCommit();
+        Assert.assertEquals(b.getAddress(), -1);
+        Assert.assertEquals(b.get(), 1);
+    }
+
+    /**
+     * Randomly modify ints, longs, doubles and bools in a dive of {@link #DEPTH} worlds,
+     * then pop back to the root, checking the values at each level.
+     * @return a checksum of the values observed while popping
+     */
+    private static long[] run(EnvironmentTrailing env) {
+        Random rnd = new Random(0);
+        IStateInt[] ints = new IStateInt[NB_INTS];
+        IStateLong[] longs = new IStateLong[NB_INTS / 10];
+        IStateDouble[] doubles = new IStateDouble[NB_INTS / 10];
+        IStateBool[] bools = new IStateBool[NB_INTS / 10];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = env.makeInt(i);
+        }
+        for (int i = 0; i < longs.length; i++) {
+            longs[i] = env.makeLong(i);
+            doubles[i] = env.makeFloat(i);
+            bools[i] = env.makeBool(false);
+        }
+        for (int w = 0; w < DEPTH; w++) {
+            env.worldPush();
+            for (int s = 0; s < NB_SETS; s++) {
+                ints[rnd.nextInt(ints.length)].add(1);
+            }
+            for (int s = 0; s < NB_SETS / 10; s++) {
+                int i = rnd.nextInt(longs.length);
+                longs[i].set(longs[i].get() + rnd.nextLong());
+                doubles[i].set(doubles[i].get() + rnd.nextDouble());
+                bools[i].set(!bools[i].get());
+            }
+        }
+        long[] checksums = new long[DEPTH];
+        for (int w = DEPTH - 1; w >= 0; w--) {
+            env.worldPop();
+            long sum = 0;
+            for (int i = 0; i < ints.length; i++) {
+                sum = 31 * sum + ints[i].get();
+            }
+            for (int i = 0; i < longs.length; i++) {
+                sum = 31 * sum + longs[i].get();
+                sum = 31 * sum + Double.doubleToLongBits(doubles[i].get());
+                sum = 31 * sum + (bools[i].get() ? 1 : 0);
+            }
+            checksums[w] = sum;
+        }
+        return checksums;
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static java.lang.Math.ceil;
+import static org.chocosolver.solver.search.strategy.Search.domOverWDegSearch;
+import static org.chocosolver.solver.search.strategy.Search.lastConflict;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class ParallelLNSTest {
+
+    private static final int[] CAPACITIES = {99, 1101};
+    private static final int[] VOLUMES = {54, 12, 47, 33, 30, 65, 56, 57, 91, 88, 77, 99, 29, 23, 39, 86, 12, 85, 22, 64};
+    private static final int[] ENERGIES = {38, 57, 69, 90, 79, 89, 28, 70, 38, 71, 46, 41, 49, 43, 36, 68, 92, 33, 84, 90};
+
+    private static void knapsack20(ParallelLNS plns, boolean maximize) {
+        Model model = new Model();
+        int nos = VOLUMES.length;
+        IntVar[] objects = new IntVar[nos];
+        for (int i = 0; i < nos; i++) {
+            objects[i] = model.intVar("o_" + (i + 1), 0, (int) ceil(CAPACITIES[1] / VOLUMES[i]), true);
+        }
+        IntVar power = model.intVar("power", 0, 99999, true);
+        IntVar scalar = model.intVar("weight", CAPACITIES[0], CAPACITIES[1], true);
+        model.scalar(objects, VOLUMES, "=", scalar).post();
+        model.scalar(objects, ENERGIES, "=", power).post();
+        model.knapsack(objects, scalar, power, VOLUMES, ENERGIES).post();
+        model.setObjective(maximize, power);
+        model.getSolver().setSearch(lastConflict(domOverWDegSearch(objects)));
+        model.getSolver().limitNode(5000);
+        plns.addModel(model, objects);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSharedIncumbent() {
+        for (boolean maximize : new boolean[]{true, false}) {
+            ParallelLNS plns = new ParallelLNS();
+            for (int i = 0; i < 4; i++) {
+                knapsack20(plns, maximize);
+            }
+            Assert.assertTrue(plns.solve());
+            int best = plns.getBestValue();
+            if (maximize) {
+                Assert.assertTrue(best > 0 && best <= 8372);
+            } else {
+                Assert.assertTrue(best >= 0);
+            }
+            Model finder = plns.getBestModel();
+            Assert.assertNotNull(finder);
+            Assert.assertEquals(plns.getBestSolution().getIntVal((IntVar) finder.getObjective()), best);
+            // no worker ends with a solution better than the shared one
+            for (Model m : plns.getModels()) {
+                if (m.getSolver().getSolutionCount() > 0) {
+                    int value = m.getSolver().getBestSolutionValue().intValue();
+                    Assert.assertTrue(maximize ? value <= best : value >= best);
+                }
+            }
+            plns.close();
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testNoObjective() {
+        ParallelLNS plns = new ParallelLNS();
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 2);
+        plns.addModel(model, x);
+        plns.solve();
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.restart.MonotonicRestartStrategy;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.chocosolver.solver.ModelTest.knapsack;
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class ParallelWorkSharingTest {
+
+    @Test(groups="1s", timeOut=60000)
+    public void testKnapsack() {
+        for (int iter = 0; iter < 10; iter++) {
+            ParallelWorkSharing pws = new ParallelWorkSharing();
+            for (int i = 0; i < 4; i++) {
+                pws.addModel(knapsack());
+            }
+            Assert.assertTrue(pws.solve());
+            Assert.assertTrue(pws.isSearchCompleted());
+            Model finder = pws.getBestModel();
+            Assert.assertNotNull(finder);
+            Assert.assertEquals(pws.getBestSolution().getIntVal((IntVar) finder.getObjective()), 51);
+        }
+    }
+
+    @Test(groups="10s", timeOut=60000)
+    public void testGolomb() {
+        ParallelWorkSharing pws = new ParallelWorkSharing();
+        for (int i = 0; i < 4; i++) {
+            Model m = ProblemMaker.makeGolombRuler(8);
+            m.getSolver().setSearch(inputOrderLBSearch((IntVar[]) m.getHook("ticks")));
+            pws.addModel(m);
+        }
+        Assert.assertTrue(pws.solve());
+        Assert.assertTrue(pws.isSearchCompleted());
+        Model finder = pws.getBestModel();
+        Assert.assertEquals(pws.getBestSolution().getIntVal((IntVar) finder.getObjective()), 34);
+        Assert.assertTrue(pws.getNbSubproblems() > 1);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testNQueens() {
+        ParallelWorkSharing pws = new ParallelWorkSharing();
+        for (int i = 0; i < 4; i++) {
+            pws.addModel(ProblemMaker.makeNQueenWithBinaryConstraints(12));
+        }
+        Assert.assertTrue(pws.solve());
+        Assert.assertFalse(pws.isSearchCompleted());
+        Model finder = pws.getBestModel();
+        Assert.assertNotNull(finder);
+        Assert.assertEquals(finder.getSolver().isSatisfied(), ESat.TRUE);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testNoSolution() {
+        ParallelWorkSharing pws = new ParallelWorkSharing();
+        for (int i = 0; i < 4; i++) {
+            pws.addModel(ProblemMaker.makeNQueenWithBinaryConstraints(3));
+        }
+        Assert.assertFalse(pws.solve());
+        Assert.assertTrue(pws.isSearchCompleted());
+        Assert.assertNull(pws.getBestSolution());
+    }
+
+    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+    public void testRestartsForbidden() {
+        ParallelWorkSharing pws = new ParallelWorkSharing();
+        Model m = knapsack();
+        m.getSolver().setRestarts(value -> true, new MonotonicRestartStrategy(0), 100000);
+        pws.addModel(m);
+        pws.solve();
+    }
+
+    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+    public void testSolveTwice() {
+        ParallelWorkSharing pws = new ParallelWorkSharing();
+        pws.addModel(knapsack());
+        pws.addModel(knapsack());
+        pws.solve();
+        pws.solve();
+    }
+}
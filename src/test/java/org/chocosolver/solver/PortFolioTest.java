@@ -8,12 +8,18 @@
  */
 package org.chocosolver.solver;
 
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
 import org.chocosolver.solver.search.restart.MonotonicRestartStrategy;
 import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.ProblemMaker;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import static org.chocosolver.solver.ModelTest.knapsack;
@@ -216,4 +222,141 @@ public class PortFolioTest {
             System.gc();
         }
     }
+
+    @Test(groups="10s", timeOut=60000)
+    public void testClauseSharing() {
+        for (int iter = 0; iter < 10; iter++) {
+            ParallelPortfolio pares = new ParallelPortfolio();
+            for (int i = 0; i < 4; i++) {
+                pares.addModel(knapsack());
+            }
+            pares.setClauseSharing(8, 50);
+            //noinspection StatementWithEmptyBody
+            while (pares.solve()) ;
+            Model finder = pares.getBestModel();
+            Assert.assertNotNull(finder);
+            Assert.assertEquals(finder.getSolver().getObjectiveManager().getBestSolutionValue(), 51);
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testClauseSharingCostas() {
+        ParallelPortfolio pares = new ParallelPortfolio();
+        for (int i = 0; i < 4; i++) {
+            pares.addModel(ProblemMaker.makeCostasArrays(8));
+        }
+        pares.setClauseSharing(4, 10);
+        Assert.assertTrue(pares.solve());
+        Assert.assertEquals(pares.getBestModel().getSolver().isSatisfied(), ESat.TRUE);
+    }
+
+    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+    public void testClauseSharingAfterSolve() {
+        ParallelPortfolio pares = new ParallelPortfolio();
+        pares.addModel(knapsack());
+        pares.addModel(knapsack());
+        pares.solve();
+        pares.setClauseSharing(8, 50);
+    }
+
+    @Test(groups="10s", timeOut=120000)
+    public void testDeterministic() {
+        String trace = null;
+        for (int iter = 0; iter < 5; iter++) {
+            ParallelPortfolio pares = new ParallelPortfolio();
+            for (int i = 0; i < 4; i++) {
+                pares.addModel(knapsack());
+            }
+            pares.setDeterministic(20);
+            StringBuilder st = new StringBuilder();
+            while (pares.solve()) {
+                Model finder = pares.getBestModel();
+                st.append(pares.getModels().indexOf(finder)).append(':')
+                        .append(((IntVar) finder.getObjective()).getValue()).append(' ');
+            }
+            for (Model m : pares.getModels()) {
+                st.append(m.getSolver().getNodeCount()).append(' ');
+            }
+            Assert.assertEquals(pares.getBestModel().getSolver().getObjectiveManager().getBestSolutionValue(), 51);
+            if (trace == null) {
+                trace = st.toString();
+            } else {
+                Assert.assertEquals(st.toString(), trace);
+            }
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testDeterministicSatisfaction() {
+        Model[] finders = new Model[2];
+        long[] nodes = new long[2];
+        for (int iter = 0; iter < 2; iter++) {
+            ParallelPortfolio pares = new ParallelPortfolio();
+            for (int i = 0; i < 4; i++) {
+                pares.addModel(ProblemMaker.makeCostasArrays(9));
+            }
+            pares.setDeterministic(10);
+            Assert.assertTrue(pares.solve());
+            finders[iter] = pares.getBestModel();
+            nodes[iter] = pares.getModels().indexOf(finders[iter]) * 1_000_000L + finders[iter].getSolver().getNodeCount();
+        }
+        Assert.assertEquals(nodes[0], nodes[1]);
+    }
+
+    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+    public void testDeterministicAndClauseSharing() {
+        ParallelPortfolio pares = new ParallelPortfolio();
+        pares.addModel(knapsack());
+        pares.addModel(knapsack());
+        pares.setDeterministic(10);
+        pares.setClauseSharing(8, 50);
+        pares.solve();
+    }
+
+    @Test(groups="10s", timeOut=120000)
+    public void testSharedPool() {
+        ForkJoinPool workers = new ForkJoinPool(4);
+        for (int iter = 0; iter < 10; iter++) {
+            ParallelPortfolio pares = new ParallelPortfolio(true, workers);
+            pares.addModels(4, i -> knapsack());
+            Assert.assertEquals(pares.getModels().size(), 4);
+            //noinspection StatementWithEmptyBody
+            while (pares.solve()) ;
+            Assert.assertEquals(pares.getBestModel().getSolver().getObjectiveManager().getBestSolutionValue(), 51);
+            pares.close();
+            Assert.assertFalse(workers.isShutdown());
+        }
+        workers.shutdown();
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testAddModels() {
+        ParallelPortfolio pares = new ParallelPortfolio();
+        pares.addModel(knapsack());
+        pares.addModels(3, i -> {
+            Model m = knapsack();
+            m.getSolver().setSearch(randomSearch(m.retrieveIntVars(true), i));
+            return m;
+        });
+        Assert.assertEquals(pares.getModels().size(), 4);
+        List<Solution> sols = pares.streamSolutions().collect(Collectors.toList());
+        Assert.assertFalse(sols.isEmpty());
+        Assert.assertEquals(pares.getBestModel().getSolver().getObjectiveManager().getBestSolutionValue(), 51);
+        pares.close();
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testDaemonWorkers() {
+        ParallelPortfolio pares = new ParallelPortfolio();
+        AtomicBoolean daemon = new AtomicBoolean(true);
+        for (int i = 0; i < 2; i++) {
+            Model m = knapsack();
+            m.getSolver().plugMonitor((IMonitorSolution) () -> daemon.compareAndSet(true, Thread.currentThread().isDaemon()));
+            pares.addModel(m);
+        }
+        //noinspection StatementWithEmptyBody
+        while (pares.solve()) ;
+        Assert.assertTrue(daemon.get());
+        Assert.assertEquals(pares.getBestModel().getSolver().getObjectiveManager().getBestSolutionValue(), 51);
+    }
 }
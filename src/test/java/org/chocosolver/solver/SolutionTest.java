@@ -0,0 +1,140 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.SetVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 18/10/2026
+ */
+public class SolutionTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRecordAndCopy() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 3);
+        IntVar y = model.intVar("y", 0, 3);
+        SetVar s = model.setVar("s", new int[]{}, new int[]{1, 2, 3});
+        model.arithm(x, "<", y).post();
+        model.member(x, s).post();
+        List<Solution> copies = new ArrayList<>();
+        List<int[]> expected = new ArrayList<>();
+        Solution solution = new Solution(model);
+        while (model.getSolver().solve()) {
+            solution.record();
+            Assert.assertEquals(solution.getIntVal(x), x.getValue());
+            Assert.assertEquals(solution.getIntVal(y), y.getValue());
+            Assert.assertEquals(solution.getSetVal(s), s.getValue().toArray());
+            copies.add(solution.copySolution());
+            int[] vals = Arrays.copyOf(s.getValue().toArray(), s.getCard().getValue() + 2);
+            vals[vals.length - 2] = x.getValue();
+            vals[vals.length - 1] = y.getValue();
+            expected.add(vals);
+        }
+        Assert.assertTrue(copies.size() > 0);
+        for (int k = 0; k < copies.size(); k++) {
+            Solution copy = copies.get(k);
+            int[] vals = expected.get(k);
+            Assert.assertEquals(copy.getIntVal(x), vals[vals.length - 2]);
+            Assert.assertEquals(copy.getIntVal(y), vals[vals.length - 1]);
+            Assert.assertEquals(copy.getSetVal(s), Arrays.copyOf(vals, vals.length - 2));
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSetValues() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 3);
+        IntVar y = model.intVar("y", 0, 3);
+        Solution solution = new Solution(model, x);
+        Assert.assertFalse(solution.exists());
+        solution.setIntVal(y, 2);
+        Assert.assertEquals(solution.getIntVal(y), 2);
+        Assert.assertTrue(model.getSolver().solve());
+        solution.record();
+        solution.setIntVal(x, 3);
+        Assert.assertEquals(solution.getIntVal(x), 3);
+        try {
+            solution.getIntVal(y);
+            Assert.fail();
+        } catch (SolverException ignored) {
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testPool() {
+        Model model = new Model();
+        IntVar[] xs = model.intVarArray("x", 3, 0, 2);
+        model.allDifferent(xs).post();
+        SolutionPool pool = new SolutionPool(model, xs);
+        Solution best = null;
+        while (model.getSolver().solve()) {
+            Solution solution = pool.acquire().record();
+            if (best == null || solution.getIntVal(xs[0]) > best.getIntVal(xs[0])) {
+                if (best != null) {
+                    pool.release(best);
+                }
+                best = solution;
+            } else {
+                pool.release(solution);
+            }
+        }
+        Assert.assertNotNull(best);
+        Assert.assertEquals(best.getIntVal(xs[0]), 2);
+        Assert.assertTrue(pool.available() <= 1);
+        Assert.assertEquals(model.getSolver().getSolutionCount(), 6);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSink() throws IOException {
+        Path file = Files.createTempFile("sols", ".bin");
+        try {
+            for (int mode = 0; mode < 2; mode++) {
+                Model model = new Model();
+                IntVar[] xs = model.intVarArray("x", 4, 0, 3);
+                model.allDifferent(xs).post();
+                List<int[]> expected = new ArrayList<>();
+                model.getSolver().plugMonitor((IMonitorSolution) () -> {
+                    int[] vals = new int[xs.length];
+                    for (int i = 0; i < xs.length; i++) {
+                        vals[i] = xs[i].getValue();
+                    }
+                    expected.add(vals);
+                });
+                try (SolutionSink sink = mode == 0 ? new SolutionSink(5, xs) : new SolutionSink(file, 5, xs)) {
+                    model.getSolver().plugMonitor(sink);
+                    while (model.getSolver().solve()) ;
+                    Assert.assertEquals(sink.size(), 24);
+                    Assert.assertEquals(sink.arity(), 4);
+                    int[] vals = new int[4];
+                    for (int k = 0; k < expected.size(); k++) {
+                        Assert.assertEquals(sink.get(k, vals), expected.get(k));
+                    }
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.binary.element;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+
+import static org.chocosolver.solver.constraints.Explainer.execute;
+
+/**
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class ExplElementTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testIndex() throws ContradictionException {
+        Model mo = new Model();
+        IntVar value = mo.intVar("v", 0, 6);
+        IntVar index = mo.intVar("i", 0, 3);
+        PropElement prop = new PropElement(value, new int[]{1, 3, 5, 3}, index, 0);
+        mo.post(new Constraint("test", prop));
+        HashMap<IntVar, IntIterableRangeSet> lits =
+                execute(mo.getSolver(),
+                        i -> value.removeValue(3, Cause.Null),
+                        prop, index);
+        // indices 1 and 3 are removed because they point to 3
+        Assert.assertEquals(lits.size(), 2);
+        IntIterableRangeSet rng = new IntIterableRangeSet(0);
+        rng.add(2);
+        Assert.assertEquals(lits.get(index), rng);
+        Assert.assertEquals(lits.get(value), new IntIterableRangeSet(3));
+    }
+}
@@ -0,0 +1,55 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.extension.nary;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+
+import static org.chocosolver.solver.constraints.Explainer.execute;
+
+/**
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class ExplTableTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCompactTable() throws ContradictionException {
+        Model mo = new Model();
+        IntVar x = mo.intVar("x", 0, 2);
+        IntVar y = mo.intVar("y", 0, 2);
+        IntVar z = mo.intVar("z", 0, 2);
+        Tuples tuples = new Tuples(true);
+        tuples.add(0, 0, 0);
+        tuples.add(1, 1, 1);
+        tuples.add(2, 0, 1);
+        PropCompactTable prop = new PropCompactTable(new IntVar[]{x, y, z}, tuples);
+        mo.post(new Constraint("test", prop));
+        HashMap<IntVar, IntIterableRangeSet> lits =
+                execute(mo.getSolver(),
+                        i -> z.instantiateTo(0, Cause.Null),
+                        prop, x);
+        // only z = 1 supports the removed values of x, y is not involved
+        Assert.assertEquals(lits.size(), 2);
+        Assert.assertEquals(lits.get(x), new IntIterableRangeSet(0));
+        Assert.assertEquals(lits.get(z), new IntIterableRangeSet(1));
+    }
+}
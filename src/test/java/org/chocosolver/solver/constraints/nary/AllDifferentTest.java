@@ -19,6 +19,7 @@ import java.util.Random;
 
 import static org.chocosolver.solver.constraints.checker.DomainBuilder.buildFullDomains;
 import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+import static org.chocosolver.solver.search.strategy.Search.minDomLBSearch;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
@@ -165,6 +166,33 @@ public class AllDifferentTest {
     }
 
 
+    @Test(groups="10s", timeOut=60000)
+    public void testLargeAssignment() {
+        // 2000 variables, each domain contains the value of a hidden permutation and a few random values
+        int n = 2000;
+        Random rand = new Random(0);
+        int[] perm = new int[n];
+        for (int i = 0; i < n; i++) {
+            int j = rand.nextInt(i + 1);
+            perm[i] = perm[j];
+            perm[j] = i;
+        }
+        Model model = new Model();
+        IntVar[] vars = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            int[] dom = {perm[i], rand.nextInt(n), rand.nextInt(n), rand.nextInt(n), rand.nextInt(n)};
+            vars[i] = model.intVar("v_" + i, dom);
+        }
+        model.allDifferent(vars, "AC").post();
+        model.getSolver().setSearch(minDomLBSearch(vars));
+        assertTrue(model.getSolver().solve());
+        boolean[] used = new boolean[n];
+        for (IntVar v : vars) {
+            assertTrue(!used[v.getValue()]);
+            used[v.getValue()] = true;
+        }
+    }
+
     protected Model alldiffs(int[][] domains, int c, boolean bounded) {
         Model s = new Model();
 
@@ -83,7 +83,7 @@ public class CryptoTest {
     @DataProvider(name="table")
     public Object[][] tables() {
         return new String[][]{
-                {"CT+"}, {"FC"}, {"GAC2001"}, {"GACSTR+"}, {"GAC2001+"}, {"GAC3rm+"}, {"GAC3rm"}, {"STR2+"}, {"MDD+"}
+                {"CT+"}, {"CT+S"}, {"FC"}, {"GAC2001"}, {"GACSTR+"}, {"GAC2001+"}, {"GAC3rm+"}, {"GAC3rm"}, {"STR2+"}, {"MDD+"}
         };
     }
     
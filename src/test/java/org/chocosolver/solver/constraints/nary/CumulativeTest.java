@@ -18,7 +18,9 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.Arrays;
+import java.util.Random;
 
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
 import static org.chocosolver.solver.search.strategy.Search.lastConflict;
 import static org.chocosolver.solver.search.strategy.Search.randomSearch;
 
@@ -185,6 +187,77 @@ public class CumulativeTest {
 		}
 	}
 
+	@Test(groups="1s", timeOut=60000)
+	public void testTTEF() throws ContradictionException {
+		// a and b fill [0,4), so c must start after them, which time-tabling cannot deduce
+		Model m = new Model();
+		Task a = m.taskVar(m.intVar(0, 2), 2);
+		Task b = m.taskVar(m.intVar(0, 2), 2);
+		Task c = m.taskVar(m.intVar(0, 10), 2);
+		IntVar[] heights = new IntVar[]{m.intVar(2), m.intVar(2), m.intVar(1)};
+		m.cumulative(new Task[]{a, b, c}, heights, m.intVar(2), false,
+				Cumulative.Filter.TIME, Cumulative.Filter.TTEF).post();
+		m.getSolver().propagate();
+		Assert.assertEquals(c.getStart().getLB(), 4);
+	}
+
+	@Test(groups="10s", timeOut=60000)
+	public void testTTEFSolutions(){
+		for (long seed = 0; seed < 20; seed++) {
+			for (boolean graph : new boolean[]{true, false}) {
+				long ref = solveWith(seed, graph, Cumulative.Filter.TIME);
+				long val = solveWith(seed, graph, Cumulative.Filter.TIME, Cumulative.Filter.TTEF);
+				Assert.assertEquals(val, ref, "seed " + seed);
+			}
+		}
+	}
+
+	@Test(groups="10s", timeOut=60000)
+	public void testProfile(){
+		// TIME and SWEEP rely on the incremental profile, NAIVETIME does not
+		for (long seed = 0; seed < 20; seed++) {
+			for (boolean graph : new boolean[]{true, false}) {
+				long ref = solveWith(seed, graph, Cumulative.Filter.NAIVETIME);
+				Assert.assertEquals(solveWith(seed, graph, Cumulative.Filter.TIME), ref, "seed " + seed);
+				Assert.assertEquals(solveWith(seed, graph, Cumulative.Filter.SWEEP), ref, "seed " + seed);
+				Assert.assertEquals(solveWith(seed, graph, Cumulative.Filter.DEFAULT), ref, "seed " + seed);
+			}
+		}
+	}
+
+	private static long solveWith(long seed, boolean graph, Cumulative.Filter... filters) {
+		Random rnd = new Random(seed);
+		Model model = new Model();
+		int n = 5;
+		Task[] t = new Task[n];
+		IntVar[] s = new IntVar[n];
+		IntVar[] h = new IntVar[n];
+		for (int i = 0; i < n; i++) {
+			s[i] = model.intVar("s" + i, 0, 8);
+			t[i] = model.taskVar(s[i], 1 + rnd.nextInt(4));
+			h[i] = model.intVar("h" + i, 1 + rnd.nextInt(3));
+		}
+		model.post(new Cumulative(t, h, model.intVar(3), graph, filters));
+		Solver solver = model.getSolver();
+		solver.setSearch(inputOrderLBSearch(s));
+		while (solver.solve()) ;
+		return solver.getSolutionCount();
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testProfileHeights() throws ContradictionException {
+		// b overlaps a on [1,3) whatever its start, so its height is at most 1, even if it may be null
+		for (Cumulative.Filter filter : new Cumulative.Filter[]{Cumulative.Filter.TIME, Cumulative.Filter.SWEEP}) {
+			Model model = new Model();
+			Task a = model.taskVar(model.intVar(0), 4);
+			Task b = model.taskVar(model.intVar(0, 1), 3);
+			IntVar hb = model.intVar("hb", 0, 3);
+			model.cumulative(new Task[]{a, b}, new IntVar[]{model.intVar(2), hb}, model.intVar(3), false, filter).post();
+			model.getSolver().propagate();
+			Assert.assertEquals(hb.getUB(), 1, filter.name());
+		}
+	}
+
     @Test(groups="10s", timeOut=60000)
     public void testADelsol1(){
 		int[] height = new int[]{0, 1, 3, 5, 1, 4, 4, 3, 4, 3, 0};
@@ -0,0 +1,160 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.nary.disjunctive.PropDisjunctive;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
+/**
+ * Tests the disjunctive constraint
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class DisjunctiveTest {
+
+    private static Model make(int n, int horizon, long seed, boolean disjunctive) {
+        Random rnd = new Random(seed);
+        Model model = new Model();
+        Task[] tasks = new Task[n];
+        IntVar[] starts = new IntVar[n];
+        IntVar[] ones = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            int lb = rnd.nextInt(horizon / 2);
+            starts[i] = model.intVar("s" + i, lb, lb + rnd.nextInt(horizon / 2), true);
+            IntVar d = model.intVar("d" + i, rnd.nextInt(2), 1 + rnd.nextInt(4), true);
+            tasks[i] = model.taskVar(starts[i], d);
+            ones[i] = model.intVar(1);
+        }
+        if (disjunctive) {
+            model.disjunctive(tasks).post();
+        } else {
+            model.cumulative(tasks, ones, model.intVar(1)).post();
+        }
+        IntVar[] vars = new IntVar[n * 2];
+        for (int i = 0; i < n; i++) {
+            vars[i] = starts[i];
+            vars[n + i] = tasks[i].getDuration();
+        }
+        model.getSolver().setSearch(inputOrderLBSearch(vars));
+        return model;
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testSolutions() {
+        for (long seed = 0; seed < 40; seed++) {
+            Model disj = make(5, 12, seed, true);
+            Model cumu = make(5, 12, seed, false);
+            long nd = disj.getSolver().findAllSolutions().size();
+            long nc = cumu.getSolver().findAllSolutions().size();
+            Assert.assertEquals(nd, nc, "seed " + seed);
+        }
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testJobShop() {
+        for (long seed = 0; seed < 5; seed++) {
+            Model disj = ProblemMaker.makeJobShop(4, 4, seed, true);
+            Model cumu = ProblemMaker.makeJobShop(4, 4, seed, false);
+            while (disj.getSolver().solve()) ;
+            while (cumu.getSolver().solve()) ;
+            Assert.assertEquals(disj.getSolver().getBestSolutionValue(), cumu.getSolver().getBestSolutionValue());
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testOverload() {
+        Model model = new Model();
+        Task[] tasks = new Task[3];
+        for (int i = 0; i < 3; i++) {
+            tasks[i] = model.taskVar(model.intVar(0, 3), 2);
+        }
+        model.disjunctive(tasks).post();
+        Solver solver = model.getSolver();
+        try {
+            solver.propagate();
+            Assert.fail();
+        } catch (ContradictionException ignored) {
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testEdgeFinding() throws ContradictionException {
+        // a and b fit in [0,6], so c must start after both of them
+        Model model = new Model();
+        Task a = model.taskVar(model.intVar(0, 3), 3);
+        Task b = model.taskVar(model.intVar(0, 3), 3);
+        Task c = model.taskVar(model.intVar(0, 10), 2);
+        model.disjunctive(new Task[]{a, b, c}).post();
+        model.getSolver().propagate();
+        Assert.assertEquals(c.getStart().getLB(), 6);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNotLast() throws ContradictionException {
+        // c cannot be processed after both a and b, so it ends before the latest start of a and b
+        Model model = new Model();
+        Task a = model.taskVar(model.intVar(0, 5), 3);
+        Task b = model.taskVar(model.intVar(0, 5), 3);
+        Task c = model.taskVar(model.intVar(0, 5), 2);
+        model.disjunctive(new Task[]{a, b, c}).post();
+        model.getSolver().propagate();
+        Assert.assertEquals(c.getEnd().getUB(), 5);
+        Assert.assertEquals(c.getStart().getUB(), 3);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testZeroDuration() throws ContradictionException {
+        Model model = new Model();
+        Task a = model.taskVar(model.intVar(2), 3);
+        Task b = model.taskVar(model.intVar(0, 5), model.intVar(0, 2));
+        model.disjunctive(new Task[]{a, b}).post();
+        model.getSolver().propagate();
+        Assert.assertEquals(b.getStart().getLB(), 0);
+        Assert.assertEquals(b.getStart().getUB(), 5);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testEntailment() {
+        Model model = new Model();
+        Task a = model.taskVar(model.intVar(0), 3);
+        Task b = model.taskVar(model.intVar(3), 2);
+        model.disjunctive(new Task[]{a, b}).post();
+        Assert.assertEquals(model.getCstrs()[0].isSatisfied(), ESat.TRUE);
+        Model model2 = new Model();
+        Task c = model2.taskVar(model2.intVar(0), 3);
+        Task d = model2.taskVar(model2.intVar(2), 2);
+        model2.disjunctive(new Task[]{c, d}).post();
+        Assert.assertEquals(model2.getCstrs()[0].isSatisfied(), ESat.FALSE);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testArity() {
+        Model model = new Model();
+        IntVar[] s = model.intVarArray("s", 3, 0, 5);
+        IntVar[] d = model.intVarArray("d", 2, 1, 2);
+        IntVar[] e = model.intVarArray("e", 3, 0, 7);
+        new PropDisjunctive(s, d, e);
+    }
+}
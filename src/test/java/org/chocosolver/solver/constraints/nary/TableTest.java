@@ -18,12 +18,14 @@ import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solution;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.extension.TableCompressor;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.constraints.extension.TuplesFactory;
 import org.chocosolver.solver.constraints.extension.nary.TuplesLargeTable;
 import org.chocosolver.solver.constraints.extension.nary.TuplesTable;
 import org.chocosolver.solver.constraints.extension.nary.TuplesVeryLargeTable;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
@@ -31,7 +33,10 @@ import org.chocosolver.util.objects.graphs.MultivaluedDecisionDiagram;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.util.Random;
+import java.util.stream.IntStream;
 
 import static java.lang.System.out;
 import static org.chocosolver.solver.constraints.extension.TuplesFactory.generateTuples;
@@ -41,7 +46,7 @@ import static org.testng.Assert.assertEquals;
 
 public class TableTest {
 
-	private static String[] ALGOS = {"CT+", "FC", "GAC2001", "GACSTR+", "GAC2001+", "GAC3rm+", "GAC3rm", "STR2+", "MDD+"};
+	private static String[] ALGOS = {"CT+", "FC", "GAC2001", "GACSTR+", "GAC2001+", "GAC3rm+", "GAC3rm", "STR2+", "MDD+", "CT+S"};
 	private static String[] BIN_ALGOS = {"FC", "AC2001", "AC3", "AC3rm", "AC3bit+rm"};
 
 	@Test(groups="1s", timeOut=60000)
@@ -551,6 +556,104 @@ public class TableTest {
 		Assert.assertEquals(solver.getSolutionCount(), 27);
 	}
 
+	@Test(groups="1s", timeOut=60000)
+	public void testST3(){
+		// short tuples with the sparse variant, compared to the dense one
+		for (long seed = 0; seed < 20; seed++) {
+			long[] counts = new long[2];
+			String[] algos = {"CT+", "CT+S"};
+			for (int a = 0; a < 2; a++) {
+				Random rnd = new Random(seed);
+				Model model = new Model();
+				IntVar[] vars = model.intVarArray("x", 4, 0, 3);
+				Tuples ts = new Tuples(true);
+				ts.setUniversalValue(-1);
+				for (int t = 0; t < 30; t++) {
+					int[] tuple = new int[4];
+					for (int i = 0; i < 4; i++) {
+						tuple[i] = rnd.nextInt(5) - 1;
+					}
+					ts.add(tuple);
+				}
+				model.table(vars, ts, algos[a]).post();
+				model.allDifferent(vars).post();
+				counts[a] = model.getSolver().findAllSolutions().size();
+			}
+			Assert.assertEquals(counts[1], counts[0], "seed " + seed);
+		}
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testST4() throws IOException {
+		// bulk loading and packing
+		Tuples t1 = new Tuples(true);
+		t1.addAll(3, IntStream.of(2, -1, 1000, 0, 5, 7, 2, -1, 3, 1, 5, 1000));
+		Tuples t2 = new Tuples(true);
+		t2.addAll(new ByteArrayInputStream("2 -1 1000\n0,5,7\r\n\n2\t-1 3\n1 5 1000".getBytes()));
+		Assert.assertEquals(t1.nbTuples(), 4);
+		Assert.assertEquals(t2.nbTuples(), 4);
+		for (int t = 0; t < 4; t++) {
+			Assert.assertEquals(t2.get(t), t1.get(t));
+		}
+		t2.pack();
+		Assert.assertTrue(t2.isPacked());
+		for (int t = 0; t < 4; t++) {
+			Assert.assertEquals(t2.get(t), t1.get(t));
+		}
+		t1.sort();
+		t2.sort();
+		Assert.assertEquals(t1.toMatrix(), new int[][]{{0, 5, 7}, {1, 5, 1000}, {2, -1, 3}, {2, -1, 1000}});
+		Assert.assertEquals(t2.toMatrix(), t1.toMatrix());
+		for (String a : ALGOS) {
+			Model model = new Model();
+			IntVar[] vars = model.intVarArray("x", 3, new int[]{-1, 0, 1, 2, 3, 5, 7, 1000});
+			model.table(vars, t2, a).post();
+			Assert.assertEquals(model.getSolver().findAllSolutions().size(), 4, a);
+		}
+	}
+
+	@Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+	public void testST5() {
+		Tuples tuples = new Tuples(true);
+		tuples.addAll(2, IntStream.range(0, 10));
+		tuples.pack();
+		tuples.add(1, 2);
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testCompression() {
+		// sum, parity and random tuples
+		TableCompressor.Choice[] expected = {TableCompressor.Choice.MDD,
+				TableCompressor.Choice.SHORT_TUPLES, TableCompressor.Choice.FLAT};
+		for (int k = 0; k < 3; k++) {
+			long[] counts = new long[2];
+			for (int a = 0; a < 2; a++) {
+				Model model = new Model(new DefaultSettings().setEnableTableCompression(a == 0));
+				IntVar[] vars = model.intVarArray("x", 6, 0, 4);
+				Tuples tuples = new Tuples(true);
+				Random rnd = new Random(k);
+				int[] t = new int[6];
+				for (int c = 0; c < 15625; c++) {
+					int sum = 0;
+					for (int i = 0, r = c; i < 6; i++, r /= 5) {
+						t[i] = k == 2 ? rnd.nextInt(5) : r % 5;
+						sum += t[i];
+					}
+					if ((k == 0 && sum == 12) || (k == 1 && (t[0] + t[1]) % 2 == 0) || (k == 2 && c < 2000)) {
+						tuples.add(t);
+					}
+				}
+				if (a == 0) {
+					Assert.assertEquals(new TableCompressor(vars, tuples).evaluate(), expected[k]);
+				}
+				model.table(vars, tuples).post();
+				model.arithm(vars[0], "!=", vars[5]).post();
+				counts[a] = model.getSolver().findAllSolutions().size();
+			}
+			Assert.assertEquals(counts[0], counts[1]);
+		}
+	}
+
 	@Test(groups="1s", timeOut=60000)
 	public void testJuha1(){
 		for (String a : BIN_ALGOS) {
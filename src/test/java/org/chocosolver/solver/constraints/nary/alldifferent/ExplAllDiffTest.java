@@ -0,0 +1,69 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.alldifferent;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+
+import static org.chocosolver.solver.constraints.Explainer.execute;
+
+/**
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class ExplAllDiffTest {
+
+    private static void check(boolean bc) throws ContradictionException {
+        Model mo = new Model();
+        IntVar a = mo.intVar("a", 0, 6, bc);
+        IntVar b = mo.intVar("b", 0, 6, bc);
+        IntVar c = mo.intVar("c", 0, 6, bc);
+        IntVar d = mo.intVar("d", 0, 6, bc);
+        IntVar[] vars = {a, b, c, d};
+        Propagator<IntVar> prop = bc ? new PropAllDiffBC(vars) : new PropAllDiffAC(vars);
+        mo.post(new Constraint("test", prop));
+        HashMap<IntVar, IntIterableRangeSet> lits =
+                execute(mo.getSolver(),
+                        i -> {
+                            b.updateBounds(0, 1, Cause.Null);
+                            c.updateBounds(0, 1, Cause.Null);
+                        }, prop, a);
+        // {b, c} is a Hall set on {0, 1}, d is not involved
+        Assert.assertTrue(lits.containsKey(a));
+        Assert.assertTrue(lits.containsKey(b));
+        Assert.assertTrue(lits.containsKey(c));
+        Assert.assertFalse(lits.containsKey(d));
+        IntIterableRangeSet rng = new IntIterableRangeSet(2, 6);
+        Assert.assertEquals(lits.get(a), rng);
+        Assert.assertEquals(lits.get(b), rng);
+        Assert.assertEquals(lits.get(c), rng);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testAC() throws ContradictionException {
+        check(false);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBC() throws ContradictionException {
+        check(true);
+    }
+}
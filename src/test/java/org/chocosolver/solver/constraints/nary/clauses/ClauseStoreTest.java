@@ -0,0 +1,212 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.clauses;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.DefaultSettings;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
+/**
+ * Tests the watched literals of {@link ClauseStore}
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class ClauseStoreTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testWatches() throws ContradictionException {
+        ClauseStore.INTERVAL_TREE = true;
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 10);
+        IntVar y = model.intVar("y", 0, 10);
+        IntVar z = model.intVar("z", 0, 10);
+        // x <= 2 or y = 5 or z >= 8
+        model.getClauseConstraint().getClauseStore().add(new IntVar[]{x, y, z},
+                new IntIterableRangeSet[]{
+                        new IntIterableRangeSet(0, 2),
+                        new IntIterableRangeSet(5),
+                        new IntIterableRangeSet(8, 10)});
+        Solver solver = model.getSolver();
+        IEnvironment env = model.getEnvironment();
+        solver.propagate();
+        env.worldPush();
+        // lower bound falsifies x <= 2
+        x.updateLowerBound(3, Cause.Null);
+        solver.propagate();
+        Assert.assertEquals(z.getLB(), 0);
+        env.worldPush();
+        // value removal falsifies y = 5
+        y.removeValue(5, Cause.Null);
+        solver.propagate();
+        Assert.assertEquals(z.getLB(), 8);
+        env.worldPop();
+        Assert.assertEquals(z.getLB(), 0);
+        env.worldPush();
+        // upper bound falsifies z >= 8
+        z.updateUpperBound(7, Cause.Null);
+        solver.propagate();
+        Assert.assertTrue(y.isInstantiatedTo(5));
+        env.worldPop();
+        env.worldPop();
+        // the literals are falsified again, after backtrack
+        env.worldPush();
+        y.updateLowerBound(6, Cause.Null);
+        z.updateUpperBound(7, Cause.Null);
+        solver.propagate();
+        Assert.assertEquals(x.getUB(), 2);
+        env.worldPop();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testHoles() throws ContradictionException {
+        ClauseStore.INTERVAL_TREE = true;
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 10);
+        IntVar y = model.intVar("y", 0, 10);
+        // x in [4,6] or y in [2,3]
+        model.getClauseConstraint().getClauseStore().add(new IntVar[]{x, y},
+                new IntIterableRangeSet[]{
+                        new IntIterableRangeSet(4, 6),
+                        new IntIterableRangeSet(2, 3)});
+        Solver solver = model.getSolver();
+        IEnvironment env = model.getEnvironment();
+        solver.propagate();
+        env.worldPush();
+        // the hole grows from both sides, x in [4,6] is falsified by the last removal only
+        x.removeValue(4, Cause.Null);
+        x.removeValue(6, Cause.Null);
+        solver.propagate();
+        Assert.assertEquals(y.getLB(), 0);
+        x.removeValue(3, Cause.Null);
+        x.removeValue(5, Cause.Null);
+        solver.propagate();
+        Assert.assertEquals(y.getLB(), 2);
+        Assert.assertEquals(y.getUB(), 3);
+        env.worldPop();
+        env.worldPush();
+        // y in [2,3] is falsified at once, together with unrelated removals
+        y.removeValue(8, Cause.Null);
+        y.removeValue(2, Cause.Null);
+        y.removeValue(3, Cause.Null);
+        y.removeValue(1, Cause.Null);
+        solver.propagate();
+        Assert.assertEquals(x.getLB(), 4);
+        Assert.assertEquals(x.getUB(), 6);
+        env.worldPop();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testImportClause() throws ContradictionException {
+        ClauseStore.INTERVAL_TREE = true;
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 10);
+        IntVar y = model.intVar("y", 0, 10);
+        IntVar z = model.intVar("z", 0, 10);
+        ClauseStore store = model.getClauseConstraint().getClauseStore();
+        Solver solver = model.getSolver();
+        IEnvironment env = model.getEnvironment();
+        solver.propagate();
+        env.worldPush();
+        x.updateLowerBound(3, Cause.Null);
+        y.removeValue(5, Cause.Null);
+        solver.propagate();
+        // x <= 2 or y = 5 or z >= 8, unit when imported
+        store.importClause(new IntVar[]{x, y, z},
+                new IntIterableRangeSet[]{
+                        new IntIterableRangeSet(0, 2),
+                        new IntIterableRangeSet(5),
+                        new IntIterableRangeSet(8, 10)});
+        solver.propagate();
+        Assert.assertEquals(z.getLB(), 8);
+        env.worldPop();
+        Assert.assertEquals(z.getLB(), 0);
+        env.worldPush();
+        y.updateUpperBound(4, Cause.Null);
+        z.updateUpperBound(7, Cause.Null);
+        solver.propagate();
+        Assert.assertEquals(x.getUB(), 2);
+        // y >= 6 or z = 9, conflicting when imported
+        store.importClause(new IntVar[]{y, z},
+                new IntIterableRangeSet[]{
+                        new IntIterableRangeSet(6, 10),
+                        new IntIterableRangeSet(9)});
+        try {
+            solver.propagate();
+            Assert.fail();
+        } catch (ContradictionException ignored) {
+        }
+        env.worldPop();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testReduceDB() {
+        int m = 4;
+        long[] counts = new long[2];
+        for (int a = 0; a < 2; a++) {
+            Model model = new Model(new DefaultSettings().setNbMaxLearntClauses(8));
+            IntVar[] vars = model.intVarArray("c", m * m, 0, m - 1, false);
+            for (int i = 0; i < m; i++) {
+                IntVar[] row = new IntVar[m];
+                IntVar[] col = new IntVar[m];
+                for (int j = 0; j < m; j++) {
+                    row[j] = vars[i * m + j];
+                    col[j] = vars[j * m + i];
+                }
+                model.allDifferent(row, "FC").post();
+                model.allDifferent(col, "FC").post();
+            }
+            model.getSolver().setSearch(inputOrderLBSearch(vars));
+            if (a == 1) {
+                ClauseStore.INTERVAL_TREE = true;
+                model.getSolver().setLearningSignedClauses();
+            }
+            counts[a] = model.getSolver().findAllSolutions().size();
+        }
+        Assert.assertEquals(counts[0], 576);
+        Assert.assertEquals(counts[1], counts[0]);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testTiers() {
+        int interval = ClauseStore.REDUCE_INTERVAL;
+        ClauseStore.REDUCE_INTERVAL = 10;
+        ClauseStore.INTERVAL_TREE = true;
+        try {
+            // pigeon hole
+            int n = 5;
+            Model model = new Model();
+            IntVar[] vars = model.intVarArray("p", n + 1, 0, n - 1);
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j <= n; j++) {
+                    model.arithm(vars[i], "!=", vars[j]).post();
+                }
+            }
+            model.getSolver().setSearch(inputOrderLBSearch(vars));
+            model.getSolver().setLearningSignedClauses();
+            Assert.assertFalse(model.getSolver().solve());
+            ClauseStore store = model.getClauseConstraint().getClauseStore();
+            Assert.assertTrue(store.getNbReductions() > 0);
+            Assert.assertTrue(store.getNbCoreClauses() <= store.getNbLearntClauses());
+        } finally {
+            ClauseStore.REDUCE_INTERVAL = interval;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2018, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+
+import static org.chocosolver.solver.constraints.Explainer.execute;
+
+/**
+ * <p>
+ * Project: choco-solver.
+ *
+ * @author agent
+ * @since 18/10/2026
+ */
+public class ExplCumulativeTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testTimeTable() throws ContradictionException {
+        Model mo = new Model();
+        IntVar sa = mo.intVar("sa", 0, 10);
+        IntVar ea = mo.intVar("ea", 3, 13);
+        IntVar sb = mo.intVar("sb", 0, 10);
+        IntVar eb = mo.intVar("eb", 4, 14);
+        IntVar one = mo.intVar(1);
+        PropCumulative prop = new PropCumulative(
+                new IntVar[]{sa, sb}, new IntVar[]{mo.intVar(3), mo.intVar(4)}, new IntVar[]{ea, eb},
+                new IntVar[]{one, one}, one, Cumulative.Filter.TIME.make(2));
+        mo.post(new Constraint("test", prop));
+        HashMap<IntVar, IntIterableRangeSet> lits =
+                execute(mo.getSolver(),
+                        i -> sb.updateUpperBound(1, Cause.Null),
+                        prop, sa);
+        // the compulsory part of b, [1,4), prevents a from starting before 4
+        Assert.assertEquals(lits.size(), 2);
+        Assert.assertEquals(lits.get(sa), new IntIterableRangeSet(4, 10));
+        Assert.assertEquals(lits.get(sb), new IntIterableRangeSet(3, 10));
+    }
+}
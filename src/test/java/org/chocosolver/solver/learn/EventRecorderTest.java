@@ -823,8 +823,8 @@ public class EventRecorderTest {
     public Object[][] rcpspP(){
         return new Object[][]{
                 {0, 1_380_772},
-                {1, 24191}, // 254s
-                {2, 24191},
+                {1, 150},
+                {2, 150},
         };
     }
 
@@ -21,6 +21,9 @@ import org.chocosolver.util.ProblemMaker;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
 import static java.util.Arrays.sort;
 import static org.chocosolver.solver.Cause.Null;
 import static org.chocosolver.solver.constraints.PropagatorPriority.UNARY;
@@ -209,4 +212,86 @@ public class PropEngineTest {
         solver.getEngine().clear();
         solver.reset(); // error (null)
     }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testCostBased() {
+        for (byte hybrid = 0b00; hybrid <= 0b10; hybrid++) {
+            int n = 8;
+            Model model = new Model(new DefaultSettings()
+                    .setCostBasedPropagation(true)
+                    .setHybridizationOfPropagationEngine(hybrid));
+            IntVar[] vars = model.intVarArray("Q", n, 1, n, false);
+            IntVar[] diag1 = new IntVar[n];
+            IntVar[] diag2 = new IntVar[n];
+            for (int i = 0; i < n; i++) {
+                diag1[i] = model.intOffsetView(vars[i], i);
+                diag2[i] = model.intOffsetView(vars[i], -i);
+            }
+            model.allDifferent(vars, "AC").post();
+            model.allDifferent(diag1, "BC").post();
+            for (int i = 0; i < n - 1; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    model.arithm(diag2[i], "!=", diag2[j]).post();
+                }
+            }
+            Assert.assertEquals(model.getSolver().findAllSolutions().size(), 92);
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testCostBasedQueues() {
+        Model model = new Model();
+        IntVar x = model.intVar("X", 1, 3, true);
+        IntVar y = model.intVar("Y", 1, 3, true);
+        Propagator p = model.arithm(x, ">=", y).getPropagator(0);
+        PropagatorCosts costs = new PropagatorCosts();
+        assertEquals(costs.queueOf(p), p.getPriority().priority);
+        costs.record(p, 10, 1, false);
+        assertEquals(costs.queueOf(p), 1);
+        for (int i = 0; i < 100; i++) {
+            costs.record(p, 1_000_000, 0, false);
+        }
+        assertEquals(costs.queueOf(p), 7);
+        for (int i = 0; i < 100; i++) {
+            costs.record(p, 1_000, 10, true);
+        }
+        Assert.assertTrue(costs.queueOf(p) < 3);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testProfiler() {
+        Model model = makeNQueenWithBinaryConstraints(8);
+        PropagationProfiler profiler = new PropagationProfiler();
+        model.getSolver().getEngine().setProfiler(profiler);
+        assertEquals(model.getSolver().findAllSolutions().size(), 92);
+        Assert.assertTrue(profiler.getNbFixpoints() > 0);
+        long calls = 0, fails = 0;
+        for (Propagator p : model.getCstrs()[0].getPropagators()) {
+            calls += profiler.getNbCalls(p);
+        }
+        for (Constraint c : model.getCstrs()) {
+            for (Propagator p : c.getPropagators()) {
+                fails += profiler.getNbFails(p);
+            }
+        }
+        Assert.assertTrue(calls > 0);
+        Assert.assertTrue(fails > 0 && fails <= model.getSolver().getFailCount());
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        profiler.writeCSV(new PrintStream(bos));
+        String[] lines = bos.toString().split("\n");
+        assertEquals(lines[0], "id;propagator;constraint;time(ns);calls;fails;reductions");
+        assertEquals(lines.length, model.getNbCstrs() + 1);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testShowProfile() {
+        Model model = makeNQueenWithBinaryConstraints(6);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        model.getSolver().setOut(new PrintStream(bos));
+        model.getSolver().showPropagationProfile();
+        model.getSolver().findAllSolutions();
+        Assert.assertTrue(bos.toString().contains("Propagation profile"));
+        model.getSolver().getEngine().setProfiler(null);
+        Assert.assertNull(model.getSolver().getEngine().getProfiler());
+    }
 }
@@ -17,6 +17,12 @@ import org.chocosolver.solver.variables.IntVar;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
 import static java.lang.Integer.parseInt;
 import static java.lang.Math.max;
 
@@ -38,6 +44,71 @@ public class ParetoTest {
         Assert.assertTrue(bestProfit1 > 60);
     }
 
+    @Test(groups="1s", timeOut=60000)
+    public void testFront() {
+        // compare with the front computed from all solutions, in 2 and 3 dimensions, maximizing and minimizing
+        for (int seed = 0; seed < 20; seed++) {
+            for (int k = 2; k <= 3; k++) {
+                boolean maximize = seed % 2 == 0;
+                Set<List<Integer>> expected = new HashSet<>();
+                List<List<Integer>> all = new ArrayList<>();
+                IntVar[] objectives = new IntVar[k];
+                Model model = randomModel(seed, objectives);
+                while (model.getSolver().solve()) {
+                    List<Integer> point = new ArrayList<>();
+                    for (IntVar o : objectives) {
+                        point.add(o.getValue());
+                    }
+                    all.add(point);
+                }
+                for (List<Integer> p : all) {
+                    boolean dominated = false;
+                    for (List<Integer> q : all) {
+                        boolean weak = true, strict = false;
+                        for (int i = 0; i < k; i++) {
+                            int d = maximize ? q.get(i) - p.get(i) : p.get(i) - q.get(i);
+                            weak &= d >= 0;
+                            strict |= d > 0;
+                        }
+                        dominated |= weak && strict;
+                    }
+                    if (!dominated) {
+                        expected.add(p);
+                    }
+                }
+                model = randomModel(seed, objectives);
+                List<Solution> front = model.getSolver().findParetoFront(objectives, maximize);
+                Set<List<Integer>> actual = new HashSet<>();
+                for (Solution sol : front) {
+                    List<Integer> point = new ArrayList<>();
+                    for (IntVar o : objectives) {
+                        point.add(sol.getIntVal(o));
+                    }
+                    actual.add(point);
+                }
+                Assert.assertEquals(front.size(), expected.size(), "seed " + seed);
+                Assert.assertEquals(actual, expected, "seed " + seed);
+            }
+        }
+    }
+
+    private static Model randomModel(int seed, IntVar[] objectives) {
+        Random rnd = new Random(seed);
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 3);
+        model.allDifferent(x).post();
+        for (int i = 0; i < objectives.length; i++) {
+            int[] coeffs = new int[x.length];
+            for (int j = 0; j < x.length; j++) {
+                coeffs[j] = rnd.nextInt(7) - 2;
+            }
+            objectives[i] = model.intVar("o" + i, -100, 100);
+            model.scalar(x, coeffs, "=", objectives[i]).post();
+        }
+        model.getSolver().setSearch(Search.inputOrderLBSearch(x));
+        return model;
+    }
+
     private void runKnapsackPareto(final int capacity, final String... items) {
         int[] nbItems = new int[items.length];
         int[] weights = new int[items.length];
@@ -15,7 +15,10 @@ import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
 import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.search.limits.FailCounter;
 import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMiddle;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMin;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainPhase;
 import org.chocosolver.solver.search.strategy.selectors.variables.*;
 import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
 import org.chocosolver.solver.search.strategy.strategy.LastConflict;
@@ -373,4 +376,42 @@ public class StrategyTest {
 			assertEquals(modelBound.getSolver().getBestSolutionValue().intValue(),model.getSolver().getBestSolutionValue().intValue());
 		}
     }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testPhaseSelectorIsComplete() {
+        for (boolean guided : new boolean[]{true, false}) {
+            Model model = new Model();
+            IntVar[] X = model.intVarArray("X", 4, 0, 3, false);
+            model.allDifferent(X).post();
+            IntDomainPhase phase = new IntDomainPhase(X, new IntDomainMin(), guided);
+            model.getSolver().setSearch(intVarSearch(new InputOrder<>(model), phase, X));
+            while (model.getSolver().solve()) ;
+            assertEquals(model.getSolver().getSolutionCount(), 24);
+            for (IntVar x : X) {
+                assertTrue(phase.hasPhase(x));
+            }
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testPhaseSaving() {
+        Model model = ProblemMaker.makeGolombRuler(8);
+        {
+            Solver s = model.getSolver();
+            s.setSearch(Search.defaultSearch(model));
+            while (s.solve()) ;
+        }
+        for (int learn = 0; learn < 2; learn++) {
+            Model modelPS = ProblemMaker.makeGolombRuler(8);
+            modelPS.getSettings().setEnablePhaseSaving(true);
+            Solver s = modelPS.getSolver();
+            s.setSearch(Search.defaultSearch(modelPS));
+            s.setLubyRestart(100, new FailCounter(modelPS, 0), 1000);
+            if (learn == 1) {
+                s.setLearningSignedClauses();
+            }
+            while (s.solve()) ;
+            assertEquals(s.getBestSolutionValue().intValue(), model.getSolver().getBestSolutionValue().intValue());
+        }
+    }
 }
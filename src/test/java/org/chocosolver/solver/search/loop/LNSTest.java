@@ -15,6 +15,7 @@ import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.search.limits.BacktrackCounter;
 import org.chocosolver.solver.search.loop.lns.INeighborFactory;
+import org.chocosolver.solver.search.loop.lns.neighbors.BanditNeighborhood;
 import org.chocosolver.solver.search.loop.lns.neighbors.INeighbor;
 import org.chocosolver.solver.search.loop.lns.neighbors.PropagationGuidedNeighborhood;
 import org.chocosolver.solver.search.loop.lns.neighbors.RandomNeighborhood;
@@ -89,6 +90,13 @@ public class LNSTest {
                 r.setNoGoodRecordingFromRestarts();
                 r.setLNS(new RandomNeighborhood(objects, 200, 123456L));
                 break;
+            case 6:
+                r.setLNS(new BanditNeighborhood(model, 123456L,
+                        new PropagationGuidedNeighborhood(objects, 100, 10, 123456L),
+                        new ReversePropagationGuidedNeighborhood(objects, 100, 10, 123456L),
+                        new RandomNeighborhood(objects, 200, 123456L)
+                ));
+                break;
         }
         model.setObjective(Model.MAXIMIZE, power);
         int bw = 0, bp = 0;
@@ -102,7 +110,7 @@ public class LNSTest {
 
     @DataProvider(name = "lns")
     public Object[][] createData() {
-        return new Object[][]{{0}, {1}, {2}, {3}, {4}, {5}};
+        return new Object[][]{{0}, {1}, {2}, {3}, {4}, {5}, {6}};
     }
 
 
@@ -305,4 +313,44 @@ public class LNSTest {
         Assert.assertEquals(solver.getObjectiveManager().getBestUB(), 318);
     }
 
+    @Test(groups = "1s", timeOut = 60000)
+    public void testAdaptiveLNS() {
+        int[] capacities = {99, 1101};
+        int[] volumes = {54, 12, 47, 33, 30, 65, 56, 57, 91, 88, 77, 99, 29, 23, 39, 86, 12, 85, 22, 64};
+        int[] energies = {38, 57, 69, 90, 79, 89, 28, 70, 38, 71, 46, 41, 49, 43, 36, 68, 92, 33, 84, 90};
+        Model model = new Model();
+        int nos = 20;
+        IntVar[] objects = new IntVar[nos];
+        for (int i = 0; i < nos; i++) {
+            objects[i] = model.intVar("o_" + (i + 1), 0, (int) ceil(capacities[1] / volumes[i]), true);
+        }
+        IntVar power = model.intVar("power", 0, 99999, true);
+        IntVar scalar = model.intVar("weight", capacities[0], capacities[1], true);
+        model.scalar(objects, volumes, "=", scalar).post();
+        model.scalar(objects, energies, "=", power).post();
+        model.knapsack(objects, scalar, power, volumes, energies).post();
+        model.setObjective(Model.MAXIMIZE, power);
+        Solver solver = model.getSolver();
+        solver.setSearch(lastConflict(domOverWDegSearch(objects)));
+        BanditNeighborhood neighbor = new BanditNeighborhood(model, 0L,
+                INeighborFactory.propagationGuided(objects),
+                INeighborFactory.reversedPropagationGuided(objects),
+                INeighborFactory.random(objects));
+        solver.setAdaptiveLNS(neighbor, new BacktrackCounter(model, 10));
+        solver.limitNode(20000);
+        int best = 0;
+        while (solver.solve()) {
+            Assert.assertTrue(power.getValue() > best);
+            best = power.getValue();
+        }
+        Assert.assertTrue(best > 0 && best <= 8372);
+        int runs = 0;
+        for (int i = 0; i < 3; i++) {
+            runs += neighbor.getNbRuns(i);
+            Assert.assertTrue(neighbor.getScore(i) >= 0d);
+        }
+        Assert.assertTrue(runs > 0);
+        Assert.assertTrue(((MoveLNS) solver.getMove()).getFrequency() >= 10);
+    }
+
 }
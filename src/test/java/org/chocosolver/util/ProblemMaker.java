@@ -9,10 +9,14 @@
 package org.chocosolver.util;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMiddle;
 import org.chocosolver.solver.search.strategy.selectors.variables.InputOrder;
 import org.chocosolver.solver.search.strategy.strategy.IntStrategy;
 import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+
+import java.util.Random;
 
 /**
  * A factory dedicated to problems creation.
@@ -193,4 +197,152 @@ public class ProblemMaker {
 
         return model;
     }
+
+    /**
+     * Creates a magic square problem of size n.
+     * The numbers from 1 to n<sup>2</sup> must be placed on a nxn square
+     * such that rows, columns and diagonals sum to the same value.
+     * The variables can be accessed though the hook name "vars".
+     * @param n size of the square
+     * @return a solve-ready solver
+     */
+    public static Model makeMagicSquare(int n) {
+        Model model = new Model("MagicSquare-" + n);
+        int ms = n * (n * n + 1) / 2;
+        IntVar[][] square = model.intVarMatrix("s", n, n, 1, n * n);
+        IntVar[] vars = new IntVar[n * n];
+        IntVar[] diag1 = new IntVar[n];
+        IntVar[] diag2 = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            IntVar[] col = new IntVar[n];
+            for (int j = 0; j < n; j++) {
+                vars[i * n + j] = square[i][j];
+                col[j] = square[j][i];
+            }
+            model.sum(square[i], "=", ms).post();
+            model.sum(col, "=", ms).post();
+            diag1[i] = square[i][i];
+            diag2[i] = square[i][n - 1 - i];
+        }
+        model.sum(diag1, "=", ms).post();
+        model.sum(diag2, "=", ms).post();
+        model.allDifferent(vars, "BC").post();
+        // symmetry-breaking
+        model.arithm(square[0][n - 1], "<", square[n - 1][0]).post();
+        model.arithm(square[0][0], "<", square[n - 1][n - 1]).post();
+        model.arithm(square[0][0], "<", square[n - 1][0]).post();
+        model.addHook("vars", vars);
+        return model;
+    }
+
+    /**
+     * Creates a random job-shop problem, where durations and machine orders are generated from <i>seed</i>.
+     * Each job is a sequence of tasks, one per machine, and each machine processes one task at a time.
+     * The makespan is minimized.
+     * The variables can be accessed though the hook name "starts" and "objective".
+     * @param jobs number of jobs
+     * @param machines number of machines
+     * @param seed seed for random generation
+     * @return a solve-ready solver
+     */
+    public static Model makeJobShop(int jobs, int machines, long seed) {
+        return makeJobShop(jobs, machines, seed, false);
+    }
+
+    /**
+     * Creates a random job-shop problem, where durations and machine orders are generated from <i>seed</i>.
+     * Each job is a sequence of tasks, one per machine, and each machine processes one task at a time.
+     * The makespan is minimized.
+     * The variables can be accessed though the hook name "starts" and "objective".
+     * @param jobs number of jobs
+     * @param machines number of machines
+     * @param seed seed for random generation
+     * @param disjunctive set to <tt>true</tt> to model machines with disjunctive constraints,
+     *                    to <tt>false</tt> to model them with cumulative constraints of capacity 1
+     * @return a solve-ready solver
+     */
+    public static Model makeJobShop(int jobs, int machines, long seed, boolean disjunctive) {
+        Random rnd = new Random(seed);
+        Model model = new Model("JobShop-" + jobs + "x" + machines);
+        int[][] durations = new int[jobs][machines];
+        int[][] orders = new int[jobs][machines];
+        int horizon = 0;
+        for (int j = 0; j < jobs; j++) {
+            for (int m = 0; m < machines; m++) {
+                durations[j][m] = 1 + rnd.nextInt(10);
+                horizon += durations[j][m];
+                orders[j][m] = m;
+            }
+            for (int m = machines - 1; m > 0; m--) {
+                int k = rnd.nextInt(m + 1);
+                int t = orders[j][m];
+                orders[j][m] = orders[j][k];
+                orders[j][k] = t;
+            }
+        }
+        IntVar makespan = model.intVar("makespan", 0, horizon, true);
+        IntVar[] starts = new IntVar[jobs * machines];
+        Task[][] tasks = new Task[machines][jobs];
+        IntVar[] ones = new IntVar[jobs];
+        for (int j = 0; j < jobs; j++) {
+            ones[j] = model.intVar(1);
+            IntVar prev = null;
+            int prevD = 0;
+            for (int k = 0; k < machines; k++) {
+                int m = orders[j][k];
+                int d = durations[j][m];
+                IntVar s = model.intVar("s_" + j + "_" + m, 0, horizon - d, true);
+                starts[j * machines + k] = s;
+                tasks[m][j] = model.taskVar(s, d);
+                if (prev != null) {
+                    model.arithm(s, "-", prev, ">=", prevD).post();
+                }
+                prev = s;
+                prevD = d;
+            }
+            model.arithm(makespan, "-", prev, ">=", prevD).post();
+        }
+        for (int m = 0; m < machines; m++) {
+            if (disjunctive) {
+                model.disjunctive(tasks[m]).post();
+            } else {
+                model.cumulative(tasks[m], ones, model.intVar(1)).post();
+            }
+        }
+        model.addHook("starts", starts);
+        model.addHook("objective", makespan);
+        model.setObjective(Model.MINIMIZE, makespan);
+        model.getSolver().setSearch(Search.inputOrderLBSearch(starts), Search.inputOrderLBSearch(makespan));
+        return model;
+    }
+
+    /**
+     * Creates a random 0-1 knapsack problem, where weights and values are generated from <i>seed</i>.
+     * The total value is maximized.
+     * The variables can be accessed though the hook name "items" and "objective".
+     * @param n number of items
+     * @param seed seed for random generation
+     * @return a solve-ready solver
+     */
+    public static Model makeKnapsack(int n, long seed) {
+        Random rnd = new Random(seed);
+        Model model = new Model("Knapsack-" + n);
+        int[] weights = new int[n];
+        int[] values = new int[n];
+        int sw = 0, sv = 0;
+        for (int i = 0; i < n; i++) {
+            weights[i] = 10 + rnd.nextInt(90);
+            values[i] = weights[i] + rnd.nextInt(20);
+            sw += weights[i];
+            sv += values[i];
+        }
+        IntVar[] items = model.boolVarArray("i", n);
+        IntVar weight = model.intVar("weight", 0, sw / 2, true);
+        IntVar value = model.intVar("value", 0, sv, true);
+        model.knapsack(items, weight, value, weights, values).post();
+        model.addHook("items", items);
+        model.addHook("objective", value);
+        model.setObjective(Model.MAXIMIZE, value);
+        return model;
+    }
 }